@@ -0,0 +1,143 @@
+package dev.morphia.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.config.ManualMorphiaConfig;
+import dev.morphia.config.MorphiaConfig;
+import dev.morphia.mapping.AccessorStrategy;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.PropertyDiscovery;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares reading and writing every property of an entity with each {@link AccessorStrategy}, for both field and getter/setter
+ * discovery.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorBenchmark {
+    @Param({ "REFLECTION", "GENERATED" })
+    private AccessorStrategy strategy;
+
+    @Param({ "FIELDS", "METHODS" })
+    private PropertyDiscovery discovery;
+
+    private List<PropertyModel> properties;
+    private Account account;
+    private Object[] values;
+
+    @Setup
+    public void setup() {
+        MorphiaConfig config = new ManualMorphiaConfig()
+                .accessorStrategy(strategy)
+                .propertyDiscovery(discovery);
+        properties = new Mapper(config).getEntityModel(Account.class).getProperties();
+        account = new Account();
+        values = new Object[properties.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = sample(properties.get(i));
+            properties.get(i).setValue(account, values[i]);
+        }
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        for (PropertyModel property : properties) {
+            blackhole.consume(property.getValue(account));
+        }
+    }
+
+    @Benchmark
+    public Object set() {
+        for (int i = 0; i < values.length; i++) {
+            properties.get(i).setValue(account, values[i]);
+        }
+        return account;
+    }
+
+    private static Object sample(PropertyModel property) {
+        Class<?> type = property.getType();
+        if (type.equals(ObjectId.class)) {
+            return new ObjectId();
+        } else if (type.equals(String.class)) {
+            return property.getName();
+        } else if (type.equals(long.class)) {
+            return 42L;
+        } else if (type.equals(double.class)) {
+            return 42.0;
+        } else {
+            return 42;
+        }
+    }
+
+    @Entity
+    private static class Account {
+        @Id
+        private ObjectId id;
+        private String owner;
+        private int transactions;
+        private long openedAt;
+        private double balance;
+
+        public ObjectId getId() {
+            return id;
+        }
+
+        public void setId(ObjectId id) {
+            this.id = id;
+        }
+
+        public String getOwner() {
+            return owner;
+        }
+
+        public void setOwner(String owner) {
+            this.owner = owner;
+        }
+
+        public int getTransactions() {
+            return transactions;
+        }
+
+        public void setTransactions(int transactions) {
+            this.transactions = transactions;
+        }
+
+        public long getOpenedAt() {
+            return openedAt;
+        }
+
+        public void setOpenedAt(long openedAt) {
+            this.openedAt = openedAt;
+        }
+
+        public double getBalance() {
+            return balance;
+        }
+
+        public void setBalance(double balance) {
+            this.balance = balance;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package dev.morphia.benchmarks;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.Conversions;
+import dev.morphia.mapping.codec.MorphiaInstanceCreator;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.internal.ConstructorCreator;
+import dev.morphia.sofia.Sofia;
+
+/**
+ * A copy of {@link ConstructorCreator} as it was before its constructor plans were cached on the model. Every instance inspects the
+ * constructor's parameters, checks each name against a regex and builds a map of lambdas to set them. This is only kept to measure
+ * against in {@link ConstructorCreatorBenchmark}.
+ */
+class BaselineConstructorCreator implements MorphiaInstanceCreator {
+    private final Object[] parameters;
+    private final Constructor<?> constructor;
+    private final EntityModel model;
+    private final Map<String, BiFunction<Object[], Object, Void>> positions = new LinkedHashMap<>();
+    private final List<Consumer<Object>> setFunctions = new ArrayList<>();
+    private Object instance;
+
+    BaselineConstructorCreator(EntityModel model, Constructor<?> constructor) {
+        this.model = model;
+        this.constructor = constructor;
+        this.constructor.setAccessible(true);
+
+        final Parameter[] constructorParameters = this.constructor.getParameters();
+        this.parameters = new Object[constructorParameters.length];
+        for (int i = 0; i < constructorParameters.length; i++) {
+            final Parameter parameter = constructorParameters[i];
+            parameters[i] = zeroValue(parameter);
+            final int finalI = i;
+            String name = ConstructorCreator.getParameterName(parameter);
+            if (name.matches("arg[0-9]+")) {
+                throw new MappingException(Sofia.unnamedConstructorParameter(model.getType().getName()));
+            }
+            BiFunction<Object[], Object, Void> old = positions.put(name, (Object[] params, Object v) -> {
+                params[finalI] = Conversions.convert(v, parameter.getType());
+                return null;
+            });
+
+            if (old != null) {
+                throw new MappingException(Sofia.duplicatedParameterName(model.getType().getName(), name));
+            }
+        }
+    }
+
+    @Override
+    public Object getInstance() {
+        if (instance == null) {
+            try {
+                instance = constructor.newInstance(parameters);
+                setFunctions.forEach(function -> function.accept(instance));
+            } catch (Exception e) {
+                throw new MappingException(Sofia.cannotInstantiate(model.getType().getName(), e.getMessage()), e);
+            }
+        }
+        return instance;
+    }
+
+    @Override
+    public void set(@Nullable Object value, PropertyModel model) {
+        if (instance != null) {
+            model.setValue(instance, value);
+        } else {
+            BiFunction<Object[], Object, Void> function = positions.get(model.getName());
+            if (function != null) {
+                function.apply(parameters, value);
+            }
+            setFunctions.add((instance) -> {
+                model.setValue(instance, value);
+            });
+        }
+    }
+
+    @Nullable
+    private Object zeroValue(Parameter parameter) {
+        if (!parameter.getType().isPrimitive()) {
+            return null;
+        } else if (parameter.getType().equals(boolean.class)) {
+            return false;
+        } else {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package dev.morphia.benchmarks;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.config.ManualMorphiaConfig;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.MorphiaInstanceCreator;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.internal.ConstructorCreator;
+import dev.morphia.mapping.internal.ConstructorPlan;
+
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the original {@link ConstructorCreator}, kept as {@link BaselineConstructorCreator}, with building a {@link ConstructorPlan}
+ * on every decode and with reusing the plan cached on the model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructorCreatorBenchmark {
+    private EntityModel model;
+    private Constructor<?> constructor;
+    private ConstructorPlan plan;
+    private List<PropertyModel> properties;
+    private Object[] values;
+
+    @Setup
+    public void setup() {
+        Mapper mapper = new Mapper(new ManualMorphiaConfig());
+        model = mapper.getEntityModel(Invoice.class);
+        constructor = ConstructorCreator.bestConstructor(model);
+        plan = new ConstructorPlan(model, constructor);
+        properties = model.getProperties();
+        values = new Object[properties.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = sample(properties.get(i));
+        }
+    }
+
+    @Benchmark
+    public Object baseline() {
+        return populate(new BaselineConstructorCreator(model, constructor));
+    }
+
+    @Benchmark
+    public Object cachedPlan() {
+        return populate(new ConstructorCreator(plan));
+    }
+
+    @Benchmark
+    public Object planPerDecode() {
+        return populate(new ConstructorCreator(model, constructor));
+    }
+
+    private Object populate(MorphiaInstanceCreator creator) {
+        for (int i = 0; i < values.length; i++) {
+            creator.set(values[i], properties.get(i));
+        }
+        return creator.getInstance();
+    }
+
+    private static Object sample(PropertyModel property) {
+        Class<?> type = property.getType();
+        if (type.equals(ObjectId.class)) {
+            return new ObjectId();
+        } else if (type.equals(String.class)) {
+            return property.getName();
+        } else if (type.equals(long.class)) {
+            return 42L;
+        } else if (type.equals(double.class)) {
+            return 42.0;
+        } else {
+            return 42;
+        }
+    }
+
+    @Entity
+    private static class Invoice {
+        @Id
+        private final ObjectId id;
+        private final String customer;
+        private final String street;
+        private final String city;
+        private final String postalCode;
+        private final int lineItems;
+        private final long placedAt;
+        private final double total;
+
+        Invoice(ObjectId id, String customer, String street, String city, String postalCode, int lineItems, long placedAt,
+                double total) {
+            this.id = id;
+            this.customer = customer;
+            this.street = street;
+            this.city = city;
+            this.postalCode = postalCode;
+            this.lineItems = lineItems;
+            this.placedAt = placedAt;
+            this.total = total;
+        }
+    }
+}
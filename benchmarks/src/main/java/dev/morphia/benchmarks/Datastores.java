@@ -0,0 +1,40 @@
+package dev.morphia.benchmarks;
+
+import java.util.List;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import dev.morphia.Morphia;
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.benchmarks.models.Flat;
+import dev.morphia.config.ManualMorphiaConfig;
+import dev.morphia.config.MorphiaConfig;
+
+/**
+ * Builds the datastores shared by the benchmarks. The client never reaches a server: it only supplies the database and collection
+ * handles that queries and aggregations are built against, so every benchmark runs entirely on in-memory BSON.
+ */
+final class Datastores {
+    /**
+     * The package holding every model used by the benchmarks.
+     */
+    static final String MODELS = Flat.class.getPackageName();
+
+    private Datastores() {
+    }
+
+    static MorphiaConfig config() {
+        return new ManualMorphiaConfig()
+                .database("morphia_benchmarks")
+                .packages(List.of(MODELS));
+    }
+
+    static MongoClient client() {
+        return MongoClients.create("mongodb://localhost:27017/?serverSelectionTimeoutMS=1");
+    }
+
+    static MorphiaDatastore create(MongoClient client) {
+        return (MorphiaDatastore) Morphia.createDatastore(client, config());
+    }
+}
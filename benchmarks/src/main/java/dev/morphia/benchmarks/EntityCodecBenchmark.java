@@ -0,0 +1,99 @@
+package dev.morphia.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.client.MongoClient;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.benchmarks.models.Audited;
+import dev.morphia.benchmarks.models.Book;
+import dev.morphia.benchmarks.models.Customer;
+import dev.morphia.benchmarks.models.Flat;
+import dev.morphia.benchmarks.models.Shape;
+import dev.morphia.benchmarks.models.Square;
+import dev.morphia.mapping.codec.pojo.EntityDecoder;
+import dev.morphia.mapping.codec.pojo.EntityEncoder;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link EntityEncoder} and {@link EntityDecoder} round trip through in-memory BSON buffers. Polymorphic documents are
+ * decoded through the codec of the root type so the discriminator has to be resolved on every decode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class EntityCodecBenchmark {
+    private static final EncoderContext ENCODING = EncoderContext.builder().build();
+    private static final DecoderContext DECODING = DecoderContext.builder().build();
+
+    @Param({ "flat", "deep", "polymorphic", "references", "lifecycle" })
+    public String model;
+
+    private MongoClient client;
+    private Object entity;
+    private Codec encoder;
+    private Codec decoder;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() {
+        client = Datastores.client();
+        MorphiaDatastore datastore = Datastores.create(client);
+        entity = switch (model) {
+            case "flat" -> Flat.sample();
+            case "deep" -> Customer.sample();
+            case "polymorphic" -> Square.sample();
+            case "references" -> Book.sample();
+            case "lifecycle" -> Audited.sample();
+            default -> throw new IllegalArgumentException(model);
+        };
+        encoder = datastore.getCodecRegistry().get(entity.getClass());
+        decoder = entity instanceof Shape
+                ? datastore.getCodecRegistry().get(Shape.class)
+                : encoder;
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        encoder.encode(new BsonBinaryWriter(buffer), entity, ENCODING);
+        encoded = buffer.toByteArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public int encode() {
+        try (BasicOutputBuffer buffer = new BasicOutputBuffer(encoded.length)) {
+            encoder.encode(new BsonBinaryWriter(buffer), entity, ENCODING);
+            return buffer.getSize();
+        }
+    }
+
+    @Benchmark
+    public Object decode() {
+        return decoder.decode(new BsonBinaryReader(ByteBuffer.wrap(encoded)), DECODING);
+    }
+}
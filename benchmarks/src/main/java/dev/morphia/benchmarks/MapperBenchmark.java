@@ -0,0 +1,69 @@
+package dev.morphia.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.MongoClientSettings;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.benchmarks.models.Address;
+import dev.morphia.benchmarks.models.Audited;
+import dev.morphia.benchmarks.models.Author;
+import dev.morphia.benchmarks.models.Book;
+import dev.morphia.benchmarks.models.Circle;
+import dev.morphia.benchmarks.models.Customer;
+import dev.morphia.benchmarks.models.Flat;
+import dev.morphia.benchmarks.models.Location;
+import dev.morphia.benchmarks.models.Rectangle;
+import dev.morphia.benchmarks.models.Shape;
+import dev.morphia.benchmarks.models.Square;
+import dev.morphia.config.ManualMorphiaConfig;
+import dev.morphia.mapping.Mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures mapper startup: building the models for a number of entities and creating a datastore which scans a package for them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private static final List<Class<?>> MODELS = List.of(Flat.class, Customer.class, Address.class, Location.class, Shape.class,
+            Circle.class, Rectangle.class, Square.class, Book.class, Author.class, Audited.class);
+
+    @Benchmark
+    public Mapper mapEntities(Entities entities) {
+        Mapper mapper = new Mapper(new ManualMorphiaConfig());
+        for (Class<?> type : MODELS.subList(0, entities.count)) {
+            mapper.getEntityModel(type);
+        }
+        return mapper;
+    }
+
+    @Benchmark
+    public MorphiaDatastore scanPackage() {
+        return new MorphiaDatastore(MongoClientSettings.getDefaultCodecRegistry(), Datastores.config());
+    }
+
+    /**
+     * The number of entities to map. This only applies to {@link #mapEntities(Entities)} as package scanning always finds all of them.
+     */
+    @State(Scope.Benchmark)
+    public static class Entities {
+        @Param({ "1", "6", "11" })
+        public int count;
+    }
+}
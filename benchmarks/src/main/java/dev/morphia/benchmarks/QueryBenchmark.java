@@ -0,0 +1,124 @@
+package dev.morphia.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.client.MongoClient;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.aggregation.AggregationImpl;
+import dev.morphia.benchmarks.models.Customer;
+import dev.morphia.benchmarks.models.Flat;
+import dev.morphia.benchmarks.models.Shape;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.query.MorphiaQuery;
+import dev.morphia.query.Operations;
+import dev.morphia.query.updates.UpdateOperator;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static dev.morphia.aggregation.expressions.AccumulatorExpressions.avg;
+import static dev.morphia.aggregation.expressions.AccumulatorExpressions.sum;
+import static dev.morphia.aggregation.expressions.Expressions.value;
+import static dev.morphia.aggregation.stages.Group.group;
+import static dev.morphia.aggregation.stages.Group.id;
+import static dev.morphia.aggregation.stages.Limit.limit;
+import static dev.morphia.aggregation.stages.Match.match;
+import static dev.morphia.aggregation.stages.Sort.sort;
+import static dev.morphia.query.filters.Filters.elemMatch;
+import static dev.morphia.query.filters.Filters.eq;
+import static dev.morphia.query.filters.Filters.exists;
+import static dev.morphia.query.filters.Filters.gt;
+import static dev.morphia.query.filters.Filters.in;
+import static dev.morphia.query.filters.Filters.lte;
+import static dev.morphia.query.filters.Filters.or;
+import static dev.morphia.query.updates.UpdateOperators.inc;
+import static dev.morphia.query.updates.UpdateOperators.max;
+import static dev.morphia.query.updates.UpdateOperators.push;
+import static dev.morphia.query.updates.UpdateOperators.set;
+import static dev.morphia.query.updates.UpdateOperators.unset;
+
+/**
+ * Measures building the documents sent to the server for queries, updates and aggregations. Nothing is sent so no server is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryBenchmark {
+    private MongoClient client;
+    private MorphiaDatastore datastore;
+    private EntityModel model;
+    private List<UpdateOperator> updates;
+    private AggregationImpl<Flat> aggregation;
+
+    @Setup
+    public void setup() {
+        client = Datastores.client();
+        datastore = Datastores.create(client);
+        model = datastore.getMapper().getEntityModel(Flat.class);
+        updates = List.of(set("name", "updated"), inc("count"), max("total", 100L), push("tags", "yellow"), unset("ratio"));
+        aggregation = new AggregationImpl<>(datastore, Flat.class, datastore.getCollection(Flat.class));
+        aggregation.pipeline(
+                match(eq("active", true), gt("count", 10)),
+                group(id("$name"))
+                        .field("count", sum(value(1)))
+                        .field("ratio", avg("$ratio")),
+                sort().descending("count"),
+                limit(10));
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public Document filterDocument() {
+        MorphiaQuery<Flat> query = (MorphiaQuery<Flat>) datastore.find(Flat.class)
+                .filter(eq("name", "flat"),
+                        gt("count", 10),
+                        lte("ratio", 0.5),
+                        in("tags", List.of("red", "blue")),
+                        or(exists("created"), eq("active", true)));
+        return query.toDocument();
+    }
+
+    @Benchmark
+    public Document embeddedFilterDocument() {
+        MorphiaQuery<Customer> query = (MorphiaQuery<Customer>) datastore.find(Customer.class)
+                .filter(eq("billing.location.latitude", 40.7),
+                        elemMatch("shipping", eq("city", "city"), eq("postalCode", "12345")));
+        return query.toDocument();
+    }
+
+    @Benchmark
+    public Document polymorphicFilterDocument() {
+        MorphiaQuery<Shape> query = (MorphiaQuery<Shape>) datastore.find(Shape.class)
+                .filter(eq("color", "red"));
+        return query.toDocument();
+    }
+
+    @Benchmark
+    public Document updateDocument() {
+        return new Operations(model, updates, true).toDocument(datastore);
+    }
+
+    @Benchmark
+    public List<Document> pipeline() {
+        return aggregation.pipeline();
+    }
+}
@@ -0,0 +1,25 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+
+/**
+ * An embedded type which itself embeds a {@link Location}.
+ */
+@Entity
+public class Address {
+    public String street;
+    public String city;
+    public String postalCode;
+    public Location location;
+
+    public static Address sample(String street) {
+        Address address = new Address();
+        address.street = street;
+        address.city = "city";
+        address.postalCode = "12345";
+        address.location = new Location();
+        address.location.latitude = 40.7;
+        address.location.longitude = -74.0;
+        return address;
+    }
+}
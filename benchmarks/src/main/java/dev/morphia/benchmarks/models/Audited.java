@@ -0,0 +1,37 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.PostLoad;
+import dev.morphia.annotations.PrePersist;
+
+import org.bson.types.ObjectId;
+
+/**
+ * An entity with lifecycle methods so that it is encoded and decoded through the lifecycle codecs.
+ */
+@Entity("audited")
+public class Audited {
+    @Id
+    public ObjectId id;
+    public String name;
+    public long updated;
+    public transient boolean loaded;
+
+    public static Audited sample() {
+        Audited audited = new Audited();
+        audited.id = new ObjectId();
+        audited.name = "audited";
+        return audited;
+    }
+
+    @PrePersist
+    public void touch() {
+        updated = 42;
+    }
+
+    @PostLoad
+    public void loaded() {
+        loaded = true;
+    }
+}
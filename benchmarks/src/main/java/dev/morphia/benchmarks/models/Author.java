@@ -0,0 +1,23 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+
+import org.bson.types.ObjectId;
+
+/**
+ * The target of the references held by a {@link Book}.
+ */
+@Entity("authors")
+public class Author {
+    @Id
+    public ObjectId id;
+    public String name;
+
+    public static Author sample(String name) {
+        Author author = new Author();
+        author.id = new ObjectId();
+        author.name = name;
+        return author;
+    }
+}
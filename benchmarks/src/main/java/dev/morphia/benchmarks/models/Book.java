@@ -0,0 +1,32 @@
+package dev.morphia.benchmarks.models;
+
+import java.util.List;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Reference;
+
+import org.bson.types.ObjectId;
+
+/**
+ * An entity with references. They are lazy so decoding never needs a server to resolve them.
+ */
+@Entity("books")
+public class Book {
+    @Id
+    public ObjectId id;
+    public String title;
+    @Reference(lazy = true)
+    public Author author;
+    @Reference(lazy = true)
+    public List<Author> editors;
+
+    public static Book sample() {
+        Book book = new Book();
+        book.id = new ObjectId();
+        book.title = "book";
+        book.author = Author.sample("author");
+        book.editors = List.of(Author.sample("first"), Author.sample("second"), Author.sample("third"));
+        return book;
+    }
+}
@@ -0,0 +1,11 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+
+/**
+ * A {@link Shape} subtype.
+ */
+@Entity("shapes")
+public class Circle extends Shape {
+    public double radius;
+}
@@ -0,0 +1,32 @@
+package dev.morphia.benchmarks.models;
+
+import java.util.List;
+import java.util.Map;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+
+import org.bson.types.ObjectId;
+
+/**
+ * An entity embedding several levels of other types.
+ */
+@Entity("customers")
+public class Customer {
+    @Id
+    public ObjectId id;
+    public String name;
+    public Address billing;
+    public List<Address> shipping;
+    public Map<String, Address> offices;
+
+    public static Customer sample() {
+        Customer customer = new Customer();
+        customer.id = new ObjectId();
+        customer.name = "customer";
+        customer.billing = Address.sample("billing");
+        customer.shipping = List.of(Address.sample("home"), Address.sample("work"), Address.sample("cabin"));
+        customer.offices = Map.of("east", Address.sample("east"), "west", Address.sample("west"));
+        return customer;
+    }
+}
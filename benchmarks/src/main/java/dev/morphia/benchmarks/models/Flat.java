@@ -0,0 +1,38 @@
+package dev.morphia.benchmarks.models;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+
+import org.bson.types.ObjectId;
+
+/**
+ * An entity with only scalar properties and a list of strings.
+ */
+@Entity("flat")
+public class Flat {
+    @Id
+    public ObjectId id;
+    public String name;
+    public int count;
+    public long total;
+    public double ratio;
+    public boolean active;
+    public LocalDateTime created;
+    public List<String> tags;
+
+    public static Flat sample() {
+        Flat flat = new Flat();
+        flat.id = new ObjectId();
+        flat.name = "flat";
+        flat.count = 42;
+        flat.total = 42_000_000L;
+        flat.ratio = 0.42;
+        flat.active = true;
+        flat.created = LocalDateTime.of(2024, 1, 1, 12, 0);
+        flat.tags = List.of("red", "green", "blue", "cyan", "magenta");
+        return flat;
+    }
+}
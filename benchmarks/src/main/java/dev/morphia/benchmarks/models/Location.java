@@ -0,0 +1,12 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+
+/**
+ * The innermost embedded type of a {@link Customer}.
+ */
+@Entity
+public class Location {
+    public double latitude;
+    public double longitude;
+}
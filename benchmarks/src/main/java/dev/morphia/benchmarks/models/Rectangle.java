@@ -0,0 +1,12 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+
+/**
+ * A {@link Shape} subtype which has its own subtype.
+ */
+@Entity("shapes")
+public class Rectangle extends Shape {
+    public double width;
+    public double height;
+}
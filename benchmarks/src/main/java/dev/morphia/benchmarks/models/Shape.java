@@ -0,0 +1,16 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+
+import org.bson.types.ObjectId;
+
+/**
+ * The root of a hierarchy stored in one collection and told apart by discriminator.
+ */
+@Entity("shapes")
+public abstract class Shape {
+    @Id
+    public ObjectId id;
+    public String color;
+}
@@ -0,0 +1,20 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+
+import org.bson.types.ObjectId;
+
+/**
+ * The deepest {@link Shape} subtype.
+ */
+@Entity("shapes")
+public class Square extends Rectangle {
+    public static Square sample() {
+        Square square = new Square();
+        square.id = new ObjectId();
+        square.color = "red";
+        square.width = 4;
+        square.height = 4;
+        return square;
+    }
+}
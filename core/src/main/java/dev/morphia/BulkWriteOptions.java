@@ -0,0 +1,141 @@
+package dev.morphia;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.internal.WriteConfigurable;
+
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+
+/**
+ * Options related to bulk writes. The setter methods return {@code this} so that a chaining style can be used.
+ *
+ * @see Datastore#bulkWrite(java.util.List, BulkWriteOptions)
+ * @since 3.0
+ */
+public class BulkWriteOptions implements WriteConfigurable<BulkWriteOptions> {
+    private com.mongodb.client.model.BulkWriteOptions options = new com.mongodb.client.model.BulkWriteOptions();
+    private WriteConcern writeConcern = WriteConcern.ACKNOWLEDGED;
+
+    /**
+     * Creates a new options wrapper
+     */
+    public BulkWriteOptions() {
+    }
+
+    /**
+     * @param that the options to copy
+     * @morphia.internal
+     * @hidden
+     */
+    @MorphiaInternal
+    public BulkWriteOptions(BulkWriteOptions that) {
+        this.options = that.options;
+        this.writeConcern = that.writeConcern;
+    }
+
+    /**
+     * Sets whether to bypass document validation.
+     *
+     * @param bypassDocumentValidation whether to bypass document validation, or null if unspecified
+     * @return this
+     */
+    public BulkWriteOptions bypassDocumentValidation(@Nullable Boolean bypassDocumentValidation) {
+        options.bypassDocumentValidation(bypassDocumentValidation);
+        return this;
+    }
+
+    /**
+     * Gets whether to bypass document validation, or null if unspecified. The default is null.
+     *
+     * @return whether to bypass document validation, or null if unspecified.
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    @Nullable
+    public Boolean bypassDocumentValidation() {
+        return options.getBypassDocumentValidation();
+    }
+
+    /**
+     * @param comment the comment
+     * @return this
+     * @see com.mongodb.client.model.BulkWriteOptions#comment(String)
+     */
+    public BulkWriteOptions comment(String comment) {
+        options.comment(comment);
+        return this;
+    }
+
+    /**
+     * @param comment the comment
+     * @return this
+     * @see com.mongodb.client.model.BulkWriteOptions#comment(BsonValue)
+     */
+    public BulkWriteOptions comment(BsonValue comment) {
+        options.comment(comment);
+        return this;
+    }
+
+    /**
+     * @return the driver version of this instance
+     * @morphia.internal
+     * @hidden
+     */
+    @MorphiaInternal
+    public com.mongodb.client.model.BulkWriteOptions driver() {
+        return options;
+    }
+
+    /**
+     * @param variables the variables
+     * @return this
+     * @see com.mongodb.client.model.BulkWriteOptions#let(Bson)
+     */
+    public BulkWriteOptions let(Bson variables) {
+        options.let(variables);
+        return this;
+    }
+
+    /**
+     * Sets whether the writes should be applied in the order given. If true, the first failure stops any further writes including
+     * those bound for other collections. If false, every write is attempted and all the failures are reported. The default is true.
+     *
+     * @param ordered true if the writes should be applied in order
+     * @return this
+     */
+    public BulkWriteOptions ordered(boolean ordered) {
+        options.ordered(ordered);
+        return this;
+    }
+
+    /**
+     * @return true if the writes should be applied in order
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public boolean ordered() {
+        return options.isOrdered();
+    }
+
+    @Override
+    public BulkWriteOptions writeConcern(@Nullable WriteConcern writeConcern) {
+        this.writeConcern = writeConcern;
+        return this;
+    }
+
+    /**
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    @Override
+    @Nullable
+    public WriteConcern writeConcern() {
+        return writeConcern;
+    }
+}
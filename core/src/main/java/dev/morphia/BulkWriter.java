@@ -0,0 +1,398 @@
+package dev.morphia;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore.VersionBumpInfo;
+import dev.morphia.bulk.BulkWriteException;
+import dev.morphia.bulk.BulkWriteResult;
+import dev.morphia.bulk.DeleteRequest;
+import dev.morphia.bulk.InsertRequest;
+import dev.morphia.bulk.ReplaceRequest;
+import dev.morphia.bulk.UpdateRequest;
+import dev.morphia.bulk.WriteFailure;
+import dev.morphia.bulk.WriteRequest;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.query.MorphiaQuery;
+import dev.morphia.query.Operations;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWrapper;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.conversions.Bson;
+
+/**
+ * Translates {@link WriteRequest}s in to driver {@link WriteModel}s and applies them with as few {@code bulkWrite}s per collection as
+ * the ordering allows. Entities are wrapped rather than encoded up front so each is encoded, and its lifecycle methods run, only once as
+ * the command is written. Versioned replacements are sent apart from the other requests so that their matched count shows whether any
+ * stored version had changed. Only when fewer were matched than sent is the collection queried to find which of them were stale.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+class BulkWriter {
+    private static final int STALE_QUERY_SIZE = 1000;
+
+    private final MorphiaDatastore datastore;
+    private final BulkWriteOptions options;
+    private final Map<MongoNamespace, Batch> batches = new LinkedHashMap<>();
+
+    BulkWriter(MorphiaDatastore datastore, BulkWriteOptions options) {
+        this.datastore = datastore;
+        this.options = options;
+    }
+
+    BulkWriteResult write(List<? extends WriteRequest<?>> requests) {
+        try {
+            for (WriteRequest<?> request : requests) {
+                add(request);
+            }
+        } catch (RuntimeException e) {
+            batches.values().forEach(batch -> batch.skip(0));
+            throw e;
+        }
+        BulkWriteResult result = new BulkWriteResult();
+        List<WriteFailure> failures = new ArrayList<>();
+        for (Batch batch : batches.values()) {
+            if (options.ordered() && !failures.isEmpty()) {
+                batch.skip(0);
+            } else {
+                batch.execute(result, failures);
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new BulkWriteException(result, failures);
+        }
+        return result;
+    }
+
+    private void add(WriteRequest<?> request) {
+        if (request instanceof InsertRequest) {
+            insert((InsertRequest<?>) request);
+        } else if (request instanceof ReplaceRequest) {
+            replace((ReplaceRequest<?>) request);
+        } else if (request instanceof UpdateRequest) {
+            update((UpdateRequest<?>) request);
+        } else {
+            delete((DeleteRequest<?>) request);
+        }
+    }
+
+    private void insert(InsertRequest<?> request) {
+        Object entity = request.entity();
+        Codec codec = datastore.getCodecRegistry().get(entity.getClass());
+        if (codec instanceof CollectibleCodec) {
+            ((CollectibleCodec) codec).generateIdIfAbsentFromDocument(entity);
+        }
+        VersionBumpInfo info = datastore.updateVersioning(entity);
+        batch(datastore.getCollection(entity.getClass()))
+                .add(new Pending(request, new InsertOneModel<>(wrap(entity, codec)), info, null));
+    }
+
+    private void replace(ReplaceRequest<?> request) {
+        Object entity = request.entity();
+        EntityModel model = datastore.getMapper().getEntityModel(entity.getClass());
+        Document filter = entityFilter(model, entity);
+        VersionBumpInfo info = datastore.updateVersioning(entity);
+        Document replaced = null;
+        if (info.versioned()) {
+            replaced = new Document(filter).append(model.getVersionProperty().getMappedName(), info.newVersion());
+        }
+        info.filter(filter);
+
+        com.mongodb.client.model.ReplaceOptions replaceOptions = new com.mongodb.client.model.ReplaceOptions()
+                .upsert(request.isUpsert() && !info.versioned());
+        Codec codec = datastore.getCodecRegistry().get(entity.getClass());
+        batch(datastore.getCollection(entity.getClass()))
+                .add(new Pending(request, new ReplaceOneModel<>(filter, wrap(entity, codec), replaceOptions), info, replaced));
+    }
+
+    private void update(UpdateRequest<?> request) {
+        MorphiaQuery<?> query = (MorphiaQuery<?>) request.query();
+        EntityModel model = datastore.getMapper().getEntityModel(query.getEntityClass());
+        Document update = new Operations(model, request.updates(), query.isValidate())
+                .toDocument(datastore);
+        Document filter = query.toDocument();
+        if (request.isUpsert() && model.useDiscriminator()) {
+            filter.put(model.discriminatorKey(), model.discriminator());
+        }
+
+        com.mongodb.client.model.UpdateOptions updateOptions = new com.mongodb.client.model.UpdateOptions()
+                .upsert(request.isUpsert());
+        WriteModel<BsonDocument> writeModel = request.isMulti()
+                ? new UpdateManyModel<>(filter, update, updateOptions)
+                : new UpdateOneModel<>(filter, update, updateOptions);
+        batch(query.getCollection()).add(new Pending(request, writeModel, null, null));
+    }
+
+    private void delete(DeleteRequest<?> request) {
+        MorphiaQuery<?> query = (MorphiaQuery<?>) request.query();
+        if (query != null) {
+            Document filter = query.toDocument();
+            WriteModel<BsonDocument> writeModel = request.isMulti()
+                    ? new DeleteManyModel<>(filter)
+                    : new DeleteOneModel<>(filter);
+            batch(query.getCollection()).add(new Pending(request, writeModel, null, null));
+        } else {
+            Object entity = request.entity();
+            EntityModel model = datastore.getMapper().getEntityModel(entity.getClass());
+            batch(datastore.getCollection(entity.getClass()))
+                    .add(new Pending(request, new DeleteOneModel<>(entityFilter(model, entity)), null, null));
+        }
+    }
+
+    private Batch batch(MongoCollection<?> collection) {
+        return batches.computeIfAbsent(collection.getNamespace(), namespace -> new Batch(collection));
+    }
+
+    private Document entityFilter(EntityModel model, Object entity) {
+        PropertyModel idProperty = model.getIdProperty();
+        Object id = idProperty != null ? idProperty.getValue(entity) : null;
+        if (id == null) {
+            throw new MissingIdException();
+        }
+        Document filter = new Document("_id", id);
+        model.getShardKeys().forEach((property) -> {
+            filter.put(property.getMappedName(), property.getValue(entity));
+        });
+        return filter;
+    }
+
+    private static BsonDocument wrap(Object entity, Codec codec) {
+        return new BsonDocumentWrapper<>(entity, codec);
+    }
+
+    private class Batch {
+        private final MongoCollection<BsonDocument> collection;
+        private final List<Pending> pending = new ArrayList<>();
+
+        Batch(MongoCollection<?> collection) {
+            this.collection = datastore.configureCollection(options, collection)
+                    .withDocumentClass(BsonDocument.class);
+        }
+
+        void add(Pending request) {
+            pending.add(request);
+        }
+
+        void execute(BulkWriteResult result, List<WriteFailure> failures) {
+            Totals totals = new Totals();
+            for (List<Integer> segment : segments()) {
+                if (!write(segment, totals, failures)) {
+                    break;
+                }
+            }
+            result.add(collection.getNamespace().getFullName(), totals.result());
+        }
+
+        void skip(int from) {
+            for (int i = from; i < pending.size(); i++) {
+                pending.get(i).fail();
+            }
+        }
+
+        /**
+         * Splits the requests in to the groups sent with each {@code bulkWrite}. Versioned replacements are kept apart from the rest so
+         * that their matched count can be checked. Ordered writes keep their order by splitting the requests in to runs of each kind
+         * while unordered writes send each kind all at once.
+         */
+        private List<List<Integer>> segments() {
+            List<List<Integer>> segments = new ArrayList<>();
+            List<Integer> current = new ArrayList<>();
+            List<Integer> versioned = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                boolean checked = pending.get(i).checkVersion();
+                if (options.ordered() && !current.isEmpty() && checked != pending.get(current.get(0)).checkVersion()) {
+                    segments.add(current);
+                    current = new ArrayList<>();
+                }
+                if (checked && !options.ordered()) {
+                    versioned.add(i);
+                } else {
+                    current.add(i);
+                }
+            }
+            if (!current.isEmpty()) {
+                segments.add(current);
+            }
+            if (!versioned.isEmpty()) {
+                segments.add(versioned);
+            }
+            return segments;
+        }
+
+        /**
+         * @return false if this was an ordered write and nothing further should be written
+         */
+        private boolean write(List<Integer> segment, Totals totals, List<WriteFailure> failures) {
+            List<WriteModel<BsonDocument>> models = new ArrayList<>();
+            segment.forEach(index -> models.add(pending.get(index).model));
+
+            com.mongodb.bulk.BulkWriteResult written;
+            int attempted = segment.size();
+            int skipFrom = -1;
+            try {
+                written = datastore.operations().bulkWrite(collection, models, options);
+            } catch (MongoBulkWriteException e) {
+                if (e.getWriteErrors().isEmpty()) {
+                    throw e;
+                }
+                int last = 0;
+                for (BulkWriteError error : e.getWriteErrors()) {
+                    Pending failed = pending.get(segment.get(error.getIndex()));
+                    failed.fail();
+                    failures.add(new WriteFailure(failed.request, error, error.getMessage()));
+                    last = Math.max(last, error.getIndex());
+                }
+                written = e.getWriteResult();
+                if (options.ordered()) {
+                    // nothing after the failed request was attempted
+                    attempted = last;
+                    skipFrom = segment.get(last) + 1;
+                }
+            }
+            totals.add(written, segment);
+
+            if (pending.get(segment.get(0)).checkVersion() && written.wasAcknowledged()) {
+                List<Pending> applied = new ArrayList<>();
+                segment.subList(0, attempted).forEach(index -> {
+                    Pending candidate = pending.get(index);
+                    if (!candidate.failed) {
+                        applied.add(candidate);
+                    }
+                });
+                if (written.getMatchedCount() < applied.size()) {
+                    for (Pending stale : stale(applied)) {
+                        Object entity = stale.request.entity();
+                        EntityModel model = datastore.getMapper().getEntityModel(entity.getClass());
+                        stale.fail();
+                        failures.add(new WriteFailure(stale.request, null,
+                                Sofia.concurrentModification(entity.getClass().getName(), model.getIdProperty().getValue(entity))));
+                    }
+                    if (options.ordered() && skipFrom == -1) {
+                        skipFrom = segment.get(segment.size() - 1) + 1;
+                    }
+                }
+            }
+            if (skipFrom != -1) {
+                skip(skipFrom);
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Finds which of the replacements sent did not match a document. Those which did now carry their new version so any whose ID
+         * and new version are not found were stale. A document changed again after this write would also be reported stale.
+         */
+        private List<Pending> stale(List<Pending> applied) {
+            MongoCollection<BsonDocument> primary = collection.withReadPreference(ReadPreference.primary());
+            Set<BsonValue> found = new HashSet<>();
+            for (int start = 0; start < applied.size(); start += STALE_QUERY_SIZE) {
+                List<Bson> filters = new ArrayList<>();
+                applied.subList(start, Math.min(start + STALE_QUERY_SIZE, applied.size()))
+                        .forEach(candidate -> filters.add(candidate.replaced));
+                primary.find(Filters.or(filters))
+                        .projection(Projections.include("_id"))
+                        .forEach(document -> found.add(document.get("_id")));
+            }
+            List<Pending> stale = new ArrayList<>();
+            for (Pending candidate : applied) {
+                BsonValue id = candidate.replaced.toBsonDocument(BsonDocument.class, collection.getCodecRegistry()).get("_id");
+                if (!found.contains(id)) {
+                    stale.add(candidate);
+                }
+            }
+            return stale;
+        }
+    }
+
+    /**
+     * Combines the results of the writes to one collection, mapping the indexes of inserts and upserts back to those of the requests.
+     */
+    private static class Totals {
+        private final List<BulkWriteInsert> inserts = new ArrayList<>();
+        private final List<BulkWriteUpsert> upserts = new ArrayList<>();
+        private boolean acknowledged = true;
+        private int inserted;
+        private int matched;
+        private int removed;
+        private int modified;
+
+        void add(com.mongodb.bulk.BulkWriteResult written, List<Integer> segment) {
+            if (!written.wasAcknowledged()) {
+                acknowledged = false;
+                return;
+            }
+            inserted += written.getInsertedCount();
+            matched += written.getMatchedCount();
+            removed += written.getDeletedCount();
+            modified += written.getModifiedCount();
+            written.getInserts().forEach(insert -> inserts.add(new BulkWriteInsert(segment.get(insert.getIndex()), insert.getId())));
+            written.getUpserts().forEach(upsert -> upserts.add(new BulkWriteUpsert(segment.get(upsert.getIndex()), upsert.getId())));
+        }
+
+        com.mongodb.bulk.BulkWriteResult result() {
+            if (!acknowledged) {
+                return com.mongodb.bulk.BulkWriteResult.unacknowledged();
+            }
+            return com.mongodb.bulk.BulkWriteResult.acknowledged(inserted, matched, removed, modified, upserts, inserts);
+        }
+    }
+
+    private static class Pending {
+        private final WriteRequest<?> request;
+        private final WriteModel<BsonDocument> model;
+        @Nullable
+        private final VersionBumpInfo version;
+        /**
+         * The ID, shard keys and new version of a versioned replacement, matching the stored document once it is written
+         */
+        @Nullable
+        private final Document replaced;
+        private boolean failed;
+
+        Pending(WriteRequest<?> request, WriteModel<BsonDocument> model, @Nullable VersionBumpInfo version, @Nullable Document replaced) {
+            this.request = request;
+            this.model = model;
+            this.version = version;
+            this.replaced = replaced;
+        }
+
+        boolean checkVersion() {
+            return replaced != null;
+        }
+
+        void fail() {
+            failed = true;
+            if (version != null) {
+                version.rollbackVersion();
+            }
+        }
+    }
+}
@@ -11,6 +11,8 @@ import com.mongodb.lang.Nullable;
 import dev.morphia.aggregation.Aggregation;
 import dev.morphia.annotations.internal.MorphiaExperimental;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.bulk.BulkWriteResult;
+import dev.morphia.bulk.WriteRequest;
 import dev.morphia.query.Query;
 import dev.morphia.transactions.MorphiaSession;
 import dev.morphia.transactions.MorphiaTransaction;
@@ -41,6 +43,33 @@ public interface Datastore {
      */
     <T> Aggregation<T> aggregate(Class<T> source);
 
+    /**
+     * Applies a mix of inserts, replacements, updates and deletes with one round trip per collection. Versioning, shard keys and
+     * lifecycle methods are handled as they would be for the individual operations.
+     *
+     * @param requests the writes to apply
+     * @return the results
+     * @throws dev.morphia.bulk.BulkWriteException if any of the writes fail
+     * @see dev.morphia.bulk.WriteRequests
+     * @since 3.0
+     */
+    default BulkWriteResult bulkWrite(List<? extends WriteRequest<?>> requests) {
+        return bulkWrite(requests, new BulkWriteOptions());
+    }
+
+    /**
+     * Applies a mix of inserts, replacements, updates and deletes with one round trip per collection. Versioning, shard keys and
+     * lifecycle methods are handled as they would be for the individual operations.
+     *
+     * @param requests the writes to apply
+     * @param options  the options to apply
+     * @return the results
+     * @throws dev.morphia.bulk.BulkWriteException if any of the writes fail
+     * @see dev.morphia.bulk.WriteRequests
+     * @since 3.0
+     */
+    BulkWriteResult bulkWrite(List<? extends WriteRequest<?>> requests, BulkWriteOptions options);
+
     /**
      * Deletes the given entity (by @Id)
      *
@@ -160,7 +189,8 @@ public interface Datastore {
      * @param entity  the entity to merge back in to the database
      * @param options the options to apply
      * @param <T>     the type of the entity
-     * @return the new merged entity. NOTE: this is a database fetch.
+     * @return the new merged entity. NOTE: by default this is a database fetch.
+     * @see InsertOneOptions#mergeResult(MergeResult)
      * @since 2.0
      */
     <T> T merge(T entity, InsertOneOptions options);
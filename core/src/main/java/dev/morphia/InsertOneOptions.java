@@ -35,6 +35,7 @@ public class InsertOneOptions implements WriteConfigurable<InsertOneOptions>,
     private com.mongodb.client.model.InsertOneOptions options = new com.mongodb.client.model.InsertOneOptions();
     private WriteConcern writeConcern = WriteConcern.ACKNOWLEDGED;
     private boolean unset;
+    private MergeResult mergeResult = MergeResult.FETCH;
     private String collection;
 
     /**
@@ -53,6 +54,7 @@ public class InsertOneOptions implements WriteConfigurable<InsertOneOptions>,
     public InsertOneOptions(InsertOneOptions that) {
         this.options = that.options;
         this.writeConcern = that.writeConcern;
+        this.mergeResult = that.mergeResult;
     }
 
     /**
@@ -133,6 +135,30 @@ public class InsertOneOptions implements WriteConfigurable<InsertOneOptions>,
         return options;
     }
 
+    /**
+     * @return what a merge should return
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public MergeResult mergeResult() {
+        return mergeResult;
+    }
+
+    /**
+     * Defines what a merge returns. By default, the merged document is loaded with a separate query after the update.
+     *
+     * @param mergeResult what to return
+     * @return this
+     * @see Datastore#merge(Object, InsertOneOptions)
+     * @since 3.0
+     */
+    public InsertOneOptions mergeResult(MergeResult mergeResult) {
+        this.mergeResult = mergeResult;
+        return this;
+    }
+
     /**
      * Applies the rules for storing null/empty values for fields not present in the object to be merged.
      *
@@ -0,0 +1,25 @@
+package dev.morphia;
+
+/**
+ * Defines what {@link Datastore#merge(Object, InsertOneOptions)} returns once the update has been applied.
+ *
+ * @see InsertOneOptions#mergeResult(MergeResult)
+ * @since 3.0
+ */
+public enum MergeResult {
+    /**
+     * Runs a separate query after the update to load the merged document. This is the default.
+     */
+    FETCH,
+
+    /**
+     * Applies the update with a {@code findOneAndUpdate} which returns the merged document in the same round trip.
+     */
+    FIND_AND_UPDATE,
+
+    /**
+     * Returns the entity passed in without reading anything back. Any fields stored in the database but missing from the entity are
+     * not reflected in the returned value.
+     */
+    ENTITY
+}
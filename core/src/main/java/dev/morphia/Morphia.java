@@ -3,6 +3,8 @@ package dev.morphia;
 import com.mongodb.client.MongoClient;
 
 import dev.morphia.config.MorphiaConfig;
+import dev.morphia.reactive.MorphiaReactiveDatastore;
+import dev.morphia.reactive.ReactiveDatastore;
 
 /**
  * Entry point for working with Morphia
@@ -29,10 +31,34 @@ public final class Morphia {
      * @param mongoClient the client to use
      * @param config      the configuration to use
      * @return a Datastore that you can use to interact with MongoDB
-     * @since 3.0.0
+     * @since 3.0
      */
     public static Datastore createDatastore(MongoClient mongoClient, MorphiaConfig config) {
         return new MorphiaDatastore(mongoClient, config);
     }
 
+    /**
+     * Creates a ReactiveDatastore configured via config file. This requires the Reactive Streams driver on the classpath.
+     *
+     * @param mongoClient the client to use
+     * @return a ReactiveDatastore that you can use to interact with MongoDB
+     * @since 3.0
+     */
+    public static ReactiveDatastore createReactiveDatastore(com.mongodb.reactivestreams.client.MongoClient mongoClient) {
+        return new MorphiaReactiveDatastore(mongoClient, MorphiaConfig.load());
+    }
+
+    /**
+     * Creates a ReactiveDatastore. This requires the Reactive Streams driver on the classpath.
+     *
+     * @param mongoClient the client to use
+     * @param config      the configuration to use
+     * @return a ReactiveDatastore that you can use to interact with MongoDB
+     * @since 3.0
+     */
+    public static ReactiveDatastore createReactiveDatastore(com.mongodb.reactivestreams.client.MongoClient mongoClient,
+            MorphiaConfig config) {
+        return new MorphiaReactiveDatastore(mongoClient, config);
+    }
+
 }
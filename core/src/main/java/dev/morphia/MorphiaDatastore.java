@@ -6,7 +6,11 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -14,13 +18,17 @@ import com.mongodb.ClientSessionOptions;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoException;
 import com.mongodb.MongoWriteException;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.model.ValidationOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.InsertManyResult;
 import com.mongodb.client.result.InsertOneResult;
@@ -31,14 +39,16 @@ import com.mongodb.lang.Nullable;
 import dev.morphia.aggregation.Aggregation;
 import dev.morphia.aggregation.AggregationImpl;
 import dev.morphia.aggregation.codecs.AggregationCodecProvider;
-import dev.morphia.annotations.CappedAt;
 import dev.morphia.annotations.Entity;
-import dev.morphia.annotations.ShardKeys;
-import dev.morphia.annotations.ShardOptions;
 import dev.morphia.annotations.Validation;
-import dev.morphia.annotations.internal.IndexHelper;
+import dev.morphia.annotations.internal.IndexPlanner;
+import dev.morphia.annotations.internal.IndexReport;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.bulk.BulkWriteResult;
+import dev.morphia.bulk.WriteRequest;
 import dev.morphia.config.MorphiaConfig;
+import dev.morphia.instrumentation.Instrumentation;
+import dev.morphia.instrumentation.InstrumentedOperations;
 import dev.morphia.internal.CollectionConfigurable;
 import dev.morphia.internal.CollectionConfiguration;
 import dev.morphia.internal.ReadConfigurable;
@@ -46,13 +56,14 @@ import dev.morphia.internal.WriteConfigurable;
 import dev.morphia.mapping.EntityModelImporter;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
-import dev.morphia.mapping.ShardKeyType;
 import dev.morphia.mapping.codec.EnumCodecProvider;
 import dev.morphia.mapping.codec.MorphiaCodecProvider;
 import dev.morphia.mapping.codec.MorphiaExpressionCodecProvider;
 import dev.morphia.mapping.codec.MorphiaFilterCodecProvider;
 import dev.morphia.mapping.codec.MorphiaTypesCodecProvider;
 import dev.morphia.mapping.codec.PrimitiveCodecRegistry;
+import dev.morphia.mapping.codec.pojo.ChangeTracker;
+import dev.morphia.mapping.codec.pojo.ChangeTracker.Changes;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.MergingEncoder;
 import dev.morphia.mapping.codec.pojo.MorphiaCodec;
@@ -66,15 +77,19 @@ import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.query.UpdateException;
 import dev.morphia.query.updates.UpdateOperator;
+import dev.morphia.schema.SchemaPlan;
+import dev.morphia.schema.SchemaPlan.CollectionPlan;
 import dev.morphia.sofia.Sofia;
 import dev.morphia.transactions.MorphiaTransaction;
 import dev.morphia.transactions.SessionDatastore;
 
+import org.bson.BsonDocumentReader;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.configuration.CodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -82,8 +97,6 @@ import static dev.morphia.query.filters.Filters.eq;
 import static dev.morphia.query.updates.UpdateOperators.set;
 import static dev.morphia.sofia.Sofia.noDocumentsUpdated;
 import static dev.morphia.sofia.Sofia.noShardKeyMatch;
-import static java.lang.String.format;
-import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.joining;
 import static org.bson.Document.parse;
 import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
@@ -98,13 +111,20 @@ import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 @SuppressWarnings({ "unchecked", "rawtypes" })
 public class MorphiaDatastore implements Datastore {
     private static final Logger LOG = LoggerFactory.getLogger(Datastore.class);
+    /**
+     * The most configured collections kept. Alternate collection names can be generated at runtime so this bounds what is kept for them.
+     */
+    private static final int MAX_CONFIGURED_COLLECTIONS = 1024;
     private final MongoClient mongoClient;
     private final Mapper mapper;
     private final QueryFactory queryFactory;
     private final CodecRegistry codecRegistry;
+    private final ChangeTracker changeTracker;
     public List<MorphiaCodecProvider> morphiaCodecProviders = new ArrayList<>();
     private MongoDatabase database;
     private DatastoreOperations operations;
+    private final Map<Class<?>, MongoCollection<?>> collections = new ConcurrentHashMap<>();
+    private final Map<CollectionKey, MongoCollection<?>> configuredCollections = new ConcurrentHashMap<>();
 
     /**
      * @param client the mongo client
@@ -117,13 +137,14 @@ public class MorphiaDatastore implements Datastore {
         this.mongoClient = client;
         this.mapper = new Mapper(config);
         this.queryFactory = mapper.getConfig().queryFactory();
+        this.changeTracker = new ChangeTracker();
         importModels();
 
         MongoDatabase clientDatabase = mongoClient.getDatabase(config.database());
         codecRegistry = buildRegistry(clientDatabase.getCodecRegistry());
 
         this.database = clientDatabase.withCodecRegistry(this.codecRegistry);
-        operations = new CollectionOperations();
+        operations = instrumented(new CollectionOperations());
 
         config.packages().forEach(packageName -> {
             Sofia.logMappingPackage(packageName);
@@ -140,6 +161,33 @@ public class MorphiaDatastore implements Datastore {
         }
     }
 
+    /**
+     * Creates a datastore which provides the mapping and codecs but is not bound to a sync client. This is used by datastores built on
+     * other drivers which can not use any of the operations defined here.
+     *
+     * @param driverRegistry the codec registry of the driver in use
+     * @param config         the config
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public MorphiaDatastore(CodecRegistry driverRegistry, MorphiaConfig config) {
+        this.mongoClient = null;
+        this.mapper = new Mapper(config);
+        this.queryFactory = mapper.getConfig().queryFactory();
+        this.changeTracker = new ChangeTracker();
+        importModels();
+
+        codecRegistry = buildRegistry(driverRegistry);
+        operations = instrumented(new CollectionOperations());
+
+        config.packages().forEach(packageName -> {
+            Sofia.logMappingPackage(packageName);
+            mapper.map(packageName);
+        });
+    }
+
     /**
      * Copy constructor for a datastore
      *
@@ -154,6 +202,7 @@ public class MorphiaDatastore implements Datastore {
         this.mapper = datastore.mapper.copy();
         this.queryFactory = datastore.queryFactory;
         this.operations = datastore.operations;
+        this.changeTracker = datastore.changeTracker;
         codecRegistry = buildRegistry(mongoClient.getDatabase(mapper.getConfig().database()).getCodecRegistry());
     }
 
@@ -241,16 +290,72 @@ public class MorphiaDatastore implements Datastore {
     @NonNull
     @MorphiaInternal
     public <T> MongoCollection<T> configureCollection(CollectionConfiguration options, MongoCollection<T> collection) {
+        // only the collections handed out by getCollection() are known to be configured purely by their type
+        if (collections.get(collection.getDocumentClass()) != collection) {
+            return configure(options, collection);
+        }
+        CollectionKey key = new CollectionKey(collection, options);
+        if (key.isDefault()) {
+            return collection;
+        }
+        MongoCollection<?> configured = configuredCollections.get(key);
+        if (configured == null) {
+            configured = configure(options, collection);
+            if (configuredCollections.size() < MAX_CONFIGURED_COLLECTIONS) {
+                configuredCollections.putIfAbsent(key, configured);
+            }
+        }
+        return (MongoCollection<T>) configured;
+    }
+
+    /**
+     * Applies configuration options to a collection. The collections of the sync and the Reactive Streams drivers share no common type
+     * so the functions deriving a new collection for each option are passed in.
+     *
+     * @param options        the options to apply
+     * @param collection     the collection to configure
+     * @param alternate      looks up a collection by name
+     * @param readConcern    applies a read concern
+     * @param readPreference applies a read preference
+     * @param writeConcern   applies a write concern
+     * @param <C>            the collection type
+     * @return the configured collection
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public static <C> C configure(CollectionConfiguration options, C collection, Function<String, C> alternate,
+            BiFunction<C, ReadConcern, C> readConcern, BiFunction<C, ReadPreference, C> readPreference,
+            BiFunction<C, WriteConcern, C> writeConcern) {
+        C configured = collection;
         if (options instanceof CollectionConfigurable) {
-            collection = ((CollectionConfigurable<?>) options).prepare(collection, getDatabase());
+            String name = ((CollectionConfigurable<?>) options).collection();
+            if (name != null) {
+                configured = alternate.apply(name);
+            }
         }
         if (options instanceof ReadConfigurable) {
-            collection = ((ReadConfigurable<?>) options).prepare(collection);
+            ReadConcern concern = ((ReadConfigurable<?>) options).readConcern();
+            if (concern != null) {
+                configured = readConcern.apply(configured, concern);
+            }
+            ReadPreference preference = ((ReadConfigurable<?>) options).readPreference();
+            if (preference != null) {
+                configured = readPreference.apply(configured, preference);
+            }
         }
         if (options instanceof WriteConfigurable) {
-            collection = ((WriteConfigurable<?>) options).configure(collection);
+            WriteConcern concern = ((WriteConfigurable<?>) options).writeConcern();
+            if (concern != null) {
+                configured = writeConcern.apply(configured, concern);
+            }
         }
-        return collection;
+        return configured;
+    }
+
+    private <T> MongoCollection<T> configure(CollectionConfiguration options, MongoCollection<T> collection) {
+        return configure(options, collection, name -> getDatabase().getCollection(name, collection.getDocumentClass()),
+                MongoCollection::withReadConcern, MongoCollection::withReadPreference, MongoCollection::withWriteConcern);
     }
 
     /**
@@ -279,35 +384,31 @@ public class MorphiaDatastore implements Datastore {
     }
 
     public void applyDocumentValidations() {
-        for (EntityModel model : mapper.getMappedEntities()) {
-            enableDocumentValidation(model);
+        for (CollectionPlan plan : SchemaPlan.withoutIndexes(mapper).collections()) {
+            plan.applyValidation(getDatabase());
         }
     }
 
     public void enableDocumentValidation() {
         Sofia.logConfiguredOperation("Datastore#enableDocumentValidation()");
-        for (EntityModel model : mapper.getMappedEntities()) {
-            enableDocumentValidation(model);
-        }
+        applyDocumentValidations();
     }
 
     public void applyIndexes() {
         if (mapper.getMappedEntities().isEmpty()) {
             LOG.warn(Sofia.noMappedClasses());
         }
-        final IndexHelper indexHelper = new IndexHelper(mapper);
-        for (EntityModel model : mapper.getMappedEntities()) {
-            if (model.getIdProperty() != null) {
-                indexHelper.createIndex(getCollection(model.getType()), model);
-            }
-        }
+        IndexReport report = new IndexPlanner(this).apply(mapper.getMappedEntities().stream()
+                .filter(model -> model.getIdProperty() != null)
+                .collect(Collectors.toList()));
+        Sofia.logIndexesApplied(report.created(), report.existing(), report.collections().size(), report.elapsed());
+        LOG.debug(report.toString());
     }
 
     public <T> void ensureIndexes(Class<T> type) {
         EntityModel model = mapper.getEntityModel(type);
-        final IndexHelper indexHelper = new IndexHelper(mapper);
         if (model.getIdProperty() != null) {
-            indexHelper.createIndex(getCollection(type), model);
+            new IndexPlanner(this).apply(List.of(model));
         }
     }
 
@@ -341,6 +442,17 @@ public class MorphiaDatastore implements Datastore {
         return queryFactory.createQuery(this, type);
     }
 
+    /**
+     * @return the snapshots of the entities loaded while {@link MorphiaConfig#trackChanges() change tracking} is enabled
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public ChangeTracker getChangeTracker() {
+        return changeTracker;
+    }
+
     /**
      * @return the codec registry
      */
@@ -350,6 +462,14 @@ public class MorphiaDatastore implements Datastore {
 
     @Override
     public <T> MongoCollection<T> getCollection(Class<T> type) {
+        MongoCollection<?> collection = collections.get(type);
+        if (collection == null) {
+            collection = collections.computeIfAbsent(type, this::createCollection);
+        }
+        return (MongoCollection<T>) collection;
+    }
+
+    private <T> MongoCollection<T> createCollection(Class<T> type) {
         EntityModel entityModel = mapper.getEntityModel(type);
         String collectionName = entityModel.collectionName();
 
@@ -409,37 +529,8 @@ public class MorphiaDatastore implements Datastore {
     }
 
     private void applyCaps() {
-        List<String> collectionNames = database.listCollectionNames().into(new ArrayList<>());
-        for (EntityModel model : mapper.getMappedEntities()) {
-            Entity entityAnnotation = model.getEntityAnnotation();
-            if (entityAnnotation != null) {
-                CappedAt cappedAt = entityAnnotation.cap();
-                if (cappedAt.value() > 0 || cappedAt.count() > 0) {
-                    final CappedAt cap = entityAnnotation.cap();
-                    final String collName = model.collectionName();
-                    final CreateCollectionOptions dbCapOpts = new CreateCollectionOptions()
-                            .capped(true);
-                    if (cap.value() > 0) {
-                        dbCapOpts.sizeInBytes(cap.value());
-                    }
-                    if (cap.count() > 0) {
-                        dbCapOpts.maxDocuments(cap.count());
-                    }
-                    final MongoDatabase database = getDatabase();
-                    if (collectionNames.contains(collName)) {
-                        final Document dbResult = database.runCommand(new Document("collstats", collName));
-                        if (dbResult.getBoolean("capped", false)) {
-                            LOG.debug("MongoCollection already exists and is capped already; doing nothing. " + dbResult);
-                        } else {
-                            LOG.warn("MongoCollection already exists with same name(" + collName
-                                    + ") and is not capped; not creating capped version!");
-                        }
-                    } else {
-                        getDatabase().createCollection(collName, dbCapOpts);
-                        LOG.debug("Created capped MongoCollection (" + collName + ") with opts " + dbCapOpts);
-                    }
-                }
-            }
+        for (CollectionPlan plan : SchemaPlan.withoutIndexes(mapper).collections()) {
+            plan.applyCap(getDatabase());
         }
     }
 
@@ -454,28 +545,80 @@ public class MorphiaDatastore implements Datastore {
 
         final Query<T> query = info.filter((Query<T>) find(entity.getClass()).filter(eq("_id", id)));
 
-        UpdateResult execute;
+        MergeResult mergeResult = options.mergeResult();
         UpdateOptions updateOptions = new UpdateOptions()
                 .writeConcern(options.writeConcern());
-        if (!options.unsetMissing()) {
-            execute = query.update(updateOptions, set(entity));
+        ModifyOptions modifyOptions = new ModifyOptions()
+                .returnDocument(ReturnDocument.AFTER)
+                .writeConcern(options.writeConcern());
+        T merged = null;
+        boolean matched;
+        Changes changes = changes(entity, options.unsetMissing());
+        if (changes != null) {
+            Document filter = new Document("_id", id);
+            info.filter(filter);
+            if (changes.isEmpty()) {
+                matched = true;
+            } else if (mergeResult == MergeResult.FIND_AND_UPDATE) {
+                merged = (T) operations.findOneAndUpdate(configureCollection(modifyOptions, getCollection(entity.getClass())), filter,
+                        changes.toUpdate(), modifyOptions);
+                matched = merged != null;
+            } else {
+                matched = operations.updateOne(configureCollection(updateOptions, getCollection(entity.getClass())), filter,
+                        changes.toUpdate(), updateOptions).getMatchedCount() == 1;
+            }
         } else {
-            MorphiaCodec morphiaCodec = (MorphiaCodec) codecRegistry.get(entity.getClass());
-            var updates = ((MergingEncoder<T>) new MergingEncoder(query, morphiaCodec, mapper.getConfig()))
-                    .encode(entity);
-            execute = query.update(updateOptions, updates.remove(0), updates.toArray(new UpdateOperator[0]));
+            List<UpdateOperator> updates;
+            if (!options.unsetMissing()) {
+                updates = List.of(set(entity));
+            } else {
+                MorphiaCodec morphiaCodec = (MorphiaCodec) codecRegistry.get(entity.getClass());
+                updates = ((MergingEncoder<T>) new MergingEncoder(query, morphiaCodec, mapper.getConfig()))
+                        .encode(entity);
+            }
+            UpdateOperator first = updates.get(0);
+            UpdateOperator[] others = updates.subList(1, updates.size()).toArray(new UpdateOperator[0]);
+            if (mergeResult == MergeResult.FIND_AND_UPDATE) {
+                merged = query.modify(modifyOptions, first, others);
+                matched = merged != null;
+            } else {
+                matched = query.update(updateOptions, first, others).getMatchedCount() == 1;
+            }
         }
-        if (execute.getMatchedCount() != 1) {
+        if (!matched) {
             if (info.versioned()) {
                 info.rollbackVersion();
                 throw new VersionMismatchException(entity.getClass(), id);
             }
             throw new UpdateException(Sofia.noMatchingDocuments());
         }
+        if (changes != null) {
+            if (changes.skipped()) {
+                changeTracker.forget(entity);
+            } else {
+                changeTracker.snapshot(entity, changes.current());
+            }
+        }
 
+        if (mergeResult == MergeResult.ENTITY) {
+            return entity;
+        }
+        if (merged != null) {
+            return merged;
+        }
         return (T) find(entity.getClass()).filter(eq("_id", id)).iterator(new FindOptions().limit(1)).next();
     }
 
+    /**
+     * @return true if this datastore is connected and can load referenced entities
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public boolean canFetchReferences() {
+        return mongoClient != null;
+    }
+
     protected MongoClient getMongoClient() {
         return mongoClient;
     }
@@ -488,17 +631,11 @@ public class MorphiaDatastore implements Datastore {
     }
 
     public void shardCollections() {
-        var entities = getMapper().getMappedEntities()
-                .stream().filter(m -> m.getAnnotation(ShardKeys.class) != null)
-                .collect(Collectors.toList());
-
         operations.runCommand(new Document("enableSharding", database.getName()));
 
-        entities.forEach(e -> {
-            if (!shardCollection(e).containsKey("collectionsharded")) {
-                throw new MappingException(Sofia.cannotShardCollection(getDatabase().getName(), e.collectionName()));
-            }
-        });
+        for (CollectionPlan plan : SchemaPlan.withoutIndexes(mapper).collections()) {
+            plan.applySharding(getDatabase(), operations::runCommand);
+        }
     }
 
     @Override
@@ -506,52 +643,6 @@ public class MorphiaDatastore implements Datastore {
         return merge(entity, new InsertOneOptions());
     }
 
-    protected Document shardCollection(EntityModel model) {
-        ShardKeys shardKeys = model.getAnnotation(ShardKeys.class);
-        if (shardKeys != null) {
-            final Document collstats = database.runCommand(new Document("collstats", model.collectionName()));
-            if (collstats.getBoolean("sharded", false)) {
-                LOG.debug("MongoCollection already exists and is sharded already; doing nothing. " + collstats);
-            } else {
-                ShardOptions options = shardKeys.options();
-
-                Document command = new Document("shardCollection", format("%s.%s", getDatabase().getName(), model.collectionName()))
-                        .append("unique", options.unique())
-                        .append("presplitHashedZones", options.presplitHashedZones());
-                var hashed = stream(shardKeys.value()).anyMatch(k -> k.type() == ShardKeyType.HASHED);
-                if (hashed) {
-                    if (options.numInitialChunks() != -1) {
-                        command.append("numInitialChunks", options.numInitialChunks());
-                    }
-                }
-
-                if (collstats.get("collation") != null) {
-                    command.append("collation", new Document("locale", "simple"));
-                }
-                command.append("key", stream(shardKeys.value())
-                        .map(k -> new Document(k.value(), queryForm(k.type())))
-                        .reduce(new Document(), (a, m) -> {
-                            a.putAll(m);
-                            return a;
-                        }));
-
-                return operations.runCommand(command);
-            }
-        }
-        return new Document();
-    }
-
-    private Object queryForm(ShardKeyType type) {
-        switch (type) {
-            case HASHED:
-                return "hashed";
-            case RANGED:
-                return 1;
-        }
-
-        throw new IllegalStateException("Every shard key type should be handled.");
-    }
-
     @Override
     @SuppressWarnings("unchecked")
     public <T> List<T> save(List<T> entities, InsertManyOptions options) {
@@ -663,6 +754,11 @@ public class MorphiaDatastore implements Datastore {
         return doTransaction(startSession(options), transaction);
     }
 
+    @Override
+    public BulkWriteResult bulkWrite(List<? extends WriteRequest<?>> requests, BulkWriteOptions options) {
+        return new BulkWriter(this, options).write(requests);
+    }
+
     @Override
     public <T> List<T> replace(List<T> entities, ReplaceOptions options) {
         for (T entity : entities) {
@@ -705,10 +801,15 @@ public class MorphiaDatastore implements Datastore {
      * @return this
      */
     protected MorphiaDatastore operations(DatastoreOperations operations) {
-        this.operations = operations;
+        this.operations = instrumented(operations);
         return this;
     }
 
+    private DatastoreOperations instrumented(DatastoreOperations operations) {
+        Instrumentation instrumentation = mapper.getConfig().instrumentation().orElse(null);
+        return instrumentation != null ? new InstrumentedOperations(operations, instrumentation) : operations;
+    }
+
     private <T> void save(MongoCollection collection, T entity, InsertOneOptions options) {
         collection = configureCollection(options, collection);
 
@@ -720,6 +821,9 @@ public class MorphiaDatastore implements Datastore {
         try {
             if (id == null || info.versioned() && info.newVersion() == 1) {
                 operations.insertOne(collection, entity, options);
+                track(entity, options);
+            } else if (options.collection() == null && saveChanges(collection, entityModel, entity, id, info, options)) {
+                return;
             } else {
                 ReplaceOptions updateOptions = new ReplaceOptions()
                         .bypassDocumentValidation(options.bypassDocumentValidation())
@@ -736,6 +840,7 @@ public class MorphiaDatastore implements Datastore {
                     info.rollbackVersion();
                     throw new VersionMismatchException(entity.getClass(), id);
                 }
+                track(entity, options);
             }
         } catch (MongoWriteException e) {
             if (info.versioned()) {
@@ -746,30 +851,59 @@ public class MorphiaDatastore implements Datastore {
     }
 
     /**
-     * Enables any document validation defined on the class
+     * Computes the changes made to a tracked entity since it was last loaded or written. Entities are only encoded here if they are
+     * tracked so that lifecycle methods are not run twice for untracked entities.
      *
-     * @param model the model to use
+     * @param entity the entity
+     * @param unset  true if missing fields should be unset
+     * @return the changes or null if the entity is not tracked
      */
-    private void enableDocumentValidation(EntityModel model) {
-        Validation validation = model.getAnnotation(Validation.class);
-        String collectionName = model.collectionName();
-        if (validation != null) {
-            try {
-                getDatabase().runCommand(new Document("collMod", collectionName)
-                        .append("validator", parse(validation.value()))
-                        .append("validationLevel", validation.level().getValue())
-                        .append("validationAction", validation.action().getValue()));
-            } catch (MongoCommandException e) {
-                if (e.getCode() == 26) {
-                    database.createCollection(collectionName,
-                            new CreateCollectionOptions()
-                                    .validationOptions(new ValidationOptions()
-                                            .validator(parse(validation.value()))
-                                            .validationLevel(validation.level())
-                                            .validationAction(validation.action())));
-                } else {
-                    throw e;
+    @Nullable
+    private <T> Changes changes(T entity, boolean unset) {
+        if (!mapper.getConfig().trackChanges() || !changeTracker.isTracked(entity)) {
+            return null;
+        }
+        Codec<T> codec = (Codec<T>) codecRegistry.get(entity.getClass());
+        return changeTracker.changes(entity, ChangeTracker.encode(codec, entity), unset);
+    }
+
+    /**
+     * Saves a tracked entity by sending only the fields which have changed.
+     *
+     * @return false if the entity needs to be written in full
+     */
+    private <T> boolean saveChanges(MongoCollection collection, EntityModel entityModel, T entity, Object id, VersionBumpInfo info,
+            InsertOneOptions options) {
+        Changes changes = changes(entity, true);
+        if (changes == null) {
+            return false;
+        }
+        if (!changes.isEmpty()) {
+            Document filter = new Document("_id", id);
+            info.filter(filter);
+            entityModel.getShardKeys().forEach((property) -> {
+                filter.put(property.getMappedName(), property.getValue(entity));
+            });
+            UpdateResult updateResult = operations.updateOne(collection, filter, changes.toUpdate(), new UpdateOptions()
+                    .bypassDocumentValidation(options.bypassDocumentValidation()));
+            if (updateResult.getMatchedCount() != 1) {
+                if (info.versioned()) {
+                    info.rollbackVersion();
+                    throw new VersionMismatchException(entity.getClass(), id);
                 }
+                // the document is gone so it needs to be upserted in full
+                return false;
+            }
+        }
+        changeTracker.snapshot(entity, changes.current());
+        return true;
+    }
+
+    private <T> void track(T entity, InsertOneOptions options) {
+        if (mapper.getConfig().trackChanges() && options.collection() == null) {
+            Codec<T> codec = (Codec<T>) codecRegistry.get(entity.getClass());
+            if (codec instanceof MorphiaCodec) {
+                changeTracker.snapshot(entity, (MorphiaCodec<T>) codec);
             }
         }
     }
@@ -830,7 +964,17 @@ public class MorphiaDatastore implements Datastore {
         return DocumentWriter.encode(entity, this.getMapper(), this.getCodecRegistry());
     }
 
-    private <T> VersionBumpInfo updateVersioning(T entity) {
+    /**
+     * Increments the version of the entity if its type is versioned.
+     *
+     * @param entity the entity about to be written
+     * @param <T>    the entity type
+     * @return the versions before and after the increment
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public <T> VersionBumpInfo updateVersioning(T entity) {
         final EntityModel entityModel = mapper.getEntityModel(entity.getClass());
         PropertyModel versionProperty = entityModel.getVersionProperty();
         if (versionProperty != null) {
@@ -856,12 +1000,14 @@ public class MorphiaDatastore implements Datastore {
     }
 
     /**
-     * Defines the various operations the driver performs on behalf of a Datastore
+     * Defines the various operations the driver performs on behalf of a Datastore. Each operation taking a query filter has an abstract
+     * {@code Document} form and a {@code Bson} form which converts the filter and calls the {@code Document} form by default. Morphia
+     * calls the {@code Bson} forms so overriding those as well avoids converting filters which are not already documents.
      */
     public abstract static class DatastoreOperations {
         /**
          * Counts the number of documents in the collection according to the given options.
-         * 
+         *
          * @param collection the collection to use
          * @param query      the query to use
          * @param options    the options to apply
@@ -870,10 +1016,25 @@ public class MorphiaDatastore implements Datastore {
          */
         public abstract <T> long countDocuments(MongoCollection<T> collection, Document query, CountOptions options);
 
+        /**
+         * Counts the number of documents in the collection according to the given options. The default implementation converts the query
+         * and calls the {@code Document} form.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @param options    the options to apply
+         * @return the count of documents found
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
+            return countDocuments(collection, document(collection, query), options);
+        }
+
         /**
          * Removes all documents from the collection that match the given query filter. If no documents match, the collection is not
          * modified.
-         * 
+         *
          * @param collection the collection to use
          * @param query      the query to use
          * @param options    the options to apply
@@ -882,10 +1043,25 @@ public class MorphiaDatastore implements Datastore {
          */
         public abstract <T> DeleteResult deleteMany(MongoCollection<T> collection, Document query, DeleteOptions options);
 
+        /**
+         * Removes all documents from the collection that match the given query filter. If no documents match, the collection is not
+         * modified. The default implementation converts the query and calls the {@code Document} form.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson query, DeleteOptions options) {
+            return deleteMany(collection, document(collection, query), options);
+        }
+
         /**
          * Removes one document from the collection that match the given query filter. If no documents match, the collection is not
          * modified.
-         * 
+         *
          * @param collection the collection to use
          * @param query      the query to use
          * @param options    the options to apply
@@ -894,6 +1070,21 @@ public class MorphiaDatastore implements Datastore {
          */
         public abstract <T> DeleteResult deleteOne(MongoCollection<T> collection, Document query, DeleteOptions options);
 
+        /**
+         * Removes one document from the collection that match the given query filter. If no documents match, the collection is not
+         * modified. The default implementation converts the query and calls the {@code Document} form.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson query, DeleteOptions options) {
+            return deleteOne(collection, document(collection, query), options);
+        }
+
         /**
          * Finds all documents in the collection.
          *
@@ -916,6 +1107,21 @@ public class MorphiaDatastore implements Datastore {
         @Nullable
         public abstract <T> T findOneAndDelete(MongoCollection<T> collection, Document query, FindAndDeleteOptions options);
 
+        /**
+         * Atomically find a document and remove it. The default implementation converts the query and calls the {@code Document} form.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        @Nullable
+        public <T> T findOneAndDelete(MongoCollection<T> collection, Bson query, FindAndDeleteOptions options) {
+            return findOneAndDelete(collection, document(collection, query), options);
+        }
+
         /**
          * Atomically find a document and update it.
          *
@@ -929,6 +1135,37 @@ public class MorphiaDatastore implements Datastore {
         @Nullable
         public abstract <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options);
 
+        /**
+         * Atomically find a document and update it. The default implementation converts the query and calls the {@code Document} form.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @param update     the update to apply
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        @Nullable
+        public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Document update, ModifyOptions options) {
+            return findOneAndUpdate(collection, document(collection, query), update, options);
+        }
+
+        /**
+         * Executes a mix of inserts, updates, replaces, and deletes. The default implementation writes directly to the collection.
+         *
+         * @param collection the collection to use
+         * @param requests   the writes to apply
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> com.mongodb.bulk.BulkWriteResult bulkWrite(MongoCollection<T> collection,
+                List<? extends WriteModel<? extends T>> requests, BulkWriteOptions options) {
+            return collection.bulkWrite(requests, options.driver());
+        }
+
         /**
          * Inserts one or more documents.
          *
@@ -983,6 +1220,21 @@ public class MorphiaDatastore implements Datastore {
          */
         public abstract <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates, UpdateOptions options);
 
+        /**
+         * Updates one or more documents. The default implementation converts the query and calls the {@code Document} form.
+         *
+         * @param collection the collection to use
+         * @param query      the entity to replace
+         * @param updates    the updates to apply
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Document updates, UpdateOptions options) {
+            return updateMany(collection, document(collection, query), updates, options);
+        }
+
         /**
          * Updates one or more documents.
          *
@@ -996,6 +1248,22 @@ public class MorphiaDatastore implements Datastore {
         public abstract <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates,
                 UpdateOptions options);
 
+        /**
+         * Updates one or more documents. The default implementation converts the query and calls the {@code Document} form.
+         *
+         * @param collection the collection to use
+         * @param query      the entity to replace
+         * @param updates    the updates to apply
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<Document> updates,
+                UpdateOptions options) {
+            return updateMany(collection, document(collection, query), updates, options);
+        }
+
         /**
          * Updates one document.
          *
@@ -1008,6 +1276,21 @@ public class MorphiaDatastore implements Datastore {
          */
         public abstract <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates, UpdateOptions options);
 
+        /**
+         * Updates one document. The default implementation converts the query and calls the {@code Document} form.
+         *
+         * @param collection the collection to use
+         * @param query      the entity to replace
+         * @param updates    the updates to apply
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Document updates, UpdateOptions options) {
+            return updateOne(collection, document(collection, query), updates, options);
+        }
+
         /**
          * Updates one document.
          *
@@ -1021,39 +1304,94 @@ public class MorphiaDatastore implements Datastore {
         public abstract <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates,
                 UpdateOptions options);
 
+        /**
+         * Updates one document. The default implementation converts the query and calls the {@code Document} form.
+         *
+         * @param collection the collection to use
+         * @param query      the entity to replace
+         * @param updates    the updates to apply
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<Document> updates,
+                UpdateOptions options) {
+            return updateOne(collection, document(collection, query), updates, options);
+        }
+
+        private static Document document(MongoCollection<?> collection, Bson query) {
+            if (query instanceof Document) {
+                return (Document) query;
+            }
+            CodecRegistry registry = collection.getCodecRegistry();
+            return registry.get(Document.class)
+                    .decode(new BsonDocumentReader(query.toBsonDocument(Document.class, registry)), DecoderContext.builder().build());
+        }
     }
 
     private class CollectionOperations extends DatastoreOperations {
         @Override
-        public <T> long countDocuments(MongoCollection<T> collection, Document query, CountOptions options) {
+        public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
             return collection.countDocuments(query, options);
         }
 
         @Override
-        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> long countDocuments(MongoCollection<T> collection, Document query, CountOptions options) {
+            return countDocuments(collection, (Bson) query, options);
+        }
+
+        @Override
+        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteMany(queryDocument, options);
         }
 
         @Override
-        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+            return deleteMany(collection, (Bson) queryDocument, options);
+        }
+
+        @Override
+        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteOne(queryDocument, options);
         }
 
+        @Override
+        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+            return deleteOne(collection, (Bson) queryDocument, options);
+        }
+
         @Override
         public <E> FindIterable<E> find(MongoCollection<E> collection, Document query) {
             return collection.find(query);
         }
 
         @Override
-        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Document queryDocument, FindAndDeleteOptions options) {
+        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Bson queryDocument, FindAndDeleteOptions options) {
             return mongoCollection.findOneAndDelete(queryDocument, options);
         }
 
         @Override
-        public <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options) {
+        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Document queryDocument, FindAndDeleteOptions options) {
+            return findOneAndDelete(mongoCollection, (Bson) queryDocument, options);
+        }
+
+        @Override
+        public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Document update, ModifyOptions options) {
             return collection.findOneAndUpdate(query, update, options);
         }
 
+        @Override
+        public <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options) {
+            return findOneAndUpdate(collection, (Bson) query, update, options);
+        }
+
+        @Override
+        public <T> com.mongodb.bulk.BulkWriteResult bulkWrite(MongoCollection<T> collection,
+                List<? extends WriteModel<? extends T>> requests, BulkWriteOptions options) {
+            return collection.bulkWrite(requests, options.driver());
+        }
+
         @Override
         public <T> InsertManyResult insertMany(MongoCollection<T> collection, List<T> list, InsertManyOptions options) {
             return collection.insertMany(list, options.driver());
@@ -1077,32 +1415,59 @@ public class MorphiaDatastore implements Datastore {
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Document updates,
                 UpdateOptions options) {
             return collection.updateMany(query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates, UpdateOptions options) {
+            return updateMany(collection, (Bson) query, updates, options);
+        }
+
+        @Override
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Document updates,
                 UpdateOptions options) {
             return collection.updateOne(query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates, UpdateOptions options) {
+            return updateOne(collection, (Bson) query, updates, options);
+        }
+
+        @Override
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<Document> updates,
                 UpdateOptions options) {
             return collection.updateMany(query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates, UpdateOptions options) {
+            return updateMany(collection, (Bson) query, updates, options);
+        }
+
+        @Override
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<Document> updates,
                 UpdateOptions options) {
             return collection.updateOne(query, updates, options);
         }
+
+        @Override
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates, UpdateOptions options) {
+            return updateOne(collection, (Bson) query, updates, options);
+        }
     }
 
+    /**
+     * The change made to the version of an entity about to be written so that the write can be filtered on the previous version and the
+     * change undone if the write fails.
+     *
+     * @hidden
+     * @morphia.internal
+     */
     @MorphiaInternal
-    private static class VersionBumpInfo {
+    public static class VersionBumpInfo {
         private final Long oldVersion;
         private final boolean versioned;
         private final Long newVersion;
@@ -1125,12 +1490,24 @@ public class MorphiaDatastore implements Datastore {
             this.versionProperty = versionProperty;
         }
 
+        /**
+         * Adds the previous version to the filter if the entity is versioned.
+         *
+         * @param filter the filter
+         */
         public void filter(Document filter) {
             if (versionProperty != null) {
                 filter.put(versionProperty.getMappedName(), oldVersion());
             }
         }
 
+        /**
+         * Adds the previous version to the query if the entity is versioned.
+         *
+         * @param query the query
+         * @param <T>   the query type
+         * @return the query
+         */
         public <T> Query<T> filter(Query<T> query) {
             if (versionProperty != null && newVersion() != -1) {
                 query.filter(eq(versionProperty.getMappedName(), oldVersion()));
@@ -1139,22 +1516,98 @@ public class MorphiaDatastore implements Datastore {
             return query;
         }
 
+        /**
+         * @return the version written with the entity
+         */
         public Long newVersion() {
             return newVersion;
         }
 
+        /**
+         * @return the version the entity had before the write
+         */
         public Long oldVersion() {
             return oldVersion;
         }
 
+        /**
+         * Restores the previous version on the entity.
+         */
         public void rollbackVersion() {
             if (versionProperty != null) {
                 versionProperty.setValue(entity, oldVersion);
             }
         }
 
+        /**
+         * @return true if the entity is versioned
+         */
         public boolean versioned() {
             return versioned;
         }
     }
+
+    /**
+     * Identifies a collection by its entity type and the options which change how it is configured. Options matching what the base
+     * collection already uses change nothing and are left out so that, e.g., the default write concern of a fresh options instance still
+     * maps to the base collection.
+     */
+    private static final class CollectionKey {
+        private final Class<?> type;
+        @Nullable
+        private final String collection;
+        @Nullable
+        private final ReadPreference readPreference;
+        @Nullable
+        private final ReadConcern readConcern;
+        @Nullable
+        private final WriteConcern writeConcern;
+
+        CollectionKey(MongoCollection<?> base, CollectionConfiguration options) {
+            type = base.getDocumentClass();
+            collection = options instanceof CollectionConfigurable ? ((CollectionConfigurable<?>) options).collection() : null;
+            // an alternate collection starts from the database's settings rather than the base collection's
+            MongoCollection<?> current = collection == null ? base : null;
+            if (options instanceof ReadConfigurable) {
+                readPreference = changed(((ReadConfigurable<?>) options).readPreference(), current, MongoCollection::getReadPreference);
+                readConcern = changed(((ReadConfigurable<?>) options).readConcern(), current, MongoCollection::getReadConcern);
+            } else {
+                readPreference = null;
+                readConcern = null;
+            }
+            writeConcern = options instanceof WriteConfigurable
+                    ? changed(((WriteConfigurable<?>) options).writeConcern(), current, MongoCollection::getWriteConcern)
+                    : null;
+        }
+
+        @Nullable
+        private static <V> V changed(@Nullable V value, @Nullable MongoCollection<?> current, Function<MongoCollection<?>, V> setting) {
+            return current != null && setting.apply(current).equals(value) ? null : value;
+        }
+
+        boolean isDefault() {
+            return collection == null && readPreference == null && readConcern == null && writeConcern == null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CollectionKey)) {
+                return false;
+            }
+            CollectionKey that = (CollectionKey) o;
+            return type.equals(that.type)
+                    && Objects.equals(collection, that.collection)
+                    && Objects.equals(readPreference, that.readPreference)
+                    && Objects.equals(readConcern, that.readConcern)
+                    && Objects.equals(writeConcern, that.writeConcern);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, collection, readPreference, readConcern, writeConcern);
+        }
+    }
 }
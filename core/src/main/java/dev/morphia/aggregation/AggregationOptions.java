@@ -13,6 +13,7 @@ import com.mongodb.client.model.Collation;
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.internal.AggregateTarget;
 import dev.morphia.internal.CollectionConfigurable;
 import dev.morphia.internal.ReadConfigurable;
 import dev.morphia.internal.WriteConfigurable;
@@ -70,23 +71,49 @@ public class AggregationOptions implements ReadConfigurable<AggregationOptions>,
         if (readPreference != null) {
             bound = bound.withReadPreference(readPreference);
         }
-        AggregateIterable<S> aggregate = bound.aggregate(documents, resultType)
-                .allowDiskUse(allowDiskUse)
+        return apply(bound.aggregate(documents, resultType));
+    }
+
+    /**
+     * Applies the options which configure the aggregation itself rather than the collection it runs against.
+     *
+     * @param aggregate the aggregation to configure
+     * @param <S>       the result type
+     * @return the configured aggregation
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public <S> AggregateIterable<S> apply(AggregateIterable<S> aggregate) {
+        apply(AggregateTarget.of(aggregate));
+        return aggregate;
+    }
+
+    /**
+     * Applies the options which configure the aggregation itself through the settings shared by the sync and reactive drivers.
+     *
+     * @param target the aggregation to configure
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public void apply(AggregateTarget target) {
+        target.allowDiskUse(allowDiskUse)
                 .bypassDocumentValidation(bypassDocumentValidation);
         if (batchSize != null) {
-            aggregate.batchSize(batchSize);
+            target.batchSize(batchSize);
         }
         if (collation != null) {
-            aggregate.collation(collation);
+            target.collation(collation);
         }
         if (maxTimeMS != null) {
-            aggregate.maxTime(maxTime(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+            target.maxTime(maxTime(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
         }
         if (hint != null) {
-            aggregate.hint(hint);
+            target.hint(hint);
         }
-
-        return aggregate;
     }
 
     /**
@@ -0,0 +1,22 @@
+package dev.morphia.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Stores an {@code int[]}, {@code long[]}, {@code float[]}, or {@code double[]} property as a single binary value of little-endian
+ * packed elements rather than as a BSON array. This makes for considerably smaller documents and faster reads for large numeric arrays
+ * such as embeddings or time series at the cost of being able to query the individual elements on the server.
+ * <p>
+ * Values stored as a BSON array, e.g. before this annotation was added, are still read.
+ *
+ * @since 3.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface Packed {
+}
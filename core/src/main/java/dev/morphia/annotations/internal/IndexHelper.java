@@ -9,6 +9,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexModel;
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.Collation;
@@ -186,10 +187,9 @@ public final class IndexHelper {
      */
     @MorphiaInternal
     public void createIndex(MongoCollection<?> collection, EntityModel model) {
-        if (!model.isInterface() && !model.isAbstract()) {
-            for (Index index : collectIndexes(model, Collections.emptyList())) {
-                createIndex(collection, model, index);
-            }
+        List<IndexModel> indexes = indexModels(model);
+        if (!indexes.isEmpty()) {
+            collection.createIndexes(indexes);
         }
     }
 
@@ -199,11 +199,28 @@ public final class IndexHelper {
      * @param index
      */
     public void createIndex(MongoCollection<?> collection, EntityModel entityModel, Index index) {
-        Document keys = calculateKeys(entityModel, index);
-        com.mongodb.client.model.IndexOptions indexOptions = convert(index.options());
-        calculateWeights(index, indexOptions);
+        IndexModel model = indexModel(entityModel, index);
+        collection.createIndex(model.getKeys(), model.getOptions());
+    }
 
-        collection.createIndex(keys, indexOptions);
+    /**
+     * Converts the index definitions of a model in to the form the driver uses.
+     *
+     * @param model the model
+     * @return the indexes or an empty list if the model is abstract or an interface
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public List<IndexModel> indexModels(EntityModel model) {
+        List<IndexModel> indexes = new ArrayList<>();
+        if (!model.isInterface() && !model.isAbstract()) {
+            for (Index index : collectIndexes(model, Collections.emptyList())) {
+                indexes.add(indexModel(model, index));
+            }
+        }
+        return indexes;
     }
 
     /**
@@ -220,6 +237,14 @@ public final class IndexHelper {
         return new PathTarget(mapper, entityModel, path, !options.disableValidation()).translatedPath();
     }
 
+    private IndexModel indexModel(EntityModel entityModel, Index index) {
+        Document keys = calculateKeys(entityModel, index);
+        com.mongodb.client.model.IndexOptions indexOptions = convert(index.options());
+        calculateWeights(index, indexOptions);
+
+        return new IndexModel(keys, indexOptions);
+    }
+
     private void calculateWeights(Index index, com.mongodb.client.model.IndexOptions indexOptions) {
         Document weights = new Document();
         for (Field field : index.fields()) {
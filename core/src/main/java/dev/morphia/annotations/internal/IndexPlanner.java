@@ -0,0 +1,199 @@
+package dev.morphia.annotations.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Collation;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+/**
+ * Applies the indexes defined on a set of models with as few round trips as possible. The existing indexes of each collection are
+ * listed once and only those which are missing are created, all with a single {@code createIndexes} command per collection. An existing
+ * index only counts as present if its keys and its unique, sparse, TTL, partial filter and collation options match. Otherwise the index is
+ * sent along with the others so that the server reports the conflict, e.g. {@code IndexOptionsConflict}. When more than one collection is
+ * involved, the collections are processed concurrently on a bounded pool of threads.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class IndexPlanner {
+    /**
+     * The most collections processed at once. Index builds run on the server so this bounds the load put on it rather than on the client.
+     */
+    private static final int MAX_THREADS = 8;
+    private static final String TEXT = "text";
+
+    private final MorphiaDatastore datastore;
+    private final IndexHelper indexHelper;
+
+    /**
+     * @param datastore the datastore to use
+     */
+    public IndexPlanner(MorphiaDatastore datastore) {
+        this.datastore = datastore;
+        indexHelper = new IndexHelper(datastore.getMapper());
+    }
+
+    /**
+     * Creates any indexes missing for the given models.
+     *
+     * @param models the models whose indexes should be applied
+     * @return what was done
+     */
+    public IndexReport apply(Collection<EntityModel> models) {
+        long start = System.nanoTime();
+        Map<String, CollectionPlan> plans = plan(models);
+        Map<String, IndexReport.CollectionReport> reports = new LinkedHashMap<>();
+        if (plans.size() < 2) {
+            plans.forEach((name, plan) -> reports.put(name, plan.apply()));
+            return new IndexReport(reports, System.nanoTime() - start);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(plans.size(), MAX_THREADS), runnable -> {
+            Thread thread = new Thread(runnable, "morphia-indexes");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Map<String, CompletableFuture<IndexReport.CollectionReport>> pending = new LinkedHashMap<>();
+            plans.forEach((name, plan) -> pending.put(name, CompletableFuture.supplyAsync(plan::apply, executor)));
+            for (Entry<String, CompletableFuture<IndexReport.CollectionReport>> entry : pending.entrySet()) {
+                reports.put(entry.getKey(), entry.getValue().join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+        return new IndexReport(reports, System.nanoTime() - start);
+    }
+
+    /**
+     * Generates the name the server gives an index when none is specified.
+     *
+     * @param keys the index keys
+     * @return the name
+     */
+    public static String indexName(Document keys) {
+        StringJoiner name = new StringJoiner("_");
+        keys.forEach((key, value) -> name.add(key + "_" + (value instanceof Number
+                ? String.valueOf(((Number) value).intValue())
+                : String.valueOf(value).replace(' ', '_'))));
+        return name.toString();
+    }
+
+    private Map<String, CollectionPlan> plan(Collection<EntityModel> models) {
+        Map<String, CollectionPlan> plans = new LinkedHashMap<>();
+        for (EntityModel model : models) {
+            List<IndexModel> indexes = indexHelper.indexModels(model);
+            if (!indexes.isEmpty()) {
+                plans.computeIfAbsent(model.collectionName(), name -> new CollectionPlan(datastore.getCollection(model.getType())))
+                        .add(indexes);
+            }
+        }
+        return plans;
+    }
+
+    private static class CollectionPlan {
+        private final MongoCollection<?> collection;
+        private final Map<String, IndexModel> indexes = new LinkedHashMap<>();
+
+        CollectionPlan(MongoCollection<?> collection) {
+            this.collection = collection;
+        }
+
+        void add(List<IndexModel> models) {
+            for (IndexModel model : models) {
+                Document keys = (Document) model.getKeys();
+                String name = model.getOptions().getName();
+                indexes.putIfAbsent(name != null ? name : indexName(keys), model);
+            }
+        }
+
+        IndexReport.CollectionReport apply() {
+            Map<String, Document> existing = new HashMap<>();
+            for (Document index : collection.listIndexes()) {
+                existing.put(index.getString("name"), index);
+            }
+            List<IndexModel> missing = new ArrayList<>();
+            List<String> created = new ArrayList<>();
+            List<String> present = new ArrayList<>();
+            for (Entry<String, IndexModel> entry : indexes.entrySet()) {
+                Document current = existing.get(entry.getKey());
+                Document keys = (Document) entry.getValue().getKeys();
+                // text indexes are listed with the server's internal keys so those can only be matched by name
+                if (current != null && (keys.containsValue(TEXT) || keys.equals(current.get("key", Document.class)))
+                        && matches(entry.getValue().getOptions(), current)) {
+                    present.add(entry.getKey());
+                } else {
+                    missing.add(entry.getValue());
+                    created.add(entry.getKey());
+                }
+            }
+            if (!missing.isEmpty()) {
+                collection.createIndexes(missing);
+            }
+            return new IndexReport.CollectionReport(created, present);
+        }
+
+        /**
+         * Compares the options which change an index's behavior. Anything not matching is resent so a false mismatch only costs a
+         * no-op on the server.
+         */
+        private boolean matches(IndexOptions options, Document current) {
+            Long expireAfter = options.getExpireAfter(TimeUnit.SECONDS);
+            Number currentExpireAfter = current.get("expireAfterSeconds", Number.class);
+            return options.isUnique() == current.getBoolean("unique", false)
+                    && options.isSparse() == current.getBoolean("sparse", false)
+                    && (expireAfter == null ? currentExpireAfter == null
+                            : currentExpireAfter != null && expireAfter == currentExpireAfter.longValue())
+                    && matches(options.getPartialFilterExpression(), current.get("partialFilterExpression", Document.class))
+                    && matches(options.getCollation(), current.get("collation", Document.class));
+        }
+
+        private boolean matches(@Nullable Bson expected, @Nullable Document current) {
+            if (expected == null || current == null) {
+                return expected == null && current == null;
+            }
+            return expected.toBsonDocument(BsonDocument.class, collection.getCodecRegistry())
+                    .equals(current.toBsonDocument(BsonDocument.class, collection.getCodecRegistry()));
+        }
+
+        private boolean matches(@Nullable Collation expected, @Nullable Document current) {
+            if (expected == null || current == null) {
+                return expected == null && current == null;
+            }
+            // the server lists every setting of a collation so only those which were requested are compared
+            BsonDocument listed = current.toBsonDocument(BsonDocument.class, collection.getCodecRegistry());
+            BsonDocument requested = expected.asDocument();
+            return requested.entrySet().stream()
+                    .allMatch(setting -> setting.getValue().equals(listed.get(setting.getKey())));
+        }
+    }
+}
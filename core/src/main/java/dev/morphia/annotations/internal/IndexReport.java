@@ -0,0 +1,92 @@
+package dev.morphia.annotations.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes what an {@link IndexPlanner} did.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class IndexReport {
+    private final Map<String, CollectionReport> collections;
+    private final long nanos;
+
+    IndexReport(Map<String, CollectionReport> collections, long nanos) {
+        this.collections = collections;
+        this.nanos = nanos;
+    }
+
+    /**
+     * @return the report for each collection with indexes defined keyed by collection name
+     */
+    public Map<String, CollectionReport> collections() {
+        return collections;
+    }
+
+    /**
+     * @return the number of indexes created
+     */
+    public int created() {
+        return collections.values().stream()
+                .mapToInt(report -> report.created().size())
+                .sum();
+    }
+
+    /**
+     * @return the number of indexes which already existed
+     */
+    public int existing() {
+        return collections.values().stream()
+                .mapToInt(report -> report.existing().size())
+                .sum();
+    }
+
+    /**
+     * @return the time taken in milliseconds
+     */
+    public long elapsed() {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "IndexReport{collections=%s, elapsed=%dms}".formatted(collections, elapsed());
+    }
+
+    /**
+     * Describes the indexes applied to one collection.
+     */
+    public static class CollectionReport {
+        private final List<String> created;
+        private final List<String> existing;
+
+        CollectionReport(List<String> created, List<String> existing) {
+            this.created = created;
+            this.existing = existing;
+        }
+
+        /**
+         * @return the names of the indexes created
+         */
+        public List<String> created() {
+            return created;
+        }
+
+        /**
+         * @return the names of the indexes which already existed
+         */
+        public List<String> existing() {
+            return existing;
+        }
+
+        @Override
+        public String toString() {
+            return "{created=%s, existing=%s}".formatted(created, existing);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package dev.morphia.bulk;
+
+import java.util.List;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.sofia.Sofia;
+
+/**
+ * Thrown when any of the requests in a bulk write fail. The failures are mapped back to the requests, and entities, which caused them.
+ * Versioned entities which were not written have their versions restored.
+ *
+ * @since 3.0
+ */
+public class BulkWriteException extends RuntimeException {
+    private final BulkWriteResult result;
+    private final List<WriteFailure> failures;
+
+    /**
+     * @param result   the results of the writes which were applied
+     * @param failures the failed requests
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public BulkWriteException(BulkWriteResult result, List<WriteFailure> failures) {
+        super(Sofia.bulkWriteFailed(failures.size(), failures));
+        this.result = result;
+        this.failures = List.copyOf(failures);
+    }
+
+    /**
+     * @return the failed requests
+     */
+    public List<WriteFailure> failures() {
+        return failures;
+    }
+
+    /**
+     * @return the results of the writes which were applied
+     */
+    public BulkWriteResult result() {
+        return result;
+    }
+}
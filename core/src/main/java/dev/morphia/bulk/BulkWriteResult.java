@@ -0,0 +1,94 @@
+package dev.morphia.bulk;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+/**
+ * The combined results of a bulk write across every collection written to.
+ *
+ * @since 3.0
+ */
+public class BulkWriteResult {
+    private final Map<String, com.mongodb.bulk.BulkWriteResult> results = new LinkedHashMap<>();
+
+    /**
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public BulkWriteResult() {
+    }
+
+    /**
+     * @param namespace the namespace written to
+     * @param result    the driver's result for that namespace
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public void add(String namespace, com.mongodb.bulk.BulkWriteResult result) {
+        results.put(namespace, result);
+    }
+
+    /**
+     * @return the driver results keyed by the full namespace of the collection written to
+     */
+    public Map<String, com.mongodb.bulk.BulkWriteResult> results() {
+        return Collections.unmodifiableMap(results);
+    }
+
+    /**
+     * @return true if every write was acknowledged
+     */
+    public boolean wasAcknowledged() {
+        return results.values().stream().allMatch(com.mongodb.bulk.BulkWriteResult::wasAcknowledged);
+    }
+
+    /**
+     * @return the number of documents deleted
+     */
+    public int getDeletedCount() {
+        return sum(com.mongodb.bulk.BulkWriteResult::getDeletedCount);
+    }
+
+    /**
+     * @return the number of documents inserted
+     */
+    public int getInsertedCount() {
+        return sum(com.mongodb.bulk.BulkWriteResult::getInsertedCount);
+    }
+
+    /**
+     * @return the number of documents matched by updates and replacements
+     */
+    public int getMatchedCount() {
+        return sum(com.mongodb.bulk.BulkWriteResult::getMatchedCount);
+    }
+
+    /**
+     * @return the number of documents modified by updates and replacements
+     */
+    public int getModifiedCount() {
+        return sum(com.mongodb.bulk.BulkWriteResult::getModifiedCount);
+    }
+
+    /**
+     * @return the number of documents upserted
+     */
+    public int getUpsertedCount() {
+        return sum(result -> result.getUpserts().size());
+    }
+
+    private int sum(ToIntFunction<com.mongodb.bulk.BulkWriteResult> count) {
+        return results.values().stream().mapToInt(count).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkWriteResult{" + results + "}";
+    }
+}
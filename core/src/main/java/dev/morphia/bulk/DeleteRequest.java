@@ -0,0 +1,73 @@
+package dev.morphia.bulk;
+
+import java.util.StringJoiner;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.query.Query;
+
+/**
+ * Deletes either a single entity, matched by its ID and shard keys, or the documents matching a query.
+ *
+ * @param <T> the entity type
+ * @since 3.0
+ */
+public class DeleteRequest<T> extends WriteRequest<T> {
+    @Nullable
+    private final T entity;
+    @Nullable
+    private final Query<T> query;
+    private boolean multi;
+
+    DeleteRequest(@Nullable T entity, @Nullable Query<T> query) {
+        this.entity = entity;
+        this.query = query;
+    }
+
+    @Nullable
+    @Override
+    public T entity() {
+        return entity;
+    }
+
+    /**
+     * Deletes every document matching the query rather than just the first. This has no effect when deleting an entity.
+     *
+     * @param multi true if every matching document should be deleted
+     * @return this
+     */
+    public DeleteRequest<T> multi(boolean multi) {
+        this.multi = multi;
+        return this;
+    }
+
+    /**
+     * @return true if every matching document should be deleted
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public boolean isMulti() {
+        return multi;
+    }
+
+    /**
+     * @return the query or null if an entity is being deleted
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    @Nullable
+    public Query<T> query() {
+        return query;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", DeleteRequest.class.getSimpleName() + "[", "]")
+                .add(entity != null ? "entity=" + entity : "query=" + query)
+                .add("multi=" + multi)
+                .toString();
+    }
+}
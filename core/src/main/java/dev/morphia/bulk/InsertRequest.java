@@ -0,0 +1,29 @@
+package dev.morphia.bulk;
+
+import java.util.StringJoiner;
+
+/**
+ * Inserts an entity.
+ *
+ * @param <T> the entity type
+ * @since 3.0
+ */
+public class InsertRequest<T> extends WriteRequest<T> {
+    private final T entity;
+
+    InsertRequest(T entity) {
+        this.entity = entity;
+    }
+
+    @Override
+    public T entity() {
+        return entity;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", InsertRequest.class.getSimpleName() + "[", "]")
+                .add("entity=" + entity)
+                .toString();
+    }
+}
@@ -0,0 +1,55 @@
+package dev.morphia.bulk;
+
+import java.util.StringJoiner;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+/**
+ * Replaces the document matching an entity's ID, and shard keys if any, with the entity. Versioned entities are only replaced if the
+ * stored version matches the entity's version.
+ *
+ * @param <T> the entity type
+ * @since 3.0
+ */
+public class ReplaceRequest<T> extends WriteRequest<T> {
+    private final T entity;
+    private boolean upsert;
+
+    ReplaceRequest(T entity) {
+        this.entity = entity;
+    }
+
+    @Override
+    public T entity() {
+        return entity;
+    }
+
+    /**
+     * Inserts the entity if no matching document exists. This is ignored for versioned entities.
+     *
+     * @param upsert true if the entity should be inserted when no document matches
+     * @return this
+     */
+    public ReplaceRequest<T> upsert(boolean upsert) {
+        this.upsert = upsert;
+        return this;
+    }
+
+    /**
+     * @return true if the entity should be inserted when no document matches
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public boolean isUpsert() {
+        return upsert;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", ReplaceRequest.class.getSimpleName() + "[", "]")
+                .add("entity=" + entity)
+                .add("upsert=" + upsert)
+                .toString();
+    }
+}
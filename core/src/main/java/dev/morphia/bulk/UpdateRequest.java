@@ -0,0 +1,102 @@
+package dev.morphia.bulk;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.query.Query;
+import dev.morphia.query.updates.UpdateOperator;
+
+/**
+ * Updates the documents matching a query.
+ *
+ * @param <T> the entity type
+ * @since 3.0
+ */
+public class UpdateRequest<T> extends WriteRequest<T> {
+    private final Query<T> query;
+    private final List<UpdateOperator> updates;
+    private boolean multi;
+    private boolean upsert;
+
+    UpdateRequest(Query<T> query, List<UpdateOperator> updates) {
+        this.query = query;
+        this.updates = updates;
+    }
+
+    @Nullable
+    @Override
+    public T entity() {
+        return null;
+    }
+
+    /**
+     * @param multi true if every matching document should be updated rather than just the first
+     * @return this
+     */
+    public UpdateRequest<T> multi(boolean multi) {
+        this.multi = multi;
+        return this;
+    }
+
+    /**
+     * @param upsert true if a new document should be created when no document matches
+     * @return this
+     */
+    public UpdateRequest<T> upsert(boolean upsert) {
+        this.upsert = upsert;
+        return this;
+    }
+
+    /**
+     * @return true if every matching document should be updated
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public boolean isMulti() {
+        return multi;
+    }
+
+    /**
+     * @return true if a new document should be created when no document matches
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public boolean isUpsert() {
+        return upsert;
+    }
+
+    /**
+     * @return the query
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public Query<T> query() {
+        return query;
+    }
+
+    /**
+     * @return the updates to apply
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public List<UpdateOperator> updates() {
+        return updates;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", UpdateRequest.class.getSimpleName() + "[", "]")
+                .add("query=" + query)
+                .add("updates=" + updates)
+                .add("multi=" + multi)
+                .add("upsert=" + upsert)
+                .toString();
+    }
+}
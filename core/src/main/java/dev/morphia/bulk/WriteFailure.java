@@ -0,0 +1,72 @@
+package dev.morphia.bulk;
+
+import java.util.StringJoiner;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+/**
+ * Describes a request in a bulk write which failed.
+ *
+ * @since 3.0
+ */
+public class WriteFailure {
+    private final WriteRequest<?> request;
+    @Nullable
+    private final BulkWriteError error;
+    private final String message;
+
+    /**
+     * @param request the failed request
+     * @param error   the server's error, if any
+     * @param message the failure message
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public WriteFailure(WriteRequest<?> request, @Nullable BulkWriteError error, String message) {
+        this.request = request;
+        this.error = error;
+        this.message = message;
+    }
+
+    /**
+     * @return the entity of the failed request or null if the request applied to a query
+     */
+    @Nullable
+    public Object entity() {
+        return request.entity();
+    }
+
+    /**
+     * @return the error reported by the server or null if the failure was detected by Morphia, e.g. a version mismatch
+     */
+    @Nullable
+    public BulkWriteError error() {
+        return error;
+    }
+
+    /**
+     * @return the failure message
+     */
+    public String message() {
+        return message;
+    }
+
+    /**
+     * @return the failed request
+     */
+    public WriteRequest<?> request() {
+        return request;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", WriteFailure.class.getSimpleName() + "[", "]")
+                .add("request=" + request)
+                .add("message='" + message + "'")
+                .toString();
+    }
+}
@@ -0,0 +1,21 @@
+package dev.morphia.bulk;
+
+import com.mongodb.lang.Nullable;
+
+/**
+ * A single write to apply as part of a bulk write. Requests are created via the factory methods on {@link WriteRequests}.
+ *
+ * @param <T> the entity type
+ * @see dev.morphia.Datastore#bulkWrite(java.util.List, dev.morphia.BulkWriteOptions)
+ * @since 3.0
+ */
+public abstract class WriteRequest<T> {
+    WriteRequest() {
+    }
+
+    /**
+     * @return the entity being written or null if this request applies to the results of a query
+     */
+    @Nullable
+    public abstract T entity();
+}
@@ -0,0 +1,73 @@
+package dev.morphia.bulk;
+
+import dev.morphia.query.Query;
+import dev.morphia.query.updates.UpdateOperator;
+
+import static dev.morphia.mapping.codec.CodecHelper.coalesce;
+
+/**
+ * Defines the writes which can be applied via {@link dev.morphia.Datastore#bulkWrite(java.util.List, dev.morphia.BulkWriteOptions)}.
+ *
+ * @since 3.0
+ */
+public final class WriteRequests {
+    private WriteRequests() {
+    }
+
+    /**
+     * Deletes an entity by its ID
+     *
+     * @param entity the entity to delete
+     * @param <T>    the entity type
+     * @return the request
+     */
+    public static <T> DeleteRequest<T> delete(T entity) {
+        return new DeleteRequest<>(entity, null);
+    }
+
+    /**
+     * Deletes the first document matching a query or all of them if {@link DeleteRequest#multi(boolean)} is set.
+     *
+     * @param query the query to match
+     * @param <T>   the entity type
+     * @return the request
+     */
+    public static <T> DeleteRequest<T> delete(Query<T> query) {
+        return new DeleteRequest<>(null, query);
+    }
+
+    /**
+     * Inserts an entity
+     *
+     * @param entity the entity to insert
+     * @param <T>    the entity type
+     * @return the request
+     */
+    public static <T> InsertRequest<T> insert(T entity) {
+        return new InsertRequest<>(entity);
+    }
+
+    /**
+     * Replaces an entity
+     *
+     * @param entity the entity to replace
+     * @param <T>    the entity type
+     * @return the request
+     */
+    public static <T> ReplaceRequest<T> replace(T entity) {
+        return new ReplaceRequest<>(entity);
+    }
+
+    /**
+     * Updates the first document matching a query or all of them if {@link UpdateRequest#multi(boolean)} is set.
+     *
+     * @param query   the query to match
+     * @param first   the first update to apply
+     * @param updates any other updates to apply
+     * @param <T>     the entity type
+     * @return the request
+     */
+    public static <T> UpdateRequest<T> update(Query<T> query, UpdateOperator first, UpdateOperator... updates) {
+        return new UpdateRequest<>(query, coalesce(first, updates));
+    }
+}
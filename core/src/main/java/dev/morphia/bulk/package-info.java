@@ -0,0 +1,7 @@
+/**
+ * Defines the requests and results of bulk writes.
+ */
+@NonNullApi
+package dev.morphia.bulk;
+
+import com.mongodb.lang.NonNullApi;
@@ -0,0 +1,17 @@
+package dev.morphia.config;
+
+import java.util.concurrent.Executor;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+/**
+ * @hidden
+ * @morphia.internal
+ */
+@MorphiaInternal
+public class ExecutorConverter extends ClassNameConverter<Executor> {
+    @Override
+    public Executor convert(String value) {
+        return (Executor) super.convert(value);
+    }
+}
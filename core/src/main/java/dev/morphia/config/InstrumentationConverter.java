@@ -0,0 +1,16 @@
+package dev.morphia.config;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.instrumentation.Instrumentation;
+
+/**
+ * @hidden
+ * @morphia.internal
+ */
+@MorphiaInternal
+public class InstrumentationConverter extends ClassNameConverter<Instrumentation> {
+    @Override
+    public Instrumentation convert(String value) {
+        return (Instrumentation) super.convert(value);
+    }
+}
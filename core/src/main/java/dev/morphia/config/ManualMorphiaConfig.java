@@ -3,9 +3,12 @@ package dev.morphia.config;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import com.mongodb.lang.Nullable;
 
+import dev.morphia.instrumentation.Instrumentation;
+import dev.morphia.mapping.AccessorStrategy;
 import dev.morphia.mapping.DateStorage;
 import dev.morphia.mapping.DiscriminatorFunction;
 import dev.morphia.mapping.NamingStrategy;
@@ -15,6 +18,7 @@ import dev.morphia.query.QueryFactory;
 
 import org.bson.codecs.configuration.CodecProvider;
 
+import static dev.morphia.mapping.AccessorStrategy.REFLECTION;
 import static dev.morphia.mapping.DateStorage.UTC;
 import static dev.morphia.mapping.DiscriminatorFunction.simpleName;
 import static dev.morphia.mapping.NamingStrategy.camelCase;
@@ -28,9 +32,11 @@ import static java.lang.Boolean.FALSE;
  */
 @SuppressWarnings("removal")
 public class ManualMorphiaConfig implements MorphiaConfig {
+    AccessorStrategy accessorStrategy;
     Boolean applyCaps;
     Boolean applyDocumentValidations;
     Boolean applyIndexes;
+    Boolean batchReferences;
     String database;
     Optional<CodecProvider> codecProvider;
     NamingStrategy collectionNaming;
@@ -39,12 +45,16 @@ public class ManualMorphiaConfig implements MorphiaConfig {
     String discriminatorKey;
     Boolean enablePolymorphicQueries;
     Boolean ignoreFinals;
+    Optional<Instrumentation> instrumentation;
     List<String> packages;
+    Boolean parallelReferences;
     PropertyDiscovery propertyDiscovery;
     NamingStrategy propertyNaming;
     QueryFactory queryFactory;
+    Optional<Executor> referenceExecutor;
     Boolean storeEmpties;
     Boolean storeNulls;
+    Boolean trackChanges;
 
     /**
      * @hidden
@@ -56,9 +66,11 @@ public class ManualMorphiaConfig implements MorphiaConfig {
      * @hidden
      */
     protected ManualMorphiaConfig(MorphiaConfig base) {
+        accessorStrategy = base.accessorStrategy();
         applyCaps = base.applyCaps();
         applyDocumentValidations = base.applyDocumentValidations();
         applyIndexes = base.applyIndexes();
+        batchReferences = base.batchReferences();
         codecProvider = base.codecProvider();
         collectionNaming = base.collectionNaming();
         database = base.database();
@@ -67,12 +79,16 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         discriminatorKey = base.discriminatorKey();
         enablePolymorphicQueries = base.enablePolymorphicQueries();
         ignoreFinals = base.ignoreFinals();
+        instrumentation = base.instrumentation();
         packages = new ArrayList<>(base.packages());
+        parallelReferences = base.parallelReferences();
         propertyDiscovery = base.propertyDiscovery();
         propertyNaming = base.propertyNaming();
         queryFactory = base.queryFactory();
+        referenceExecutor = base.referenceExecutor();
         storeEmpties = base.storeEmpties();
         storeNulls = base.storeNulls();
+        trackChanges = base.trackChanges();
     }
 
     /**
@@ -90,6 +106,11 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         return new ManualMorphiaConfig(base);
     }
 
+    @Override
+    public AccessorStrategy accessorStrategy() {
+        return orDefault(accessorStrategy, REFLECTION);
+    }
+
     @Override
     public Boolean applyCaps() {
         return orDefault(applyCaps, FALSE);
@@ -104,6 +125,11 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         return orDefault(applyIndexes, FALSE);
     }
 
+    @Override
+    public Boolean batchReferences() {
+        return orDefault(batchReferences, FALSE);
+    }
+
     @Override
     public Optional<CodecProvider> codecProvider() {
         return orDefault(codecProvider, Optional.empty());
@@ -144,11 +170,21 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         return orDefault(ignoreFinals, FALSE);
     }
 
+    @Override
+    public Optional<Instrumentation> instrumentation() {
+        return orDefault(instrumentation, Optional.empty());
+    }
+
     @Override
     public List<String> packages() {
         return orDefault(packages, List.of());
     }
 
+    @Override
+    public Boolean parallelReferences() {
+        return orDefault(parallelReferences, FALSE);
+    }
+
     @Override
     public PropertyDiscovery propertyDiscovery() {
         return orDefault(propertyDiscovery, FIELDS);
@@ -164,6 +200,11 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         return orDefault(queryFactory, new DefaultQueryFactory());
     }
 
+    @Override
+    public Optional<Executor> referenceExecutor() {
+        return orDefault(referenceExecutor, Optional.empty());
+    }
+
     @Override
     public Boolean storeEmpties() {
         return orDefault(storeEmpties, FALSE);
@@ -174,15 +215,22 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         return orDefault(storeNulls, FALSE);
     }
 
+    @Override
+    public Boolean trackChanges() {
+        return orDefault(trackChanges, FALSE);
+    }
+
     @Override
     public String toString() {
-        return ("MorphiaConfig{applyCaps=%s, applyDocumentValidations=%s, applyIndexes=%s, database='%s', codecProvider=%s, " +
-                "collectionNaming=%s, dateStorage=%s, discriminator=%s, discriminatorKey='%s', enablePolymorphicQueries=%s, " +
-                "ignoreFinals=%s, packages=%s, propertyDiscovery=%s, propertyNaming=%s, queryFactory=%s, " +
-                "storeEmpties=%s, storeNulls=%s}").formatted(
-                        applyCaps(), applyDocumentValidations(), applyIndexes(), database(), codecProvider(), collectionNaming(),
-                        dateStorage(), discriminator(), discriminatorKey(), enablePolymorphicQueries(), ignoreFinals(), packages(),
-                        propertyDiscovery(), propertyNaming(), queryFactory(), storeEmpties(), storeNulls());
+        return ("MorphiaConfig{accessorStrategy=%s, applyCaps=%s, applyDocumentValidations=%s, applyIndexes=%s, batchReferences=%s, " +
+                "database='%s', codecProvider=%s, collectionNaming=%s, dateStorage=%s, discriminator=%s, discriminatorKey='%s', " +
+                "enablePolymorphicQueries=%s, ignoreFinals=%s, instrumentation=%s, packages=%s, parallelReferences=%s, " +
+                "propertyDiscovery=%s, propertyNaming=%s, queryFactory=%s, referenceExecutor=%s, storeEmpties=%s, storeNulls=%s, " +
+                "trackChanges=%s}").formatted(
+                        accessorStrategy(), applyCaps(), applyDocumentValidations(), applyIndexes(), batchReferences(), database(),
+                        codecProvider(), collectionNaming(), dateStorage(), discriminator(), discriminatorKey(), enablePolymorphicQueries(),
+                        ignoreFinals(), instrumentation(), packages(), parallelReferences(), propertyDiscovery(), propertyNaming(),
+                        queryFactory(), referenceExecutor(), storeEmpties(), storeNulls(), trackChanges());
     }
 
     protected <T> T orDefault(@Nullable T localValue, T defaultValue) {
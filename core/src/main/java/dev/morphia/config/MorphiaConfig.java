@@ -2,12 +2,15 @@ package dev.morphia.config;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.PossibleValues;
 import dev.morphia.annotations.Property;
 import dev.morphia.annotations.Validation;
 import dev.morphia.annotations.internal.MorphiaExperimental;
+import dev.morphia.instrumentation.Instrumentation;
+import dev.morphia.mapping.AccessorStrategy;
 import dev.morphia.mapping.DateStorage;
 import dev.morphia.mapping.DiscriminatorFunction;
 import dev.morphia.mapping.NamingStrategy;
@@ -87,6 +90,57 @@ public interface MorphiaConfig {
         return newConfig;
     }
 
+    /**
+     * Determines how mapped properties are read from and written to entities. Generated accessors are classes defined once per property
+     * at mapping time which read and write the field, or call the getter and setter, with ordinary bytecode instead of going through
+     * reflection. Final fields and types which can not be given a generated class fall back to reflection.
+     *
+     * @return the accessor strategy to use
+     * @see AccessorStrategy
+     * @since 3.0
+     */
+    @WithDefault("reflection")
+    AccessorStrategy accessorStrategy();
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig accessorStrategy(AccessorStrategy value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.accessorStrategy = value;
+        return newConfig;
+    }
+
+    /**
+     * Enables resolving non-lazy references once per cursor batch. The references of all the entities in a batch are gathered and
+     * fetched with one query per referenced collection rather than one query per entity. This can be overridden per query via
+     * {@link dev.morphia.query.FindOptions#batchReferences(boolean)}.
+     *
+     * @return true if references should be resolved per batch
+     * @since 3.0
+     */
+    @WithDefault("false")
+    Boolean batchReferences();
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig batchReferences(Boolean value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.batchReferences = value;
+        return newConfig;
+    }
+
     /**
      * The database name that Morphia should use. This entry is required to be present and is the only necessary configuration element
      * you need to provide as all the other entries have discernible default values.
@@ -331,6 +385,32 @@ public interface MorphiaConfig {
         return newConfig;
     }
 
+    /**
+     * Specifies the {@code Instrumentation} to report encoding, decoding, query translation, reference resolution and operation timings
+     * to. The value is the fully qualified name of a class with a no-arg constructor. When no instrumentation is given, none of these
+     * measurements are taken.
+     *
+     * @return the user configured Instrumentation
+     * @see dev.morphia.instrumentation.jfr.JfrInstrumentation
+     * @since 3.0
+     */
+    @WithConverter(InstrumentationConverter.class)
+    Optional<Instrumentation> instrumentation();
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig instrumentation(Instrumentation value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.instrumentation = Optional.of(value);
+        return newConfig;
+    }
+
     /**
      * Creates a new configuration based on the current one but updated to reflect the legacy configuration. This configuration is not
      * changed.
@@ -374,6 +454,32 @@ public interface MorphiaConfig {
         return newConfig;
     }
 
+    /**
+     * Enables fetching references which span several collections concurrently. When a reference list or map points in to more than
+     * one collection, the query against each collection is issued on the {@link #referenceExecutor()} and the results merged rather
+     * than waiting on each round trip in turn. References read through a session are always fetched sequentially.
+     *
+     * @return true if the collections should be queried concurrently
+     * @see #referenceExecutor()
+     * @since 3.0
+     */
+    @WithDefault("false")
+    Boolean parallelReferences();
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig parallelReferences(Boolean value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.parallelReferences = value;
+        return newConfig;
+    }
+
     /**
      * Determines how properties are discovered. The traditional value is by scanning for fields which involves a bit more reflective
      * work. Alternately, scanning can check for get/set method pairs to determine which class properties should be mapped.
@@ -451,6 +557,33 @@ public interface MorphiaConfig {
         return newConfig;
     }
 
+    /**
+     * Specifies the {@code Executor} used to query several referenced collections concurrently when {@link #parallelReferences()} is
+     * enabled. The value is the fully qualified name of a class with a no-arg constructor. If no executor is given, a virtual thread per
+     * query is used on JDK 21 and later while earlier JDKs fall back to querying each collection in turn. Any references found while
+     * decoding on one of the executor's threads are fetched on that same thread so a bounded executor can not deadlock waiting on itself.
+     *
+     * @return the user configured Executor
+     * @see #parallelReferences()
+     * @since 3.0
+     */
+    @WithConverter(ExecutorConverter.class)
+    Optional<Executor> referenceExecutor();
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig referenceExecutor(Executor value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.referenceExecutor = Optional.of(value);
+        return newConfig;
+    }
+
     /**
      * Instructs Morphia on how to handle empty Collections and Maps.
      *
@@ -495,6 +628,30 @@ public interface MorphiaConfig {
         return newConfig;
     }
 
+    /**
+     * Enables change tracking. When enabled, entities loaded from the database keep a snapshot of their encoded state so that
+     * {@code merge} and {@code save} can send only the fields that have changed instead of the entire document.
+     *
+     * @return true if loaded entities should be tracked
+     * @since 3.0
+     */
+    @WithDefault("false")
+    Boolean trackChanges();
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig trackChanges(Boolean value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.trackChanges = value;
+        return newConfig;
+    }
+
     /**
      * Converts this instance in to the format needed for a configuration file
      *
@@ -0,0 +1,70 @@
+package dev.morphia.instrumentation;
+
+import dev.morphia.config.MorphiaConfig;
+
+/**
+ * Receives measurements of the work Morphia does on top of the driver. An implementation is registered with
+ * {@link MorphiaConfig#instrumentation()} and is called synchronously on the thread doing the work so implementations should return
+ * quickly. Every method does nothing by default so implementations only need to override what they are interested in. When no
+ * instrumentation is configured, none of these measurements are taken.
+ *
+ * @see dev.morphia.instrumentation.jfr.JfrInstrumentation
+ * @see dev.morphia.instrumentation.micrometer.MicrometerInstrumentation
+ * @since 3.0
+ */
+public interface Instrumentation {
+    /**
+     * Called after an entity is encoded. Embedded values are included in the measurement of the entity containing them.
+     *
+     * @param type       the type of the entity
+     * @param collection the collection the type is mapped to
+     * @param nanos      the time taken
+     * @param bytes      the size of the encoded document or -1 if the writer used does not expose it
+     */
+    default void encoded(Class<?> type, String collection, long nanos, long bytes) {
+    }
+
+    /**
+     * Called after an entity is decoded. Embedded values and any references resolved while decoding are included in the measurement of
+     * the entity containing them.
+     *
+     * @param type       the type of the entity
+     * @param collection the collection the type is mapped to
+     * @param nanos      the time taken
+     * @param bytes      the size of the decoded document or -1 if the reader used does not expose it
+     */
+    default void decoded(Class<?> type, String collection, long nanos, long bytes) {
+    }
+
+    /**
+     * Called after the filters of a query are translated in to the document sent to the server.
+     *
+     * @param type  the type being queried or {@code Object} if the query is not against a mapped type
+     * @param nanos the time taken
+     */
+    default void filtered(Class<?> type, long nanos) {
+    }
+
+    /**
+     * Called after a query fetching referenced entities completes.
+     *
+     * @param collection the collection queried
+     * @param requested  the number of IDs requested
+     * @param resolved   the number of entities found
+     * @param nanos      the time taken
+     */
+    default void referencesResolved(String collection, int requested, int resolved, long nanos) {
+    }
+
+    /**
+     * Called after an operation sent to the server completes. Queries returning a cursor are not reported as their results are read
+     * lazily but the time spent decoding those results is reported through {@link #decoded(Class, String, long, long)}.
+     *
+     * @param operation  the name of the operation, e.g. {@code insertOne}
+     * @param collection the collection the operation targets
+     * @param nanos      the time taken including the round trip to the server
+     * @param failed     true if the operation threw an exception
+     */
+    default void operation(String operation, String collection, long nanos, boolean failed) {
+    }
+}
@@ -0,0 +1,192 @@
+package dev.morphia.instrumentation;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.client.result.UpdateResult;
+
+import dev.morphia.BulkWriteOptions;
+import dev.morphia.DeleteOptions;
+import dev.morphia.InsertManyOptions;
+import dev.morphia.InsertOneOptions;
+import dev.morphia.ModifyOptions;
+import dev.morphia.MorphiaDatastore.DatastoreOperations;
+import dev.morphia.ReplaceOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.query.CountOptions;
+import dev.morphia.query.FindAndDeleteOptions;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+/**
+ * Times each operation of another {@link DatastoreOperations} and reports it to an {@link Instrumentation}.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class InstrumentedOperations extends DatastoreOperations {
+    private static final String ADMIN = "admin";
+    private final DatastoreOperations delegate;
+    private final Instrumentation instrumentation;
+
+    /**
+     * Creates the wrapper
+     *
+     * @param delegate        the operations to time
+     * @param instrumentation the instrumentation to report to
+     */
+    public InstrumentedOperations(DatastoreOperations delegate, Instrumentation instrumentation) {
+        this.delegate = delegate;
+        this.instrumentation = instrumentation;
+    }
+
+    @Override
+    public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
+        return time("countDocuments", collection, () -> delegate.countDocuments(collection, query, options));
+    }
+
+    @Override
+    public <T> long countDocuments(MongoCollection<T> collection, Document query, CountOptions options) {
+        return time("countDocuments", collection, () -> delegate.countDocuments(collection, query, options));
+    }
+
+    @Override
+    public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson query, DeleteOptions options) {
+        return time("deleteMany", collection, () -> delegate.deleteMany(collection, query, options));
+    }
+
+    @Override
+    public <T> DeleteResult deleteMany(MongoCollection<T> collection, Document query, DeleteOptions options) {
+        return time("deleteMany", collection, () -> delegate.deleteMany(collection, query, options));
+    }
+
+    @Override
+    public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson query, DeleteOptions options) {
+        return time("deleteOne", collection, () -> delegate.deleteOne(collection, query, options));
+    }
+
+    @Override
+    public <T> DeleteResult deleteOne(MongoCollection<T> collection, Document query, DeleteOptions options) {
+        return time("deleteOne", collection, () -> delegate.deleteOne(collection, query, options));
+    }
+
+    /**
+     * The results are read lazily so there is nothing to time here. Reading them is measured as they are decoded.
+     */
+    @Override
+    public <T> FindIterable<T> find(MongoCollection<T> collection, Document query) {
+        return delegate.find(collection, query);
+    }
+
+    @Override
+    public <T> T findOneAndDelete(MongoCollection<T> collection, Bson query, FindAndDeleteOptions options) {
+        return time("findOneAndDelete", collection, () -> delegate.findOneAndDelete(collection, query, options));
+    }
+
+    @Override
+    public <T> T findOneAndDelete(MongoCollection<T> collection, Document query, FindAndDeleteOptions options) {
+        return time("findOneAndDelete", collection, () -> delegate.findOneAndDelete(collection, query, options));
+    }
+
+    @Override
+    public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Document update, ModifyOptions options) {
+        return time("findOneAndUpdate", collection, () -> delegate.findOneAndUpdate(collection, query, update, options));
+    }
+
+    @Override
+    public <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options) {
+        return time("findOneAndUpdate", collection, () -> delegate.findOneAndUpdate(collection, query, update, options));
+    }
+
+    @Override
+    public <T> com.mongodb.bulk.BulkWriteResult bulkWrite(MongoCollection<T> collection,
+            List<? extends WriteModel<? extends T>> requests, BulkWriteOptions options) {
+        return time("bulkWrite", collection, () -> delegate.bulkWrite(collection, requests, options));
+    }
+
+    @Override
+    public <T> InsertManyResult insertMany(MongoCollection<T> collection, List<T> list, InsertManyOptions options) {
+        return time("insertMany", collection, () -> delegate.insertMany(collection, list, options));
+    }
+
+    @Override
+    public <T> InsertOneResult insertOne(MongoCollection<T> collection, T entity, InsertOneOptions options) {
+        return time("insertOne", collection, () -> delegate.insertOne(collection, entity, options));
+    }
+
+    @Override
+    public <T> UpdateResult replaceOne(MongoCollection<T> collection, T entity, Document filter, ReplaceOptions options) {
+        return time("replaceOne", collection, () -> delegate.replaceOne(collection, entity, filter, options));
+    }
+
+    @Override
+    public Document runCommand(Document command) {
+        return time("runCommand", ADMIN, () -> delegate.runCommand(command));
+    }
+
+    @Override
+    public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Document updates, UpdateOptions options) {
+        return time("updateMany", collection, () -> delegate.updateMany(collection, query, updates, options));
+    }
+
+    @Override
+    public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates, UpdateOptions options) {
+        return time("updateMany", collection, () -> delegate.updateMany(collection, query, updates, options));
+    }
+
+    @Override
+    public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<Document> updates, UpdateOptions options) {
+        return time("updateMany", collection, () -> delegate.updateMany(collection, query, updates, options));
+    }
+
+    @Override
+    public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates, UpdateOptions options) {
+        return time("updateMany", collection, () -> delegate.updateMany(collection, query, updates, options));
+    }
+
+    @Override
+    public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Document updates, UpdateOptions options) {
+        return time("updateOne", collection, () -> delegate.updateOne(collection, query, updates, options));
+    }
+
+    @Override
+    public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates, UpdateOptions options) {
+        return time("updateOne", collection, () -> delegate.updateOne(collection, query, updates, options));
+    }
+
+    @Override
+    public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<Document> updates, UpdateOptions options) {
+        return time("updateOne", collection, () -> delegate.updateOne(collection, query, updates, options));
+    }
+
+    @Override
+    public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates, UpdateOptions options) {
+        return time("updateOne", collection, () -> delegate.updateOne(collection, query, updates, options));
+    }
+
+    private <R> R time(String operation, MongoCollection<?> collection, Supplier<R> action) {
+        return time(operation, collection.getNamespace().getCollectionName(), action);
+    }
+
+    private <R> R time(String operation, String collection, Supplier<R> action) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            R result = action.get();
+            failed = false;
+            return result;
+        } finally {
+            instrumentation.operation(operation, collection, System.nanoTime() - start, failed);
+        }
+    }
+}
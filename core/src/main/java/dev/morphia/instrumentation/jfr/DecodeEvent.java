@@ -0,0 +1,36 @@
+package dev.morphia.instrumentation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Recorded when an entity is decoded.
+ *
+ * @since 3.0
+ */
+@Name("dev.morphia.Decode")
+@Label("Entity Decode")
+@Category("Morphia")
+@StackTrace(false)
+public final class DecodeEvent extends Event {
+    @Label("Entity Type")
+    Class<?> entityType;
+
+    @Label("Collection")
+    String collection;
+
+    @Label("Elapsed")
+    @Timespan
+    long elapsed;
+
+    @Label("Size")
+    @Description("The size of the decoded document or -1 if it is not known")
+    @DataAmount
+    long bytes;
+}
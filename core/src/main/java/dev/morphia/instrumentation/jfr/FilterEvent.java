@@ -0,0 +1,26 @@
+package dev.morphia.instrumentation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Recorded when the filters of a query are translated in to the document sent to the server.
+ *
+ * @since 3.0
+ */
+@Name("dev.morphia.Filter")
+@Label("Query Filter")
+@Category("Morphia")
+@StackTrace(false)
+public final class FilterEvent extends Event {
+    @Label("Entity Type")
+    Class<?> entityType;
+
+    @Label("Elapsed")
+    @Timespan
+    long elapsed;
+}
@@ -0,0 +1,73 @@
+package dev.morphia.instrumentation.jfr;
+
+import dev.morphia.instrumentation.Instrumentation;
+
+/**
+ * Records Morphia's measurements as JDK Flight Recorder events in the {@code Morphia} category. Events are only populated and committed
+ * while a recording has them enabled so this costs little more than the measurements themselves when no recording is running. The
+ * measurements are taken before the events are created so each event carries its duration in an {@code elapsed} field rather than in
+ * the event's own duration.
+ * <p>
+ * To enable it, set {@code morphia.instrumentation=dev.morphia.instrumentation.jfr.JfrInstrumentation} in the configuration.
+ *
+ * @since 3.0
+ */
+public class JfrInstrumentation implements Instrumentation {
+    @Override
+    public void encoded(Class<?> type, String collection, long nanos, long bytes) {
+        EncodeEvent event = new EncodeEvent();
+        if (event.isEnabled()) {
+            event.entityType = type;
+            event.collection = collection;
+            event.elapsed = nanos;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void decoded(Class<?> type, String collection, long nanos, long bytes) {
+        DecodeEvent event = new DecodeEvent();
+        if (event.isEnabled()) {
+            event.entityType = type;
+            event.collection = collection;
+            event.elapsed = nanos;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void filtered(Class<?> type, long nanos) {
+        FilterEvent event = new FilterEvent();
+        if (event.isEnabled()) {
+            event.entityType = type;
+            event.elapsed = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void referencesResolved(String collection, int requested, int resolved, long nanos) {
+        ReferenceEvent event = new ReferenceEvent();
+        if (event.isEnabled()) {
+            event.collection = collection;
+            event.requested = requested;
+            event.resolved = resolved;
+            event.elapsed = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void operation(String operation, String collection, long nanos, boolean failed) {
+        OperationEvent event = new OperationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.collection = collection;
+            event.elapsed = nanos;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+}
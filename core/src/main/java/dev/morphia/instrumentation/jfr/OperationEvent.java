@@ -0,0 +1,34 @@
+package dev.morphia.instrumentation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Recorded when an operation sent to the server completes.
+ *
+ * @since 3.0
+ */
+@Name("dev.morphia.Operation")
+@Label("Datastore Operation")
+@Category("Morphia")
+@StackTrace(false)
+public final class OperationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Collection")
+    String collection;
+
+    @Label("Elapsed")
+    @Description("The time taken including the round trip to the server")
+    @Timespan
+    long elapsed;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,35 @@
+package dev.morphia.instrumentation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Recorded when referenced entities are fetched.
+ *
+ * @since 3.0
+ */
+@Name("dev.morphia.References")
+@Label("Reference Resolution")
+@Category("Morphia")
+@StackTrace(false)
+public final class ReferenceEvent extends Event {
+    @Label("Collection")
+    String collection;
+
+    @Label("Requested")
+    @Description("The number of IDs requested")
+    int requested;
+
+    @Label("Resolved")
+    @Description("The number of entities found")
+    int resolved;
+
+    @Label("Elapsed")
+    @Timespan
+    long elapsed;
+}
@@ -0,0 +1,7 @@
+/**
+ * Reports Morphia's instrumentation as JDK Flight Recorder events.
+ */
+@NonNullApi
+package dev.morphia.instrumentation.jfr;
+
+import com.mongodb.lang.NonNullApi;
@@ -0,0 +1,129 @@
+package dev.morphia.instrumentation.micrometer;
+
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.instrumentation.Instrumentation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Records Morphia's measurements as Micrometer meters. Nothing is recorded until the binder is bound to a registry. The meters are:
+ * <ul>
+ * <li>{@code morphia.encode} and {@code morphia.decode}: timers tagged with the entity {@code type} and {@code collection}</li>
+ * <li>{@code morphia.encode.size} and {@code morphia.decode.size}: document sizes in bytes with the same tags, when known</li>
+ * <li>{@code morphia.filter}: a timer of query filter translation tagged with the queried {@code type}</li>
+ * <li>{@code morphia.references}: a timer of reference queries tagged with the {@code collection}</li>
+ * <li>{@code morphia.references.requested} and {@code morphia.references.resolved}: counters of the IDs fetched and entities found</li>
+ * <li>{@code morphia.operation}: a timer tagged with the {@code operation}, the {@code collection} and whether it {@code failed}</li>
+ * </ul>
+ * This requires {@code io.micrometer:micrometer-core} on the classpath.
+ *
+ * @since 3.0
+ */
+public class MicrometerInstrumentation implements Instrumentation, MeterBinder {
+    @Nullable
+    private volatile MeterRegistry registry;
+
+    /**
+     * Creates an instance which records nothing until {@link #bindTo(MeterRegistry) bound}.
+     */
+    public MicrometerInstrumentation() {
+    }
+
+    /**
+     * Creates an instance bound to the given registry.
+     *
+     * @param registry the registry to record to
+     */
+    public MicrometerInstrumentation(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void encoded(Class<?> type, String collection, long nanos, long bytes) {
+        record("morphia.encode", type, collection, nanos, bytes);
+    }
+
+    @Override
+    public void decoded(Class<?> type, String collection, long nanos, long bytes) {
+        record("morphia.decode", type, collection, nanos, bytes);
+    }
+
+    @Override
+    public void filtered(Class<?> type, long nanos) {
+        MeterRegistry registry = this.registry;
+        if (registry != null) {
+            Timer.builder("morphia.filter")
+                    .description("The time taken to translate query filters")
+                    .tag("type", type.getName())
+                    .register(registry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void referencesResolved(String collection, int requested, int resolved, long nanos) {
+        MeterRegistry registry = this.registry;
+        if (registry != null) {
+            Timer.builder("morphia.references")
+                    .description("The time taken to fetch referenced entities")
+                    .tag("collection", collection)
+                    .register(registry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+            Counter.builder("morphia.references.requested")
+                    .description("The number of referenced IDs fetched")
+                    .tag("collection", collection)
+                    .register(registry)
+                    .increment(requested);
+            Counter.builder("morphia.references.resolved")
+                    .description("The number of referenced entities found")
+                    .tag("collection", collection)
+                    .register(registry)
+                    .increment(resolved);
+        }
+    }
+
+    @Override
+    public void operation(String operation, String collection, long nanos, boolean failed) {
+        MeterRegistry registry = this.registry;
+        if (registry != null) {
+            Timer.builder("morphia.operation")
+                    .description("The time taken by operations including the round trip to the server")
+                    .tag("operation", operation)
+                    .tag("collection", collection)
+                    .tag("failed", Boolean.toString(failed))
+                    .register(registry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void record(String name, Class<?> type, String collection, long nanos, long bytes) {
+        MeterRegistry registry = this.registry;
+        if (registry != null) {
+            Timer.builder(name)
+                    .tag("type", type.getName())
+                    .tag("collection", collection)
+                    .register(registry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+            if (bytes != -1) {
+                DistributionSummary.builder(name + ".size")
+                        .baseUnit("bytes")
+                        .tag("type", type.getName())
+                        .tag("collection", collection)
+                        .register(registry)
+                        .record(bytes);
+            }
+        }
+    }
+}
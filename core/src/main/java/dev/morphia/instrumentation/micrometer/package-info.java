@@ -0,0 +1,7 @@
+/**
+ * Reports Morphia's instrumentation as Micrometer meters.
+ */
+@NonNullApi
+package dev.morphia.instrumentation.micrometer;
+
+import com.mongodb.lang.NonNullApi;
@@ -0,0 +1,7 @@
+/**
+ * Defines the instrumentation SPI used to measure the work Morphia does around the driver.
+ */
+@NonNullApi
+package dev.morphia.instrumentation;
+
+import com.mongodb.lang.NonNullApi;
@@ -0,0 +1,105 @@
+package dev.morphia.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.model.Collation;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import org.bson.conversions.Bson;
+
+/**
+ * The aggregation settings {@link dev.morphia.aggregation.AggregationOptions} applies. The sync and reactive drivers define the same
+ * settings on unrelated types so this lets the options configure either one.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public interface AggregateTarget {
+    /**
+     * Wraps a sync aggregation.
+     *
+     * @param aggregate the aggregation to configure
+     * @return the target
+     */
+    static AggregateTarget of(AggregateIterable<?> aggregate) {
+        return new AggregateTarget() {
+            @Override
+            public AggregateTarget allowDiskUse(@Nullable Boolean allowDiskUse) {
+                aggregate.allowDiskUse(allowDiskUse);
+                return this;
+            }
+
+            @Override
+            public AggregateTarget batchSize(int batchSize) {
+                aggregate.batchSize(batchSize);
+                return this;
+            }
+
+            @Override
+            public AggregateTarget bypassDocumentValidation(@Nullable Boolean bypassDocumentValidation) {
+                aggregate.bypassDocumentValidation(bypassDocumentValidation);
+                return this;
+            }
+
+            @Override
+            public AggregateTarget collation(@Nullable Collation collation) {
+                aggregate.collation(collation);
+                return this;
+            }
+
+            @Override
+            public AggregateTarget hint(@Nullable Bson hint) {
+                aggregate.hint(hint);
+                return this;
+            }
+
+            @Override
+            public AggregateTarget maxTime(long maxTime, TimeUnit unit) {
+                aggregate.maxTime(maxTime, unit);
+                return this;
+            }
+        };
+    }
+
+    /**
+     * @param allowDiskUse whether temporary files may be used
+     * @return this
+     */
+    AggregateTarget allowDiskUse(@Nullable Boolean allowDiskUse);
+
+    /**
+     * @param batchSize the batch size
+     * @return this
+     */
+    AggregateTarget batchSize(int batchSize);
+
+    /**
+     * @param bypassDocumentValidation whether to bypass document validation
+     * @return this
+     */
+    AggregateTarget bypassDocumentValidation(@Nullable Boolean bypassDocumentValidation);
+
+    /**
+     * @param collation the collation
+     * @return this
+     */
+    AggregateTarget collation(@Nullable Collation collation);
+
+    /**
+     * @param hint the index hint
+     * @return this
+     */
+    AggregateTarget hint(@Nullable Bson hint);
+
+    /**
+     * @param maxTime the time limit
+     * @param unit    the time unit
+     * @return this
+     */
+    AggregateTarget maxTime(long maxTime, TimeUnit unit);
+}
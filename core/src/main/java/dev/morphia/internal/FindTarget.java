@@ -0,0 +1,276 @@
+package dev.morphia.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.CursorType;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.model.Collation;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+
+/**
+ * The find settings {@link dev.morphia.query.FindOptions} applies. The sync and reactive drivers define the same settings on unrelated
+ * types so this lets the options configure either one.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public interface FindTarget {
+    /**
+     * Wraps a sync find.
+     *
+     * @param iterable the find to configure
+     * @return the target
+     */
+    static FindTarget of(FindIterable<?> iterable) {
+        return new FindTarget() {
+            @Override
+            public FindTarget allowDiskUse(@Nullable Boolean allowDiskUse) {
+                iterable.allowDiskUse(allowDiskUse);
+                return this;
+            }
+
+            @Override
+            public FindTarget batchSize(int batchSize) {
+                iterable.batchSize(batchSize);
+                return this;
+            }
+
+            @Override
+            public FindTarget collation(@Nullable Collation collation) {
+                iterable.collation(collation);
+                return this;
+            }
+
+            @Override
+            public FindTarget comment(@Nullable BsonValue comment) {
+                iterable.comment(comment);
+                return this;
+            }
+
+            @Override
+            public FindTarget cursorType(CursorType cursorType) {
+                iterable.cursorType(cursorType);
+                return this;
+            }
+
+            @Override
+            public FindTarget hint(@Nullable Bson hint) {
+                iterable.hint(hint);
+                return this;
+            }
+
+            @Override
+            public FindTarget hintString(@Nullable String hint) {
+                iterable.hintString(hint);
+                return this;
+            }
+
+            @Override
+            public FindTarget let(@Nullable Bson variables) {
+                iterable.let(variables);
+                return this;
+            }
+
+            @Override
+            public FindTarget limit(int limit) {
+                iterable.limit(limit);
+                return this;
+            }
+
+            @Override
+            public FindTarget max(@Nullable Bson max) {
+                iterable.max(max);
+                return this;
+            }
+
+            @Override
+            public FindTarget maxAwaitTime(long maxAwaitTime, TimeUnit unit) {
+                iterable.maxAwaitTime(maxAwaitTime, unit);
+                return this;
+            }
+
+            @Override
+            public FindTarget maxTime(long maxTime, TimeUnit unit) {
+                iterable.maxTime(maxTime, unit);
+                return this;
+            }
+
+            @Override
+            public FindTarget min(@Nullable Bson min) {
+                iterable.min(min);
+                return this;
+            }
+
+            @Override
+            public FindTarget noCursorTimeout(boolean noCursorTimeout) {
+                iterable.noCursorTimeout(noCursorTimeout);
+                return this;
+            }
+
+            @Override
+            public FindTarget partial(boolean partial) {
+                iterable.partial(partial);
+                return this;
+            }
+
+            @Override
+            public FindTarget projection(@Nullable Bson projection) {
+                iterable.projection(projection);
+                return this;
+            }
+
+            @Override
+            public FindTarget returnKey(boolean returnKey) {
+                iterable.returnKey(returnKey);
+                return this;
+            }
+
+            @Override
+            public FindTarget showRecordId(boolean showRecordId) {
+                iterable.showRecordId(showRecordId);
+                return this;
+            }
+
+            @Override
+            public FindTarget skip(int skip) {
+                iterable.skip(skip);
+                return this;
+            }
+
+            @Override
+            public FindTarget sort(@Nullable Bson sort) {
+                iterable.sort(sort);
+                return this;
+            }
+        };
+    }
+
+    /**
+     * @param allowDiskUse whether temporary files may be used
+     * @return this
+     */
+    FindTarget allowDiskUse(@Nullable Boolean allowDiskUse);
+
+    /**
+     * @param batchSize the batch size
+     * @return this
+     */
+    FindTarget batchSize(int batchSize);
+
+    /**
+     * @param collation the collation
+     * @return this
+     */
+    FindTarget collation(@Nullable Collation collation);
+
+    /**
+     * @param comment the comment
+     * @return this
+     */
+    FindTarget comment(@Nullable BsonValue comment);
+
+    /**
+     * @param cursorType the cursor type
+     * @return this
+     */
+    FindTarget cursorType(CursorType cursorType);
+
+    /**
+     * @param hint the index hint
+     * @return this
+     */
+    FindTarget hint(@Nullable Bson hint);
+
+    /**
+     * @param hint the name of the index to use
+     * @return this
+     */
+    FindTarget hintString(@Nullable String hint);
+
+    /**
+     * @param variables the variables
+     * @return this
+     */
+    FindTarget let(@Nullable Bson variables);
+
+    /**
+     * @param limit the limit
+     * @return this
+     */
+    FindTarget limit(int limit);
+
+    /**
+     * @param max the exclusive upper bound of the index
+     * @return this
+     */
+    FindTarget max(@Nullable Bson max);
+
+    /**
+     * @param maxAwaitTime the time to wait for new documents on a tailable cursor
+     * @param unit         the time unit
+     * @return this
+     */
+    FindTarget maxAwaitTime(long maxAwaitTime, TimeUnit unit);
+
+    /**
+     * @param maxTime the time limit
+     * @param unit    the time unit
+     * @return this
+     */
+    FindTarget maxTime(long maxTime, TimeUnit unit);
+
+    /**
+     * @param min the inclusive lower bound of the index
+     * @return this
+     */
+    FindTarget min(@Nullable Bson min);
+
+    /**
+     * @param noCursorTimeout whether the cursor should never time out
+     * @return this
+     */
+    FindTarget noCursorTimeout(boolean noCursorTimeout);
+
+    /**
+     * @param partial whether partial results from sharded clusters are allowed
+     * @return this
+     */
+    FindTarget partial(boolean partial);
+
+    /**
+     * @param projection the projection
+     * @return this
+     */
+    FindTarget projection(@Nullable Bson projection);
+
+    /**
+     * @param returnKey whether to return only the index keys
+     * @return this
+     */
+    FindTarget returnKey(boolean returnKey);
+
+    /**
+     * @param showRecordId whether to include the record ID
+     * @return this
+     */
+    FindTarget showRecordId(boolean showRecordId);
+
+    /**
+     * @param skip the number of documents to skip
+     * @return this
+     */
+    FindTarget skip(int skip);
+
+    /**
+     * @param sort the sort
+     * @return this
+     */
+    FindTarget sort(@Nullable Bson sort);
+}
@@ -16,13 +16,14 @@
 
 package dev.morphia.internal;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.StringJoiner;
 
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.internal.PathTargetCache.Resolution;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.NotMappableException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
@@ -32,8 +33,6 @@ import dev.morphia.sofia.Sofia;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
-import static java.util.Arrays.asList;
-
 /**
  * @hidden
  * @morphia.internal
@@ -41,7 +40,9 @@ import static java.util.Arrays.asList;
  */
 @MorphiaInternal
 public class PathTarget {
-    private final List<String> segments;
+    private final String path;
+    private List<String> segments;
+    private String translatedPath;
     private final boolean validateNames;
     private int position;
     private final Mapper mapper;
@@ -71,11 +72,15 @@ public class PathTarget {
      */
     @SuppressFBWarnings("EI_EXPOSE_REP2")
     public PathTarget(Mapper mapper, @Nullable EntityModel root, String path, boolean validateNames) {
-        segments = asList(path.split("\\."));
+        this.path = path;
         this.root = root;
         this.mapper = mapper;
         this.validateNames = validateNames;
-        resolved = path.startsWith("$");
+        if (path.startsWith("$")) {
+            segments = split(path);
+            translatedPath = path;
+            resolved = true;
+        }
     }
 
     /**
@@ -124,9 +129,7 @@ public class PathTarget {
         if (!resolved) {
             resolve();
         }
-        StringJoiner joiner = new StringJoiner(".");
-        segments.forEach(joiner::add);
-        return joiner.toString();
+        return translatedPath;
     }
 
     /**
@@ -144,7 +147,8 @@ public class PathTarget {
 
     @Override
     public String toString() {
-        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getType().getSimpleName(), segments, target);
+        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getType().getSimpleName(),
+                segments != null ? segments : path, target);
     }
 
     private boolean hasNext() {
@@ -152,11 +156,22 @@ public class PathTarget {
     }
 
     private void failValidation(String pathElement) {
+        translatedPath = String.join(".", segments);
         resolved = true;
-        throw new ValidationException(Sofia.invalidPathTarget(translatedPath(), root.getType().getName(), pathElement));
+        throw new ValidationException(Sofia.invalidPathTarget(translatedPath, root.getType().getName(), pathElement));
     }
 
     private void resolve() {
+        PathTargetCache cache = mapper.getPathTargetCache();
+        Resolution cached = cache.get(root, path, validateNames);
+        if (cached != null) {
+            segments = cached.segments;
+            translatedPath = cached.translatedPath;
+            target = cached.target;
+            resolved = true;
+            return;
+        }
+        segments = split(path);
         context = this.root;
         position = 0;
         PropertyModel property = null;
@@ -164,7 +179,7 @@ public class PathTarget {
             String segment = next();
 
             // array operator
-            if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]")) || segment.matches("[0-9]+")) {
+            if (isPositional(segment)) {
                 if (!hasNext()) {
                     break;
                 }
@@ -187,7 +202,48 @@ public class PathTarget {
             }
         }
         target = property;
+        translatedPath = String.join(".", segments);
         resolved = true;
+        cache.put(root, path, validateNames, new Resolution(segments, translatedPath, target));
+    }
+
+    private static boolean isPositional(String segment) {
+        int length = segment.length();
+        if (length == 0) {
+            return false;
+        }
+        if (segment.charAt(0) == '$') {
+            return length == 1 || (segment.charAt(1) == '[' && segment.charAt(length - 1) == ']');
+        }
+        for (int i = 0; i < length; i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits the path on '.' matching the behavior of {@code path.split("\\.")}, including dropping any trailing empty segments.
+     */
+    private static List<String> split(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int dot;
+        while ((dot = path.indexOf('.', start)) != -1) {
+            segments.add(path.substring(start, dot));
+            start = dot + 1;
+        }
+        segments.add(path.substring(start));
+        if (segments.size() > 1) {
+            int end = segments.size();
+            while (end > 0 && segments.get(end - 1).isEmpty()) {
+                end--;
+            }
+            segments = segments.subList(0, end);
+        }
+        return segments;
     }
 
     private void translate(String nameToStore) {
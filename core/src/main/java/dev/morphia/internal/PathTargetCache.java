@@ -0,0 +1,147 @@
+package dev.morphia.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+
+/**
+ * Caches the resolution of {@link PathTarget paths} so that the translation of a field name, and the walk of the model hierarchy it
+ * requires, is only done once per root model. Paths which fail validation are not cached. The cache is bounded and is emptied when
+ * it fills or when new models are mapped.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class PathTargetCache {
+    /**
+     * The default number of paths to hold
+     */
+    public static final int DEFAULT_SIZE = 10_000;
+
+    private final Map<Key, Resolution> resolutions = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final int maximumSize;
+
+    /**
+     * Creates a cache holding up to {@link #DEFAULT_SIZE} paths
+     */
+    public PathTargetCache() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * @param maximumSize the maximum number of paths to hold
+     */
+    public PathTargetCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Empties the cache. The hit and miss counts are left untouched.
+     */
+    public void clear() {
+        resolutions.clear();
+    }
+
+    /**
+     * @return the number of lookups which found a cached resolution
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups which had to resolve the path
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of paths currently cached
+     */
+    public int size() {
+        return resolutions.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PathTargetCache{size=%d, hits=%d, misses=%d}", size(), hits(), misses());
+    }
+
+    @Nullable
+    Resolution get(@Nullable EntityModel root, String path, boolean validate) {
+        Resolution resolution = resolutions.get(new Key(root, path, validate));
+        if (resolution != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return resolution;
+    }
+
+    void put(@Nullable EntityModel root, String path, boolean validate, Resolution resolution) {
+        if (resolutions.size() >= maximumSize) {
+            resolutions.clear();
+        }
+        resolutions.put(new Key(root, path, validate), resolution);
+    }
+
+    static class Resolution {
+        final List<String> segments;
+        final String translatedPath;
+        @Nullable
+        final PropertyModel target;
+
+        Resolution(List<String> segments, String translatedPath, @Nullable PropertyModel target) {
+            this.segments = List.copyOf(segments);
+            this.translatedPath = translatedPath;
+            this.target = target;
+        }
+    }
+
+    /**
+     * Models are compared by identity as their equality checks are too expensive for a lookup key.
+     */
+    private static class Key {
+        @Nullable
+        private final EntityModel root;
+        private final String path;
+        private final boolean validate;
+        private final int hash;
+
+        Key(@Nullable EntityModel root, String path, boolean validate) {
+            this.root = root;
+            this.path = path;
+            this.validate = validate;
+            hash = 31 * (31 * System.identityHashCode(root) + path.hashCode()) + Boolean.hashCode(validate);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return root == that.root && validate == that.validate && path.equals(that.path);
+        }
+    }
+}
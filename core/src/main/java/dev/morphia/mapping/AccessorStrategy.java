@@ -0,0 +1,20 @@
+package dev.morphia.mapping;
+
+/**
+ * This enum is used to determine how Morphia reads and writes the mapped properties of an entity.
+ *
+ * @since 3.0
+ */
+public enum AccessorStrategy {
+    /**
+     * Uses {@link java.lang.reflect.Field} and {@link java.lang.reflect.Method} directly for each access.
+     */
+    REFLECTION,
+
+    /**
+     * Generates a class for each property at mapping time which reads and writes the field, or calls the getter and setter, directly.
+     * Final fields, and properties on types which can not be given a generated nestmate class, e.g. because of module restrictions, fall
+     * back to reflection.
+     */
+    GENERATED
+}
@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.mongodb.lang.Nullable;
 
@@ -32,17 +33,34 @@ import org.bson.codecs.configuration.CodecConfigurationException;
 import static java.lang.String.format;
 
 /**
- * Provides lookup capabilities to find a type by its discriminator
+ * Provides lookup capabilities to find a type by its discriminator.
+ * <p>
+ * Besides the discriminators of the mapped types, each mapped type is registered under the values the other
+ * {@link DiscriminatorFunction discriminator functions} would have generated for it so that documents written with a different
+ * configuration resolve without loading any classes. Values which can only be resolved by loading a class are cached once found and
+ * values which can not be resolved at all are remembered so that the class loader is not searched again for every document carrying
+ * them.
  *
  * @hidden
  * @morphia.internal
  */
 @MorphiaInternal
 public final class DiscriminatorLookup {
+    private static final int MAX_MISSING = 1024;
+
     private final Map<String, Class<?>> discriminatorClassMap = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> aliases = new ConcurrentHashMap<>();
+    private final Set<String> ambiguous = ConcurrentHashMap.newKeySet();
+    private final Map<String, Class<?>> resolved = new ConcurrentHashMap<>();
+    private final Set<String> missing = ConcurrentHashMap.newKeySet();
     private final Set<String> packages = new ConcurrentSkipListSet<>();
     private final ClassLoader classLoader;
 
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder cachedFailures = new LongAdder();
+
     /**
      * Creates a new lookup
      *
@@ -59,11 +77,40 @@ public final class DiscriminatorLookup {
      */
     public void addModel(EntityModel entityModel) {
         String discriminator = entityModel.discriminator();
-        Class<?> current = discriminatorClassMap.put(discriminator, entityModel.getType());
+        Class<?> type = entityModel.getType();
+        Class<?> current = discriminatorClassMap.put(discriminator, type);
         if (current != null) {
             throw new MappingException(Sofia.duplicateDiscriminators(discriminator, current.getName(),
-                    entityModel.getType().getName()));
+                    type.getName()));
+        }
+        if (type.getPackage() != null) {
+            packages.add(type.getPackage().getName());
+        }
+        for (DiscriminatorFunction function : new DiscriminatorFunction[] { DiscriminatorFunction.className(),
+                DiscriminatorFunction.lowerClassName(),
+                DiscriminatorFunction.simpleName(),
+                DiscriminatorFunction.lowerSimpleName() }) {
+            addAlias(function.compute(type), type);
+        }
+        missing.clear();
+    }
+
+    /**
+     * Registers an additional value which should resolve to the given type. If the alias is already registered for a different type,
+     * neither type is used for it. Discriminators of the mapped types always take precedence over aliases.
+     *
+     * @param alias the alias
+     * @param type  the type
+     */
+    public void addAlias(String alias, Class<?> type) {
+        if (!ambiguous.contains(alias)) {
+            Class<?> existing = aliases.putIfAbsent(alias, type);
+            if (existing != null && !existing.equals(type)) {
+                ambiguous.add(alias);
+                aliases.remove(alias);
+            }
         }
+        missing.remove(alias);
     }
 
     /**
@@ -73,21 +120,51 @@ public final class DiscriminatorLookup {
      * @return the mapped class
      */
     public Class<?> lookup(String discriminator) {
-        if (discriminatorClassMap.containsKey(discriminator)) {
-            return discriminatorClassMap.get(discriminator);
+        Class<?> clazz = discriminatorClassMap.get(discriminator);
+        if (clazz == null) {
+            clazz = aliases.get(discriminator);
+        }
+        if (clazz == null) {
+            clazz = resolved.get(discriminator);
+        }
+        if (clazz != null) {
+            hits.increment();
+            return clazz;
+        }
+        if (missing.contains(discriminator)) {
+            cachedFailures.increment();
+            throw notFound(discriminator);
         }
 
-        Class<?> clazz = getClassForName(discriminator);
+        clazz = getClassForName(discriminator);
         if (clazz == null) {
             clazz = searchPackages(discriminator);
         }
 
         if (clazz == null) {
-            throw new CodecConfigurationException(format("A class could not be found for the discriminator: '%s'.", discriminator));
+            failures.increment();
+            if (missing.size() >= MAX_MISSING) {
+                missing.clear();
+            }
+            missing.add(discriminator);
+            throw notFound(discriminator);
         }
+        loads.increment();
+        resolved.put(discriminator, clazz);
         return clazz;
     }
 
+    /**
+     * @return the current lookup metrics
+     */
+    public DiscriminatorMetrics metrics() {
+        return new DiscriminatorMetrics(hits.sum(), loads.sum(), failures.sum(), cachedFailures.sum());
+    }
+
+    private static CodecConfigurationException notFound(String discriminator) {
+        return new CodecConfigurationException(format("A class could not be found for the discriminator: '%s'.", discriminator));
+    }
+
     @Nullable
     private Class<?> getClassForName(String discriminator) {
         Class<?> clazz = null;
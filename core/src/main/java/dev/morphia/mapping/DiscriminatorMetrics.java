@@ -0,0 +1,60 @@
+package dev.morphia.mapping;
+
+import java.util.StringJoiner;
+
+/**
+ * A snapshot of the work done resolving discriminator values to types while decoding.
+ *
+ * @since 3.0
+ */
+public final class DiscriminatorMetrics {
+    private final long hits;
+    private final long loads;
+    private final long failures;
+    private final long cachedFailures;
+
+    DiscriminatorMetrics(long hits, long loads, long failures, long cachedFailures) {
+        this.hits = hits;
+        this.loads = loads;
+        this.failures = failures;
+        this.cachedFailures = cachedFailures;
+    }
+
+    /**
+     * @return the number of lookups answered from the mapped types, their aliases, or previously loaded classes
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of lookups which had to load a class to resolve the discriminator
+     */
+    public long loads() {
+        return loads;
+    }
+
+    /**
+     * @return the number of lookups which searched the class loader without finding a type
+     */
+    public long failures() {
+        return failures;
+    }
+
+    /**
+     * @return the number of lookups rejected because the discriminator was already known to be unresolvable
+     */
+    public long cachedFailures() {
+        return cachedFailures;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", DiscriminatorMetrics.class.getSimpleName() + "[", "]")
+                .add("hits=" + hits)
+                .add("loads=" + loads)
+                .add("failures=" + failures)
+                .add("cachedFailures=" + cachedFailures)
+                .toString();
+    }
+}
@@ -7,6 +7,7 @@ import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.internal.ConstructorCreator;
+import dev.morphia.mapping.internal.ConstructorPlan;
 import dev.morphia.sofia.Sofia;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -41,15 +42,16 @@ public class InstanceCreatorFactoryImpl implements InstanceCreatorFactory {
             if (!model.getType().isInterface()) {
                 Constructor<?> constructor = ConstructorCreator.bestConstructor(model);
                 if (constructor != null) {
-                    creator = () -> new ConstructorCreator(model, constructor);
+                    ConstructorPlan plan = new ConstructorPlan(model, constructor);
+                    creator = () -> new ConstructorCreator(plan);
                 } else {
                     LOG.info("using old creator approach: " + model.getType().getName());
                     try {
                         Constructor<?> declared = model.getType().getDeclaredConstructor();
                         creator = () -> new NoArgCreator(declared);
                     } catch (NoSuchMethodException e) {
-                        Constructor<?> full = ConstructorCreator.getFullConstructor(model);
-                        creator = () -> new ConstructorCreator(model, full);
+                        ConstructorPlan plan = new ConstructorPlan(model, ConstructorCreator.getFullConstructor(model));
+                        creator = () -> new ConstructorCreator(plan);
                     }
                 }
             }
@@ -2,7 +2,6 @@ package dev.morphia.mapping;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -24,9 +23,11 @@ import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.config.MorphiaConfig;
+import dev.morphia.internal.PathTargetCache;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.references.MorphiaProxy;
+import dev.morphia.mapping.internal.EntityScanner;
 import dev.morphia.mapping.validation.MappingValidator;
 import dev.morphia.sofia.Sofia;
 
@@ -34,10 +35,6 @@ import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ClassInfo;
-import io.github.classgraph.ScanResult;
-
 import static java.util.Arrays.asList;
 
 /**
@@ -64,14 +61,36 @@ public class Mapper {
             PostPersist.class,
             PostLoad.class);
 
+    /**
+     * Whether a type carries a mapping annotation itself or through its hierarchy. This only depends on the class itself so is shared
+     * across mappers and, being a {@link ClassValue}, is dropped along with the class when its loader is unloaded.
+     */
+    private static final ClassValue<Boolean> MAPPABLE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            Class<?> actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
+            return actual != null && hasAnnotation(actual, MAPPING_ANNOTATIONS);
+        }
+    };
+
     /**
      * Set of classes that registered by this mapper
      */
     private final Map<String, EntityModel> mappedEntities = new ConcurrentHashMap<>();
+    /**
+     * The registered models keyed by type for lookups on the hot path. This is owned by the mapper rather than held in a
+     * {@link ClassValue} because the models refer back to this mapper and would keep their classes reachable.
+     */
+    private final Map<Class<?>, EntityModel> models = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Set<EntityModel>> mappedEntitiesByCollection = new ConcurrentHashMap<>();
+    /**
+     * Mapped models keyed by the names of their superclass and interfaces
+     */
+    private final Map<String, Set<EntityModel>> mappedChildren = new ConcurrentHashMap<>();
     private final List<EntityListener<?>> listeners = new ArrayList<>();
     private final MorphiaConfig config;
     private final DiscriminatorLookup discriminatorLookup;
+    private final PathTargetCache pathTargetCache = new PathTargetCache();
     private final ClassLoader contextClassLoader;
 
     /**
@@ -241,6 +260,25 @@ public class Mapper {
         return discriminatorLookup;
     }
 
+    /**
+     * @return the metrics of the discriminator lookups made while decoding
+     * @since 3.0
+     */
+    public DiscriminatorMetrics getDiscriminatorMetrics() {
+        return discriminatorLookup.metrics();
+    }
+
+    /**
+     * @return the cache of resolved paths
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public PathTargetCache getPathTargetCache() {
+        return pathTargetCache;
+    }
+
     /**
      * Gets the {@link EntityModel} for the object (type). If it isn't mapped, create a new class and cache it (without validating).
      *
@@ -256,7 +294,10 @@ public class Mapper {
         if (actual == null && MorphiaProxy.class.equals(type)) {
             throw new NotMappableException(type);
         }
-        EntityModel model = mappedEntities.get(actual.getName());
+        EntityModel model = models.get(actual);
+        if (model == null) {
+            model = mappedEntities.get(actual.getName());
+        }
 
         if (model == null) {
             if (!isMappable(actual)) {
@@ -271,7 +312,10 @@ public class Mapper {
     @Nullable
     public EntityModel mapEntity(@Nullable Class type) {
         if (isMappable(type)) {
-            EntityModel model = mappedEntities.get(type.getName());
+            EntityModel model = models.get(type);
+            if (model == null) {
+                model = mappedEntities.get(type.getName());
+            }
             return model != null ? model : register(new EntityModel(this, type));
         }
         return null;
@@ -372,8 +416,7 @@ public class Mapper {
      */
     @MorphiaInternal
     public <T> boolean isMappable(@Nullable Class<T> type) {
-        final Class actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
-        return actual != null && hasAnnotation(actual, MAPPING_ANNOTATIONS);
+        return type != null && MAPPABLE.get(type);
     }
 
     /**
@@ -386,7 +429,7 @@ public class Mapper {
      */
     @MorphiaInternal
     public boolean isMapped(Class c) {
-        return mappedEntities.containsKey(c.getName());
+        return models.containsKey(c) || mappedEntities.containsKey(c.getName());
     }
 
     /**
@@ -490,10 +533,29 @@ public class Mapper {
      */
     @MorphiaInternal
     public void updateQueryWithDiscriminators(EntityModel model, Document query) {
+        Document discriminators = discriminatorFilter(model, query.keySet());
+        if (discriminators != null) {
+            query.put(model.discriminatorKey(), discriminators);
+        }
+    }
+
+    /**
+     * Finds the discriminator clause to add to a query on the given type, if any.
+     *
+     * @param model the query model
+     * @param keys  the top level keys of the query
+     * @return the {@code $in} clause to apply to the discriminator key or null if none is needed
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public Document discriminatorFilter(EntityModel model, Set<String> keys) {
         Entity annotation = model.getEntityAnnotation();
         if (annotation != null && annotation.useDiscriminator()
-                && !query.containsKey("_id")
-                && !query.containsKey(model.discriminatorKey())) {
+                && !keys.contains("_id")
+                && !keys.contains(model.discriminatorKey())) {
             List<String> values = new ArrayList<>();
             values.add(model.discriminator());
             if (config.enablePolymorphicQueries()) {
@@ -501,9 +563,9 @@ public class Mapper {
                     values.add(subtype.discriminator());
                 }
             }
-            query.put(model.discriminatorKey(),
-                    new Document("$in", values));
+            return new Document("$in", values);
         }
+        return null;
     }
 
     /**
@@ -525,71 +587,73 @@ public class Mapper {
             return existing;
         }
         mappedEntities.put(model.getType().getName(), model);
+        models.put(model.getType(), model);
         if (validate && !model.isInterface()) {
             new MappingValidator()
                     .validate(this, model);
         }
 
         discriminatorLookup.addModel(model);
+        pathTargetCache.clear();
         mappedEntitiesByCollection.computeIfAbsent(model.collectionName(), s -> new CopyOnWriteArraySet<>())
                 .add(model);
 
-        mappedEntities.values().forEach(mapped -> {
-            if (isParent(mapped, model)) {
-                mapped.addSubtype(model);
-            } else if (isParent(model, mapped)) {
-                model.addSubtype(mapped);
-            }
-        });
+        linkSubtypes(model);
         return model;
     }
 
-    private static boolean isParent(EntityModel parent, EntityModel child) {
-        Class<?> parentType = parent.getType();
-        return parentType.equals(child.getType().getSuperclass())
-                || parentType.isInterface()
-                        && asList(child.getType().getInterfaces()).contains(parentType);
+    /**
+     * Links a newly registered model with its mapped parents and any mapped children registered before it. Each model is indexed by its
+     * superclass and interfaces so only its direct relatives are visited rather than every mapped entity.
+     */
+    private void linkSubtypes(EntityModel model) {
+        Class<?> type = model.getType();
+        List<Class<?>> parents = new ArrayList<>(asList(type.getInterfaces()));
+        if (type.getSuperclass() != null) {
+            parents.add(type.getSuperclass());
+        }
+        for (Class<?> parentType : parents) {
+            EntityModel parent = mappedEntities.get(parentType.getName());
+            if (parent != null) {
+                parent.addSubtype(model);
+            }
+            mappedChildren.computeIfAbsent(parentType.getName(), name -> new CopyOnWriteArraySet<>())
+                    .add(model);
+        }
+        Set<EntityModel> children = mappedChildren.get(type.getName());
+        if (children != null) {
+            children.forEach(model::addSubtype);
+        }
     }
 
     private List<Class> getClasses(ClassLoader loader, String packageName)
             throws ClassNotFoundException {
         final Set<Class> classes = new HashSet<>();
-
-        ClassGraph classGraph = new ClassGraph()
-                .addClassLoader(loader)
-                .enableAllInfo();
-        if (packageName.endsWith(".*")) {
-            String base = packageName.substring(0, packageName.length() - 2);
-            if (!base.isEmpty()) {
-                classGraph.acceptPackages(base);
-            }
-            classGraph.acceptPackages(packageName);
-        } else {
-            classGraph.acceptPackagesNonRecursive(packageName);
-        }
-
-        try (ScanResult scanResult = classGraph.scan()) {
-            for (ClassInfo classInfo : scanResult.getAllClasses()) {
-                try {
-                    classes.add(Class.forName(classInfo.getName(), true, loader));
-                } catch (Throwable ignored) {
-                }
+        for (String name : EntityScanner.find(loader, packageName)) {
+            try {
+                // mapping only needs the class structure so leave initialization until the type is actually used
+                classes.add(Class.forName(name, false, loader));
+            } catch (Throwable ignored) {
             }
         }
         return new ArrayList<>(classes);
     }
 
-    private <T> boolean hasAnnotation(Class<T> clazz, List<Class<? extends Annotation>> annotations) {
+    private static boolean hasAnnotation(Class<?> clazz, List<Class<? extends Annotation>> annotations) {
         for (Class<? extends Annotation> annotation : annotations) {
             if (clazz.getAnnotation(annotation) != null) {
                 return true;
             }
         }
-
-        return clazz.getSuperclass() != null && hasAnnotation(clazz.getSuperclass(), annotations)
-                || Arrays.stream(clazz.getInterfaces())
-                        .map(i -> hasAnnotation(i, annotations))
-                        .reduce(false, (l, r) -> l || r);
+        if (clazz.getSuperclass() != null && hasAnnotation(clazz.getSuperclass(), annotations)) {
+            return true;
+        }
+        for (Class<?> type : clazz.getInterfaces()) {
+            if (hasAnnotation(type, annotations)) {
+                return true;
+            }
+        }
+        return false;
     }
 
 }
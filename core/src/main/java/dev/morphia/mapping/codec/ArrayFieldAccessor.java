@@ -9,6 +9,8 @@ import com.mongodb.lang.Nullable;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.codec.pojo.TypeData;
 
+import org.bson.codecs.pojo.PropertyAccessor;
+
 import static java.lang.String.format;
 
 /**
@@ -21,6 +23,8 @@ public class ArrayFieldAccessor extends FieldAccessor {
 
     private final TypeData<?> typeData;
     private final Class<?> componentType;
+    @Nullable
+    private final PropertyAccessor<Object> delegate;
 
     /**
      * Creates the accessor
@@ -29,18 +33,41 @@ public class ArrayFieldAccessor extends FieldAccessor {
      * @param field    the field
      */
     public ArrayFieldAccessor(TypeData<?> typeData, Field field) {
+        this(typeData, field, null);
+    }
+
+    /**
+     * Creates the accessor
+     *
+     * @param typeData the type data
+     * @param field    the field
+     * @param delegate the accessor to use for reading and writing the converted values. if null, reflection is used.
+     * @since 3.0
+     */
+    public ArrayFieldAccessor(TypeData<?> typeData, Field field, @Nullable PropertyAccessor<Object> delegate) {
         super(field);
         this.typeData = typeData;
+        this.delegate = delegate;
         componentType = field.getType().getComponentType();
     }
 
+    @Override
+    @Nullable
+    public Object get(@Nullable Object instance) {
+        return delegate != null ? delegate.get(instance) : super.get(instance);
+    }
+
     @Override
     public void set(Object instance, Object value) {
         Object newValue = value;
         if (value.getClass().getComponentType() != componentType) {
             newValue = value instanceof List ? convert((List) value) : convert((Object[]) value);
         }
-        super.set(instance, newValue);
+        if (delegate != null) {
+            delegate.set(instance, newValue);
+        } else {
+            super.set(instance, newValue);
+        }
     }
 
     private Object convert(Object[] value) {
@@ -0,0 +1,46 @@
+package dev.morphia.mapping.codec;
+
+import java.util.Arrays;
+
+import dev.morphia.MorphiaDatastore;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Encodes {@code double[]} values as arrays of {@code DOUBLE} without boxing each element.
+ */
+class DoubleArrayCodec extends PrimitiveArrayCodec<double[], Double> {
+    DoubleArrayCodec(MorphiaDatastore datastore) {
+        super(datastore, double[].class, Double.class);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, double[] value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (double element : value) {
+            writer.writeDouble(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public double[] decode(BsonReader reader, DecoderContext decoderContext) {
+        reader.readStartArray();
+        double[] values = new double[INITIAL_CAPACITY];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.DOUBLE
+                    ? reader.readDouble()
+                    : decodeElement(reader, decoderContext);
+        }
+        reader.readEndArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+}
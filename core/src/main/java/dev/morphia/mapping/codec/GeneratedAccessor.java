@@ -0,0 +1,165 @@
+package dev.morphia.mapping.codec;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodHandles.Lookup.ClassOption;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import org.bson.codecs.pojo.PropertyAccessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.description.type.TypeDescription.Generic;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.Removal;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.implementation.bytecode.assign.Assigner.Typing;
+import net.bytebuddy.implementation.bytecode.assign.TypeCasting;
+import net.bytebuddy.implementation.bytecode.member.FieldAccess;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * Accesses a property through a class generated for it when the property is mapped. The generated class is defined as a hidden nestmate
+ * of the class declaring the property so it reads and writes the field, or calls the getter and setter, with plain bytecode instead of
+ * going through reflection or method handles.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public abstract class GeneratedAccessor implements PropertyAccessor<Object> {
+    private static final Logger LOG = LoggerFactory.getLogger(GeneratedAccessor.class);
+
+    /**
+     * Creates an accessor for the field. Final fields can only be written from the constructor of the declaring class so those, and
+     * fields whose declaring class can not be given a nestmate, use a reflective {@link FieldAccessor} instead.
+     *
+     * @param field the field itself
+     * @return the accessor
+     */
+    public static PropertyAccessor<Object> of(Field field) {
+        if (Modifier.isFinal(field.getModifiers())) {
+            return new FieldAccessor(field);
+        }
+        try {
+            FieldDescription description = new FieldDescription.ForLoadedField(field);
+            Generic type = Generic.OfNonGenericType.ForLoadedType.of(field.getType());
+            return generate(field.getDeclaringClass(),
+                    new StackManipulation.Compound(
+                            FieldAccess.forField(description).read(),
+                            assign(type, Generic.OBJECT)),
+                    new StackManipulation.Compound(
+                            MethodVariableAccess.REFERENCE.loadFrom(2),
+                            assign(Generic.OBJECT, type),
+                            FieldAccess.forField(description).write()));
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            LOG.debug("Falling back to reflective access for {}: {}", field, e.getMessage());
+            return new FieldAccessor(field);
+        }
+    }
+
+    /**
+     * Creates an accessor for the methods. If a class can not be generated for them, a reflective {@link MethodAccessor} is returned
+     * instead.
+     *
+     * @param getter the getter
+     * @param setter the setter
+     * @return the accessor
+     */
+    public static PropertyAccessor<Object> of(Method getter, Method setter) {
+        try {
+            Generic type = Generic.OfNonGenericType.ForLoadedType.of(setter.getParameterTypes()[0]);
+            Generic result = Generic.OfNonGenericType.ForLoadedType.of(setter.getReturnType());
+            return generate(getter.getDeclaringClass(),
+                    new StackManipulation.Compound(
+                            MethodInvocation.invoke(new MethodDescription.ForLoadedMethod(getter)),
+                            assign(Generic.OfNonGenericType.ForLoadedType.of(getter.getReturnType()), Generic.OBJECT)),
+                    new StackManipulation.Compound(
+                            MethodVariableAccess.REFERENCE.loadFrom(2),
+                            assign(Generic.OBJECT, type),
+                            MethodInvocation.invoke(new MethodDescription.ForLoadedMethod(setter)),
+                            Removal.of(result)));
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            LOG.debug("Falling back to reflective access for {}/{}: {}", getter, setter, e.getMessage());
+            return new MethodAccessor(getter, setter);
+        }
+    }
+
+    @Override
+    @Nullable
+    public final <S> Object get(@Nullable S instance) {
+        return instance != null ? read(instance) : null;
+    }
+
+    @Override
+    public final <S> void set(S instance, @Nullable Object value) {
+        write(instance, value);
+    }
+
+    /**
+     * Reads the property from the entity.
+     *
+     * @param instance the entity
+     * @return the value of the property, boxed if it is primitive
+     */
+    @Nullable
+    protected abstract Object read(Object instance);
+
+    /**
+     * Writes the property on the entity.
+     *
+     * @param instance the entity
+     * @param value    the new value
+     */
+    protected abstract void write(Object instance, @Nullable Object value);
+
+    /**
+     * Defines a subclass whose {@code read} and {@code write} cast the entity to the declaring type and then apply the given bytecode.
+     * The bytecode for {@code write} loads the value itself so that it can be converted to the type of the property.
+     */
+    private static PropertyAccessor<Object> generate(Class<?> declaringType, StackManipulation read, StackManipulation write)
+            throws ReflectiveOperationException {
+        StackManipulation instance = new StackManipulation.Compound(
+                MethodVariableAccess.REFERENCE.loadFrom(1),
+                TypeCasting.to(TypeDescription.ForLoadedType.of(declaringType)));
+        byte[] bytes = new ByteBuddy(ClassFileVersion.JAVA_V17)
+                .subclass(GeneratedAccessor.class, ConstructorStrategy.Default.DEFAULT_CONSTRUCTOR)
+                .name(declaringType.getName() + "$MorphiaAccessor")
+                .method(named("read"))
+                .intercept(new Implementation.Simple(instance, read, MethodReturn.REFERENCE))
+                .method(named("write"))
+                .intercept(new Implementation.Simple(instance, write, MethodReturn.VOID))
+                .make()
+                .getBytes();
+
+        Lookup lookup = MethodHandles.privateLookupIn(declaringType, MethodHandles.lookup())
+                .defineHiddenClass(bytes, true, ClassOption.NESTMATE);
+        return (GeneratedAccessor) lookup.lookupClass().getDeclaredConstructor().newInstance();
+    }
+
+    private static StackManipulation assign(Generic from, Generic to) {
+        StackManipulation assignment = Assigner.DEFAULT.assign(from, to, Typing.DYNAMIC);
+        if (!assignment.isValid()) {
+            throw new IllegalArgumentException(from + " can not be assigned to " + to);
+        }
+        return assignment;
+    }
+}
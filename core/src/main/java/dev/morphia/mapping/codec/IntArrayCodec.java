@@ -0,0 +1,46 @@
+package dev.morphia.mapping.codec;
+
+import java.util.Arrays;
+
+import dev.morphia.MorphiaDatastore;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Encodes {@code int[]} values as arrays of {@code INT32} without boxing each element.
+ */
+class IntArrayCodec extends PrimitiveArrayCodec<int[], Integer> {
+    IntArrayCodec(MorphiaDatastore datastore) {
+        super(datastore, int[].class, Integer.class);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, int[] value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (int element : value) {
+            writer.writeInt32(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public int[] decode(BsonReader reader, DecoderContext decoderContext) {
+        reader.readStartArray();
+        int[] values = new int[INITIAL_CAPACITY];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.INT32
+                    ? reader.readInt32()
+                    : decodeElement(reader, decoderContext);
+        }
+        reader.readEndArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,46 @@
+package dev.morphia.mapping.codec;
+
+import java.util.Arrays;
+
+import dev.morphia.MorphiaDatastore;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Encodes {@code long[]} values as arrays of {@code INT64} without boxing each element.
+ */
+class LongArrayCodec extends PrimitiveArrayCodec<long[], Long> {
+    LongArrayCodec(MorphiaDatastore datastore) {
+        super(datastore, long[].class, Long.class);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, long[] value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (long element : value) {
+            writer.writeInt64(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public long[] decode(BsonReader reader, DecoderContext decoderContext) {
+        reader.readStartArray();
+        long[] values = new long[INITIAL_CAPACITY];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.INT64
+                    ? reader.readInt64()
+                    : decodeElement(reader, decoderContext);
+        }
+        reader.readEndArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+}
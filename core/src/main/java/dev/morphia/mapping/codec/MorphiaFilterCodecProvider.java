@@ -4,7 +4,6 @@ import java.util.HashMap;
 import java.util.Map;
 
 import dev.morphia.MorphiaDatastore;
-import dev.morphia.mapping.codec.filters.BaseFilterCodec;
 import dev.morphia.mapping.codec.filters.BoxCodec;
 import dev.morphia.mapping.codec.filters.CenterFilterCodec;
 import dev.morphia.mapping.codec.filters.ElemMatchFilterCodec;
@@ -16,6 +15,7 @@ import dev.morphia.mapping.codec.filters.GeoIntersectsFilterCodec;
 import dev.morphia.mapping.codec.filters.JsonSchemaFilterCodec;
 import dev.morphia.mapping.codec.filters.LogicalFilterCodec;
 import dev.morphia.mapping.codec.filters.NearFilterCodec;
+import dev.morphia.mapping.codec.filters.ParameterCodec;
 import dev.morphia.mapping.codec.filters.PolygonFilterCodec;
 import dev.morphia.mapping.codec.filters.RegexFilterCodec;
 import dev.morphia.mapping.codec.filters.SampleRateFilterCodec;
@@ -29,7 +29,7 @@ import org.bson.codecs.configuration.CodecRegistry;
 
 public class MorphiaFilterCodecProvider implements CodecProvider {
     protected final MorphiaDatastore datastore;
-    private final Map<Class<?>, BaseFilterCodec<?>> codecs = new HashMap<>();
+    private final Map<Class<?>, Codec<?>> codecs = new HashMap<>();
 
     public MorphiaFilterCodecProvider(MorphiaDatastore datastore) {
         this.datastore = datastore;
@@ -45,6 +45,7 @@ public class MorphiaFilterCodecProvider implements CodecProvider {
         addCodec(new LogicalFilterCodec(datastore));
         addCodec(new ModFilterCodec(datastore));
         addCodec(new NearFilterCodec(datastore));
+        addCodec(new ParameterCodec());
         addCodec(new PolygonFilterCodec(datastore));
         addCodec(new RegexFilterCodec(datastore));
         addCodec(new SampleRateFilterCodec(datastore));
@@ -62,7 +63,7 @@ public class MorphiaFilterCodecProvider implements CodecProvider {
         return codec;
     }
 
-    private void addCodec(BaseFilterCodec<?> codec) {
+    private void addCodec(Codec<?> codec) {
         codecs.put(codec.getEncoderClass(), codec);
     }
 
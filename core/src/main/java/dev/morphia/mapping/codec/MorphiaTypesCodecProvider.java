@@ -40,11 +40,14 @@ public class MorphiaTypesCodecProvider implements CodecProvider {
 
         List.of(boolean.class, Boolean.class,
                 char.class, Character.class,
-                double.class, Double.class,
+                Double.class,
                 float.class, Float.class,
-                int.class, Integer.class,
-                long.class, Long.class,
+                Integer.class,
+                Long.class,
                 short.class, Short.class).forEach(c -> addCodec(new TypedArrayCodec(datastore, c)));
+        addCodec(new DoubleArrayCodec(datastore));
+        addCodec(new IntArrayCodec(datastore));
+        addCodec(new LongArrayCodec(datastore));
     }
 
     protected <T> void addCodec(Codec<T> codec) {
@@ -18,7 +18,6 @@ import org.bson.codecs.configuration.CodecConfigurationException;
  * Defines a generic codec for Objects that will attempt to discover and use the correct codec.
  */
 public class ObjectCodec implements Codec<Object> {
-
     private final BsonTypeClassMap bsonTypeClassMap = new BsonTypeClassMap();
     private MorphiaDatastore datastore;
 
@@ -33,30 +32,28 @@ public class ObjectCodec implements Codec<Object> {
     @Override
     public Object decode(BsonReader reader, DecoderContext decoderContext) {
         BsonType bsonType = reader.getCurrentBsonType();
-        Class<?> clazz;
-        if (bsonType == BsonType.DOCUMENT) {
-            clazz = Document.class;
-            String discriminatorField = datastore.getMapper().getConfig().discriminatorKey();
+        if (bsonType != BsonType.DOCUMENT) {
+            return datastore.getCodecRegistry()
+                    .get(bsonTypeClassMap.get(bsonType))
+                    .decode(reader, decoderContext);
+        }
+        String discriminatorField = datastore.getMapper().getConfig().discriminatorKey();
+        String discriminator = null;
 
-            BsonReaderMark mark = reader.getMark();
-            reader.readStartDocument();
-            while (clazz.equals(Document.class) && reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                if (reader.readName().equals(discriminatorField)) {
-                    try {
-                        clazz = datastore.getMapper().getClass(reader.readString());
-                    } catch (CodecConfigurationException e) {
-                        throw new MappingException(e.getMessage(), e);
-                    }
-                } else {
-                    reader.skipValue();
-                }
+        // Morphia writes the discriminator right after the ID so this usually stops early
+        BsonReaderMark mark = reader.getMark();
+        reader.readStartDocument();
+        while (discriminator == null && reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.readName().equals(discriminatorField)) {
+                discriminator = reader.readString();
+            } else {
+                reader.skipValue();
             }
-            mark.reset();
-        } else {
-            clazz = bsonTypeClassMap.get(bsonType);
         }
+        mark.reset();
+
         return datastore.getCodecRegistry()
-                .get(clazz)
+                .get(discriminator != null ? lookup(discriminator) : Document.class)
                 .decode(reader, decoderContext);
     }
 
@@ -70,4 +67,12 @@ public class ObjectCodec implements Codec<Object> {
     public Class<Object> getEncoderClass() {
         return Object.class;
     }
+
+    private Class<?> lookup(String discriminator) {
+        try {
+            return datastore.getMapper().getClass(discriminator);
+        } catch (CodecConfigurationException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
 }
@@ -0,0 +1,189 @@
+package dev.morphia.mapping.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.Packed;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.PropertyHandler;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonReader;
+import org.bson.BsonSerializationException;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Encodes numeric arrays as one binary value of little-endian packed elements.
+ *
+ * @hidden
+ * @morphia.internal
+ * @see Packed
+ * @since 3.0
+ */
+@MorphiaInternal
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class PackedArrayCodec implements Codec<Object>, PropertyHandler {
+    private final PropertyModel property;
+    private final Layout layout;
+    @Nullable
+    private final Codec elementWise;
+
+    /**
+     * Creates the codec
+     *
+     * @param property    the property being encoded
+     * @param elementWise the codec to use for values still stored as BSON arrays
+     */
+    public PackedArrayCodec(PropertyModel property, @Nullable Codec<?> elementWise) {
+        this.property = property;
+        this.elementWise = elementWise;
+        layout = Layout.of(property.getType());
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Object value, EncoderContext encoderContext) {
+        writer.writeBinaryData(new BsonBinary(BsonBinarySubType.USER_DEFINED, layout.pack(value)));
+    }
+
+    @Override
+    public Object decode(BsonReader reader, DecoderContext decoderContext) {
+        if (reader.getCurrentBsonType() != BsonType.BINARY && elementWise != null) {
+            return elementWise.decode(reader, decoderContext);
+        }
+        byte[] data = reader.readBinaryData().getData();
+        if (data.length % layout.size != 0) {
+            throw new BsonSerializationException(Sofia.packedArrayInvalidLength(property.getFullName(), data.length, layout.size));
+        }
+        return layout.unpack(ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN), data.length / layout.size);
+    }
+
+    /**
+     * Packs array values so that filters and updates on this property match the stored form.
+     */
+    @Override
+    @Nullable
+    public Object encode(@Nullable Object value) {
+        return value != null && value.getClass().equals(property.getType())
+                ? new BsonBinary(BsonBinarySubType.USER_DEFINED, layout.pack(value))
+                : value;
+    }
+
+    @Override
+    public Class<Object> getEncoderClass() {
+        return (Class<Object>) property.getType();
+    }
+
+    private enum Layout {
+        INT(int[].class, Integer.BYTES) {
+            @Override
+            void put(ByteBuffer buffer, Object value) {
+                buffer.asIntBuffer().put((int[]) value);
+            }
+
+            @Override
+            Object unpack(ByteBuffer buffer, int length) {
+                int[] values = new int[length];
+                buffer.asIntBuffer().get(values);
+                return values;
+            }
+
+            @Override
+            int length(Object value) {
+                return ((int[]) value).length;
+            }
+        },
+        LONG(long[].class, Long.BYTES) {
+            @Override
+            void put(ByteBuffer buffer, Object value) {
+                buffer.asLongBuffer().put((long[]) value);
+            }
+
+            @Override
+            Object unpack(ByteBuffer buffer, int length) {
+                long[] values = new long[length];
+                buffer.asLongBuffer().get(values);
+                return values;
+            }
+
+            @Override
+            int length(Object value) {
+                return ((long[]) value).length;
+            }
+        },
+        FLOAT(float[].class, Float.BYTES) {
+            @Override
+            void put(ByteBuffer buffer, Object value) {
+                buffer.asFloatBuffer().put((float[]) value);
+            }
+
+            @Override
+            Object unpack(ByteBuffer buffer, int length) {
+                float[] values = new float[length];
+                buffer.asFloatBuffer().get(values);
+                return values;
+            }
+
+            @Override
+            int length(Object value) {
+                return ((float[]) value).length;
+            }
+        },
+        DOUBLE(double[].class, Double.BYTES) {
+            @Override
+            void put(ByteBuffer buffer, Object value) {
+                buffer.asDoubleBuffer().put((double[]) value);
+            }
+
+            @Override
+            Object unpack(ByteBuffer buffer, int length) {
+                double[] values = new double[length];
+                buffer.asDoubleBuffer().get(values);
+                return values;
+            }
+
+            @Override
+            int length(Object value) {
+                return ((double[]) value).length;
+            }
+        };
+
+        private final Class<?> type;
+        private final int size;
+
+        Layout(Class<?> type, int size) {
+            this.type = type;
+            this.size = size;
+        }
+
+        static Layout of(Class<?> type) {
+            for (Layout layout : values()) {
+                if (layout.type.equals(type)) {
+                    return layout;
+                }
+            }
+            throw new MappingException(Sofia.packedArrayInvalidType());
+        }
+
+        byte[] pack(Object value) {
+            ByteBuffer buffer = ByteBuffer.allocate(length(value) * size).order(ByteOrder.LITTLE_ENDIAN);
+            put(buffer, value);
+            return buffer.array();
+        }
+
+        abstract void put(ByteBuffer buffer, Object value);
+
+        abstract Object unpack(ByteBuffer buffer, int length);
+
+        abstract int length(Object value);
+    }
+}
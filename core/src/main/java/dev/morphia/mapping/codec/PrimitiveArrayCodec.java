@@ -0,0 +1,56 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.MorphiaDatastore;
+
+import org.bson.BsonReader;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+
+import static java.lang.String.format;
+
+/**
+ * The base for the codecs reading and writing numeric arrays directly to and from primitive arrays. Elements stored with the matching
+ * BSON type are read without boxing. Anything else is handed to the wrapper type's codec so that the usual numeric conversions still
+ * apply.
+ *
+ * @param <A> the array type
+ * @param <E> the wrapper type of the array's elements
+ */
+abstract class PrimitiveArrayCodec<A, E> implements Codec<A> {
+    static final int INITIAL_CAPACITY = 16;
+
+    private final MorphiaDatastore datastore;
+    private final Class<A> encoderClass;
+    private final Class<E> elementType;
+    private Codec<E> codec;
+
+    PrimitiveArrayCodec(MorphiaDatastore datastore, Class<A> encoderClass, Class<E> elementType) {
+        this.datastore = datastore;
+        this.encoderClass = encoderClass;
+        this.elementType = elementType;
+    }
+
+    @Override
+    public Class<A> getEncoderClass() {
+        return encoderClass;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s<%s>", getClass().getName(), encoderClass.getComponentType().getSimpleName());
+    }
+
+    /**
+     * Decodes an element whose BSON type does not match the array's component type.
+     */
+    E decodeElement(BsonReader reader, DecoderContext decoderContext) {
+        if (codec == null) {
+            codec = datastore.getCodecRegistry().get(elementType);
+        }
+        return codec.decode(reader, decoderContext);
+    }
+
+    static int grow(int length) {
+        return Math.max(INITIAL_CAPACITY, length + (length >> 1));
+    }
+}
@@ -0,0 +1,43 @@
+package dev.morphia.mapping.codec.filters;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.query.Parameter;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Encodes a {@link Parameter} as a marker document which is replaced by the bound value when a prepared query is executed.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class ParameterCodec implements Codec<Parameter> {
+    /**
+     * The field name used in the marker document
+     */
+    public static final String PARAMETER = "$parameter";
+
+    @Override
+    public void encode(BsonWriter writer, Parameter value, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeString(PARAMETER, value.name());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Parameter decode(BsonReader reader, DecoderContext decoderContext) {
+        throw new UnsupportedOperationException(Sofia.encodingOnly());
+    }
+
+    @Override
+    public Class<Parameter> getEncoderClass() {
+        return Parameter.class;
+    }
+}
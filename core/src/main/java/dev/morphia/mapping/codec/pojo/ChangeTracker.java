@@ -0,0 +1,249 @@
+package dev.morphia.mapping.codec.pojo;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+/**
+ * Keeps the encoded form of tracked entities as they were last read from or written to the database. The snapshots are held weakly
+ * against the entity instances so that untracking is never required. Comparing a snapshot with the current encoded form of an entity
+ * yields the {@code $set} and {@code $unset} operations needed to bring the stored document up to date.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class ChangeTracker {
+    private final Map<IdentityReference, RawBsonDocument> snapshots = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    /**
+     * Encodes an entity in to the compact form used for snapshots.
+     *
+     * @param encoder the encoder to use
+     * @param entity  the entity to encode
+     * @param <T>     the entity type
+     * @return the encoded entity
+     */
+    public static <T> RawBsonDocument encode(Encoder<T> encoder, T entity) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            encoder.encode(writer, entity, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+        }
+        return new RawBsonDocument(buffer.toByteArray());
+    }
+
+    /**
+     * Computes the changes between the snapshot of the entity and its current state.
+     *
+     * @param entity  the entity
+     * @param current the current encoded form of the entity
+     * @param unset   true if fields missing from the current state should be unset
+     * @return the changes or null if the entity is not tracked
+     */
+    @Nullable
+    public Changes changes(Object entity, RawBsonDocument current, boolean unset) {
+        RawBsonDocument snapshot = snapshots.get(new IdentityReference(entity, null));
+        if (snapshot == null) {
+            return null;
+        }
+        Changes changes = new Changes(current);
+        diff("", snapshot, current, changes, unset);
+        return changes;
+    }
+
+    /**
+     * Stops tracking an entity
+     *
+     * @param entity the entity
+     */
+    public void forget(Object entity) {
+        snapshots.remove(new IdentityReference(entity, null));
+    }
+
+    /**
+     * @param entity the entity
+     * @return true if a snapshot of the entity is held
+     */
+    public boolean isTracked(Object entity) {
+        return snapshots.containsKey(new IdentityReference(entity, null));
+    }
+
+    /**
+     * @return the number of entities currently tracked
+     */
+    public int size() {
+        expunge();
+        return snapshots.size();
+    }
+
+    /**
+     * Records the state of an entity
+     *
+     * @param entity   the entity
+     * @param snapshot the encoded form of the entity
+     */
+    public void snapshot(Object entity, RawBsonDocument snapshot) {
+        expunge();
+        snapshots.put(new IdentityReference(entity, queue), snapshot);
+    }
+
+    /**
+     * Records the state of an entity. The entity is encoded without invoking any lifecycle methods.
+     *
+     * @param entity the entity
+     * @param codec  the codec for the entity's type
+     * @param <T>    the entity type
+     */
+    public <T> void snapshot(T entity, MorphiaCodec<T> codec) {
+        snapshot(entity, encode(new EntityEncoder<>(codec), entity));
+    }
+
+    private static void diff(String prefix, BsonDocument before, BsonDocument after, Changes changes, boolean unset) {
+        for (Entry<String, BsonValue> entry : after.entrySet()) {
+            String key = entry.getKey();
+            if (prefix.isEmpty() && key.equals("_id")) {
+                continue;
+            }
+            BsonValue previous = before.get(key);
+            BsonValue value = entry.getValue();
+            if (!value.equals(previous)) {
+                if (previous != null && previous.isDocument() && value.isDocument()
+                        && addressable(previous.asDocument()) && addressable(value.asDocument())) {
+                    diff(prefix + key + ".", previous.asDocument(), value.asDocument(), changes, unset);
+                } else {
+                    changes.set.put(prefix + key, value);
+                }
+            }
+        }
+        for (String key : before.keySet()) {
+            if (!after.containsKey(key)) {
+                if (unset) {
+                    changes.unset.put(prefix + key, new BsonString(""));
+                } else {
+                    changes.skipped = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Fields can only be updated individually if their names can be used in a dotted path.
+     */
+    private static boolean addressable(BsonDocument document) {
+        for (String key : document.keySet()) {
+            if (key.isEmpty() || key.indexOf('.') != -1 || key.charAt(0) == '$') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void expunge() {
+        Reference<?> reference;
+        while ((reference = queue.poll()) != null) {
+            snapshots.remove(reference);
+        }
+    }
+
+    /**
+     * The differences between a snapshot and the current state of an entity.
+     *
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public static class Changes {
+        private final RawBsonDocument current;
+        private final BsonDocument set = new BsonDocument();
+        private final BsonDocument unset = new BsonDocument();
+        private boolean skipped;
+
+        Changes(RawBsonDocument current) {
+            this.current = current;
+        }
+
+        /**
+         * @return the current encoded form of the entity
+         */
+        public RawBsonDocument current() {
+            return current;
+        }
+
+        /**
+         * @return true if there are no changes to apply
+         */
+        public boolean isEmpty() {
+            return set.isEmpty() && unset.isEmpty();
+        }
+
+        /**
+         * @return true if fields were removed from the entity but are not being unset
+         */
+        public boolean skipped() {
+            return skipped;
+        }
+
+        /**
+         * @return the update document applying these changes
+         */
+        public Document toUpdate() {
+            Document update = new Document();
+            if (!set.isEmpty()) {
+                update.put("$set", set);
+            }
+            if (!unset.isEmpty()) {
+                update.put("$unset", unset);
+            }
+            return update;
+        }
+    }
+
+    /**
+     * Compares entities by identity as an entity's own equality is usually defined by its state which is exactly what is tracked.
+     */
+    private static class IdentityReference extends WeakReference<Object> {
+        private final int hash;
+
+        IdentityReference(Object referent, @Nullable ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IdentityReference)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((IdentityReference) o).get();
+        }
+    }
+}
@@ -1,20 +1,23 @@
 package dev.morphia.mapping.codec.pojo;
 
+import java.lang.reflect.Modifier;
+
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.internal.MorphiaInternal;
-import dev.morphia.mapping.DiscriminatorLookup;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonReader;
 import org.bson.BsonReaderMark;
 import org.bson.BsonType;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
 import org.bson.codecs.configuration.CodecConfigurationException;
-import org.bson.codecs.configuration.CodecRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +33,7 @@ import static java.lang.String.format;
 @MorphiaInternal
 public class EntityDecoder<T> implements Decoder<T> {
     private static final Logger LOG = LoggerFactory.getLogger(EntityDecoder.class);
+    private static final RawBsonDocumentCodec RAW = new RawBsonDocumentCodec();
 
     private final MorphiaCodec<T> morphiaCodec;
     private final EntityModel classModel;
@@ -46,12 +50,26 @@ public class EntityDecoder<T> implements Decoder<T> {
         if (decoderContext.hasCheckedDiscriminator()) {
             LOG.debug(format("Decoding document using codec for %s'", morphiaCodec.getEntityModel().getType().getName()));
             MorphiaInstanceCreator instanceCreator = getInstanceCreator();
-            decodeProperties(reader, decoderContext, instanceCreator, classModel);
-            return (T) instanceCreator.getInstance();
+            RawBsonDocument snapshot = snapshot(reader, classModel);
+            BsonReader source = snapshot != null ? snapshot.asBsonReader() : reader;
+            ReferenceBatch batch = ReferenceBatch.current();
+            if (batch == null) {
+                decodeProperties(source, decoderContext, instanceCreator, classModel);
+                entity = (T) instanceCreator.getInstance();
+                track(entity, snapshot);
+                return entity;
+            }
+            int mark = batch.mark();
+            entity = null;
+            try {
+                decodeProperties(source, decoderContext, instanceCreator, classModel);
+                entity = (T) instanceCreator.getInstance();
+                track(entity, snapshot);
+            } finally {
+                batch.bind(mark, entity);
+            }
         } else {
-            entity = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.discriminatorKey(),
-                    morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
-                    .decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
+            entity = decodeWithDiscriminator(reader, classModel, morphiaCodec);
         }
 
         return entity;
@@ -93,29 +111,91 @@ public class EntityDecoder<T> implements Decoder<T> {
         reader.readEndDocument();
     }
 
-    protected Codec<T> getCodecFromDocument(BsonReader reader, boolean useDiscriminator, String discriminatorKey,
-            CodecRegistry registry, DiscriminatorLookup discriminatorLookup,
-            Codec<T> defaultCodec) {
-        Codec<T> codec = null;
-        if (useDiscriminator) {
-            BsonReaderMark mark = reader.getMark();
-            try {
-                reader.readStartDocument();
-                while (codec == null && reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                    if (discriminatorKey.equals(reader.readName())) {
-                        codec = (Codec<T>) registry.get(discriminatorLookup.lookup(reader.readString()));
-                    } else {
-                        reader.skipValue();
-                    }
+    /**
+     * Decodes the document with the codec of the type named by its discriminator, if any. Final types can have no subtypes and are
+     * decoded directly. Otherwise the document is scanned for the discriminator, which Morphia writes right after the ID, skipping over
+     * the values of any other fields, and then decoded from the start. Subtypes which are not mapped yet are only found through the
+     * discriminator so types without mapped subtypes are scanned as well.
+     *
+     * @param reader       the reader
+     * @param model        the model of the default type
+     * @param defaultCodec the codec to use if the document has no discriminator
+     * @return the entity
+     */
+    protected T decodeWithDiscriminator(BsonReader reader, EntityModel model, Codec<T> defaultCodec) {
+        DecoderContext checked = DecoderContext.builder().checkedDiscriminator(true).build();
+        if (!model.useDiscriminator() || Modifier.isFinal(model.getType().getModifiers())) {
+            return defaultCodec.decode(reader, checked);
+        }
+        String discriminatorKey = model.discriminatorKey();
+        String discriminator = null;
+        BsonReaderMark mark = reader.getMark();
+        try {
+            reader.readStartDocument();
+            while (discriminator == null && reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (discriminatorKey.equals(reader.readName())) {
+                    discriminator = reader.readString();
+                } else {
+                    reader.skipValue();
                 }
-            } catch (Exception e) {
-                throw new CodecConfigurationException(format("Failed to decode '%s'. Decoding errored with: %s",
-                        morphiaCodec.getEntityModel().getName(), e.getMessage()), e);
-            } finally {
-                mark.reset();
             }
+        } catch (Exception e) {
+            throw decodingFailed(e);
+        } finally {
+            mark.reset();
+        }
+
+        return (discriminator != null ? codecFor(discriminator) : defaultCodec).decode(reader, checked);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Codec<T> codecFor(String discriminator) {
+        Codec<?> codec;
+        try {
+            codec = morphiaCodec.getRegistry().get(morphiaCodec.getDiscriminatorLookup().lookup(discriminator));
+        } catch (Exception e) {
+            throw decodingFailed(e);
+        }
+        if (!(codec instanceof MorphiaCodec)) {
+            throw new CodecConfigurationException(format("Non-entity class used as discriminator: '%s'.", discriminator));
+        }
+        return (Codec<T>) codec;
+    }
+
+    private CodecConfigurationException decodingFailed(Exception e) {
+        return new CodecConfigurationException(format("Failed to decode '%s'. Decoding errored with: %s",
+                morphiaCodec.getEntityModel().getName(), e.getMessage()), e);
+    }
+
+    /**
+     * Copies the bytes of the document about to be decoded when change tracking is enabled for the model. The entity should then be
+     * decoded from the copy. Keeping the document as it was stored means references are compared in their stored form however and
+     * whenever they are resolved, and the entity never needs to be encoded again just to take a snapshot.
+     *
+     * @param reader the reader positioned at the start of the document
+     * @param model  the model of the entity
+     * @return the document or null if the entity is not tracked
+     */
+    @Nullable
+    protected RawBsonDocument snapshot(BsonReader reader, EntityModel model) {
+        if (!morphiaCodec.getDatastore().getMapper().getConfig().trackChanges()
+                || model.getEntityAnnotation() == null || model.getIdProperty() == null) {
+            return null;
+        }
+        return RAW.decode(reader, DecoderContext.builder().build());
+    }
+
+    /**
+     * Records the stored state of a freshly decoded entity. This should be called before any {@code @PostLoad} methods so that any
+     * changes they make are seen as changes.
+     *
+     * @param entity   the decoded entity
+     * @param snapshot the document the entity was decoded from or null if the entity is not tracked
+     */
+    protected void track(@Nullable Object entity, @Nullable RawBsonDocument snapshot) {
+        if (entity != null && snapshot != null) {
+            morphiaCodec.getDatastore().getChangeTracker().snapshot(entity, snapshot);
         }
-        return codec != null ? codec : defaultCodec;
     }
 
     protected MorphiaInstanceCreator getInstanceCreator() {
@@ -113,8 +113,23 @@ public class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
     }
 
     protected void encodeValue(BsonWriter writer, EncoderContext encoderContext, PropertyModel model, @Nullable Object value) {
+        encodeValue(writer, encoderContext, model.getMappedName(), model, value);
+    }
+
+    /**
+     * Encodes a value under a name which is already known to be the mapped name of the property. Generated codecs use this to write
+     * their field names as literals.
+     *
+     * @param writer         the writer
+     * @param encoderContext the context
+     * @param name           the mapped name of the property
+     * @param model          the property to encode
+     * @param value          the value of the property
+     */
+    protected void encodeValue(BsonWriter writer, EncoderContext encoderContext, String name, PropertyModel model,
+            @Nullable Object value) {
         if (model.shouldSerialize(value)) {
-            writeValue(writer, encoderContext, model, value);
+            writeValue(writer, encoderContext, name, model, value);
         }
     }
 
@@ -135,7 +150,12 @@ public class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
     }
 
     protected void writeValue(BsonWriter writer, EncoderContext encoderContext, PropertyModel model, @Nullable Object value) {
-        writer.writeName(model.getMappedName());
+        writeValue(writer, encoderContext, model.getMappedName(), model, value);
+    }
+
+    private void writeValue(BsonWriter writer, EncoderContext encoderContext, String name, PropertyModel model,
+            @Nullable Object value) {
+        writer.writeName(name);
         if (value == null) {
             writer.writeNull();
         } else {
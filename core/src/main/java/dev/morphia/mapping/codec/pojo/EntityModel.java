@@ -98,11 +98,11 @@ public class EntityModel {
             throw new MappingException(Sofia.noInnerClasses(type.getName()));
         }
         this.type = type;
+        creatorFactory = new InstanceCreatorFactoryImpl(this);
     }
 
     public EntityModel(Mapper mapper, Class<?> type) {
         this(type);
-        creatorFactory = new InstanceCreatorFactoryImpl(this);
 
         new MappingUtil(mapper);
 
@@ -179,11 +179,12 @@ public class EntityModel {
      *
      * @param event     the event to run
      * @param entity    the entity to use
-     * @param document  the document used in persistence
+     * @param document  the document used in persistence. This may be null when loading an entity if no listener needs it.
      * @param datastore the Datastore to use
+     * @see #loadRequiresDocument()
      */
     @SuppressWarnings("rawtypes")
-    public void callLifecycleMethods(Class<? extends Annotation> event, Object entity, Document document,
+    public void callLifecycleMethods(Class<? extends Annotation> event, Object entity, @Nullable Document document,
             MorphiaDatastore datastore) {
         listeners.forEach((listener) -> {
             invokeLifecycleEvent(event, entity, document, datastore, listener);
@@ -414,6 +415,21 @@ public class EntityModel {
                 .anyMatch(listener -> listener.hasAnnotation(type));
     }
 
+    /**
+     * @return true if any {@code @PreLoad} or {@code @PostLoad} listener for this model takes the Document form of the entity
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public boolean loadRequiresDocument() {
+        return listeners.stream()
+                .anyMatch(listener -> listener instanceof EntityListenerAdapter
+                        ? ((EntityListenerAdapter) listener).usesDocument(PreLoad.class)
+                                || ((EntityListenerAdapter) listener).usesDocument(PostLoad.class)
+                        : listener.hasAnnotation(PreLoad.class) || listener.hasAnnotation(PostLoad.class));
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(annotations, propertyModelsByName, propertyModelsByMappedName, creatorFactory,
@@ -476,7 +492,7 @@ public class EntityModel {
     @SuppressWarnings("rawtypes")
     private void invokeLifecycleEvent(Class<? extends Annotation> event,
             Object entity,
-            Document document,
+            @Nullable Document document,
             Datastore datastore,
             EntityListener ei) {
         if (event.equals(PreLoad.class)) {
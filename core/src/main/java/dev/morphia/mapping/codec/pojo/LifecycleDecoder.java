@@ -5,9 +5,11 @@ import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.reader.DocumentReader;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 
 import org.bson.BsonReader;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.configuration.CodecConfigurationException;
@@ -32,11 +34,47 @@ public class LifecycleDecoder<T> extends EntityDecoder<T> {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public T decode(BsonReader reader, DecoderContext decoderContext) {
-        Document document = getMorphiaCodec().getRegistry().get(Document.class).decode(reader, decoderContext);
+        // lifecycle methods expect references to be loaded so any batching is suspended while decoding this entity
+        return ReferenceBatch.suspended(() -> decodeEntity(reader, decoderContext));
+    }
+
+    private T decodeEntity(BsonReader reader, DecoderContext decoderContext) {
+        MorphiaCodec<T> codec = getMorphiaCodec();
+        if (codec.getEntityModel().loadRequiresDocument() || codec.getDatastore().getMapper().hasListeners()) {
+            return decodeDocument(reader, decoderContext);
+        }
+        if (!decoderContext.hasCheckedDiscriminator()) {
+            EntityModel model = codec.getEntityModel();
+            return decodeWithDiscriminator(reader, model, codec);
+        }
+        return decodeStream(reader, decoderContext, codec.getEntityModel());
+    }
+
+    /**
+     * Decodes the entity straight from the reader. This is used when none of the lifecycle methods need the Document form of the
+     * entity.
+     */
+    @SuppressWarnings("unchecked")
+    private T decodeStream(BsonReader reader, DecoderContext decoderContext, EntityModel model) {
+        final MorphiaInstanceCreator instanceCreator = model.getInstanceCreator();
+        T entity = (T) instanceCreator.getInstance();
+        model.callLifecycleMethods(PreLoad.class, entity, null, getMorphiaCodec().getDatastore());
+        RawBsonDocument snapshot = snapshot(reader, model);
+        decodeProperties(snapshot != null ? snapshot.asBsonReader() : reader, decoderContext, instanceCreator, model);
+        track(entity, snapshot);
+        model.callLifecycleMethods(PostLoad.class, entity, null, getMorphiaCodec().getDatastore());
+
+        return entity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T decodeDocument(BsonReader reader, DecoderContext decoderContext) {
         EntityModel model = getMorphiaCodec().getEntityModel();
-        if (model.useDiscriminator()) {
+        RawBsonDocument snapshot = snapshot(reader, model);
+        Document document = getMorphiaCodec().getRegistry().get(Document.class)
+                .decode(snapshot != null ? snapshot.asBsonReader() : reader, decoderContext);
+        if (model.useDiscriminator() && !decoderContext.hasCheckedDiscriminator()) {
             String discriminator = document.getString(model.discriminatorKey());
             if (discriminator != null) {
                 Class<?> discriminatorClass = getMorphiaCodec().getDiscriminatorLookup().lookup(discriminator);
@@ -53,6 +91,7 @@ public class LifecycleDecoder<T> extends EntityDecoder<T> {
         T entity = (T) instanceCreator.getInstance();
         model.callLifecycleMethods(PreLoad.class, entity, document, getMorphiaCodec().getDatastore());
         decodeProperties(new DocumentReader(document), decoderContext, instanceCreator, model);
+        track(entity, snapshot);
         model.callLifecycleMethods(PostLoad.class, entity, document, getMorphiaCodec().getDatastore());
 
         return entity;
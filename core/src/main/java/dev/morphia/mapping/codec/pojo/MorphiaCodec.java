@@ -2,13 +2,18 @@ package dev.morphia.mapping.codec.pojo;
 
 import java.util.List;
 
+import com.mongodb.lang.Nullable;
+
 import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.instrumentation.Instrumentation;
 import dev.morphia.mapping.DiscriminatorLookup;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.PropertyCodecRegistryImpl;
 import dev.morphia.sofia.Sofia;
 
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
 import org.bson.BsonReader;
 import org.bson.BsonValue;
 import org.bson.BsonWriter;
@@ -39,6 +44,11 @@ import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 @SuppressWarnings("unchecked")
 public class MorphiaCodec<T> implements CollectibleCodec<T> {
     private static final Logger LOG = LoggerFactory.getLogger(MorphiaCodec.class);
+    /**
+     * Set while an entity is being measured so that nested entities, e.g. embedded values or subtypes delegated to, are included in
+     * the measurement of the outermost entity rather than reported again.
+     */
+    private static final ThreadLocal<boolean[]> MEASURING = ThreadLocal.withInitial(() -> new boolean[1]);
 
     private final PropertyModel idProperty;
     private final EntityModel entityModel;
@@ -48,6 +58,8 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     private EntityEncoder<T> encoder;
     private EntityDecoder<T> decoder;
     private MorphiaDatastore datastore;
+    @Nullable
+    private final Instrumentation instrumentation;
 
     /**
      * Creates a new codec
@@ -68,17 +80,55 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         this.registry = fromRegistries(fromCodecs(this), registry);
         this.propertyCodecRegistry = new PropertyCodecRegistryImpl(this, registry, propertyCodecProviders);
         idProperty = model.getIdProperty();
+        instrumentation = datastore.getMapper().getConfig().instrumentation().orElse(null);
         specializePropertyCodecs();
     }
 
     @Override
     public T decode(BsonReader reader, DecoderContext decoderContext) {
-        return getDecoder().decode(reader, decoderContext);
+        if (instrumentation == null) {
+            return getDecoder().decode(reader, decoderContext);
+        }
+        boolean[] measuring = MEASURING.get();
+        if (measuring[0]) {
+            return getDecoder().decode(reader, decoderContext);
+        }
+        measuring[0] = true;
+        try {
+            long position = reader instanceof BsonBinaryReader ? ((BsonBinaryReader) reader).getBsonInput().getPosition() : -1;
+            long start = System.nanoTime();
+            T entity = getDecoder().decode(reader, decoderContext);
+            long nanos = System.nanoTime() - start;
+            long bytes = position != -1 ? ((BsonBinaryReader) reader).getBsonInput().getPosition() - position : -1;
+            instrumentation.decoded(entity.getClass(), entityModel.collectionName(), nanos, bytes);
+            return entity;
+        } finally {
+            measuring[0] = false;
+        }
     }
 
     @Override
     public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
-        getEncoder().encode(writer, value, encoderContext);
+        if (instrumentation == null) {
+            getEncoder().encode(writer, value, encoderContext);
+            return;
+        }
+        boolean[] measuring = MEASURING.get();
+        if (measuring[0]) {
+            getEncoder().encode(writer, value, encoderContext);
+            return;
+        }
+        measuring[0] = true;
+        try {
+            long position = writer instanceof BsonBinaryWriter ? ((BsonBinaryWriter) writer).getBsonOutput().getPosition() : -1;
+            long start = System.nanoTime();
+            getEncoder().encode(writer, value, encoderContext);
+            long nanos = System.nanoTime() - start;
+            long bytes = position != -1 ? ((BsonBinaryWriter) writer).getBsonOutput().getPosition() - position : -1;
+            instrumentation.encoded(value.getClass(), entityModel.collectionName(), nanos, bytes);
+        } finally {
+            measuring[0] = false;
+        }
     }
 
     @Override
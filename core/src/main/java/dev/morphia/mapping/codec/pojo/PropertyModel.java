@@ -35,11 +35,13 @@ import com.mongodb.lang.Nullable;
 import dev.morphia.Datastore;
 import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.Handler;
+import dev.morphia.annotations.Packed;
 import dev.morphia.annotations.Reference;
 import dev.morphia.annotations.Transient;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.Conversions;
+import dev.morphia.mapping.codec.PackedArrayCodec;
 import dev.morphia.mapping.codec.references.MorphiaProxy;
 import dev.morphia.mapping.experimental.MorphiaReference;
 
@@ -418,6 +420,8 @@ public final class PropertyModel {
             } catch (ReflectiveOperationException e) {
                 throw new MappingException(e.getMessage(), e);
             }
+        } else if (hasAnnotation(Packed.class)) {
+            codec = new PackedArrayCodec(this, ((MorphiaDatastore) datastore).getCodecRegistry().get(getType()));
         } else if (typeData.getTypeParameters().isEmpty()) {
             codec = (Codec<? super Object>) ((MorphiaDatastore) datastore).getCodecRegistry().get(getType());
         }
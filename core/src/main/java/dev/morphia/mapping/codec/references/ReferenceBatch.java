@@ -0,0 +1,168 @@
+package dev.morphia.mapping.codec.references;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.experimental.MorphiaReference;
+
+/**
+ * Collects the non-lazy references found while decoding a batch of entities so that they can be fetched with one query per referenced
+ * collection rather than one query per entity.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+@SuppressWarnings("removal")
+public class ReferenceBatch {
+    private static final ThreadLocal<ReferenceBatch> CURRENT = new ThreadLocal<>();
+
+    private final MorphiaDatastore datastore;
+    private final List<Deferred> deferred = new ArrayList<>();
+    private int depth;
+
+    /**
+     * @param datastore the datastore to use when fetching the references
+     */
+    public ReferenceBatch(MorphiaDatastore datastore) {
+        this.datastore = datastore;
+    }
+
+    /**
+     * @return the batch collecting references on this thread, if any
+     */
+    @Nullable
+    public static ReferenceBatch current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the action without any batch in place so that references are resolved as they are decoded.
+     *
+     * @param action the action to run
+     * @param <V>    the result type
+     * @return the result of the action
+     */
+    public static <V> V suspended(Supplier<V> action) {
+        ReferenceBatch previous = CURRENT.get();
+        CURRENT.remove();
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Runs the action collecting any references decoded along the way and then resolves them.
+     *
+     * @param action the action to run. This is typically a call to the driver cursor which decodes the next batch of documents.
+     * @param <V>    the result type
+     * @return the result of the action
+     */
+    public <V> V resolving(Supplier<V> action) {
+        ReferenceBatch previous = CURRENT.get();
+        CURRENT.set(this);
+        V result;
+        try {
+            result = action.get();
+        } finally {
+            restore(previous);
+        }
+        resolve();
+        return result;
+    }
+
+    /**
+     * Marks the start of an entity's decoding.
+     *
+     * @return the mark to pass to {@link #bind(int, Object)} once the entity has been created
+     */
+    public int mark() {
+        depth++;
+        return deferred.size();
+    }
+
+    /**
+     * Assigns the references deferred since the mark to the decoded entity.
+     *
+     * @param mark   the value returned by {@link #mark()}
+     * @param entity the decoded entity or null if decoding failed
+     */
+    public void bind(int mark, @Nullable Object entity) {
+        depth--;
+        if (entity == null) {
+            deferred.subList(mark, deferred.size()).clear();
+        } else {
+            for (int i = mark; i < deferred.size(); i++) {
+                Deferred current = deferred.get(i);
+                if (current.entity == null) {
+                    current.entity = entity;
+                }
+            }
+        }
+    }
+
+    /**
+     * Defers the resolution of a reference until the current batch has been decoded.
+     *
+     * @param reference the reference
+     * @param property  the property to update once the reference is resolved
+     * @return true if the reference has been deferred. If false, the reference should be resolved immediately.
+     */
+    public boolean defer(MorphiaReference<?> reference, PropertyModel property) {
+        if (depth == 0 || reference.isResolved() || property.isFinal()) {
+            return false;
+        }
+        deferred.add(new Deferred(reference, property));
+        return true;
+    }
+
+    private void resolve() {
+        if (deferred.isEmpty()) {
+            return;
+        }
+        List<Deferred> pending = new ArrayList<>(deferred);
+        deferred.clear();
+
+        Map<String, Set<Object>> ids = new LinkedHashMap<>();
+        for (Deferred current : pending) {
+            current.reference.collate(ids);
+        }
+        Map<String, Map<Object, Object>> entities = ReferenceQueries.fetch(datastore, ids);
+        for (Deferred current : pending) {
+            current.reference.resolve(entities);
+            current.property.setValue(current.entity, current.reference.get());
+        }
+    }
+
+    private static void restore(@Nullable ReferenceBatch previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    private static class Deferred {
+        private final MorphiaReference<?> reference;
+        private final PropertyModel property;
+        private Object entity;
+
+        Deferred(MorphiaReference<?> reference, PropertyModel property) {
+            this.reference = reference;
+            this.property = property;
+        }
+    }
+}
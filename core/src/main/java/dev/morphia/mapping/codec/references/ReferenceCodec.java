@@ -327,6 +327,11 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
 
     @Nullable
     private Object fetch(Object value) {
+        if (!getDatastore().canFetchReferences()) {
+            PropertyModel property = getPropertyModel();
+            throw new MappingException(Sofia.reactiveReferencesUnsupported(property.getEntityModel().getType().getName(),
+                    property.getName()));
+        }
         MorphiaReference<?> reference;
         final Class<?> type = getPropertyModel().getType();
         if (List.class.isAssignableFrom(type)) {
@@ -344,7 +349,11 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
         }
         reference.ignoreMissing(annotation.ignoreMissing());
 
-        return !annotation.lazy() ? reference.get() : createProxy(reference);
+        if (annotation.lazy()) {
+            return createProxy(reference);
+        }
+        ReferenceBatch batch = ReferenceBatch.current();
+        return batch != null && batch.defer(reference, getPropertyModel()) ? null : reference.get();
     }
 
     private List<?> mapToEntitiesIfNecessary(List<?> value) {
@@ -0,0 +1,152 @@
+package dev.morphia.mapping.codec.references;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.config.MorphiaConfig;
+import dev.morphia.instrumentation.Instrumentation;
+import dev.morphia.transactions.MorphiaSession;
+
+import static dev.morphia.query.filters.Filters.in;
+
+/**
+ * Fetches referenced entities with one {@code $in} query per referenced collection. When
+ * {@link MorphiaConfig#parallelReferences()} is enabled and more than one collection is involved, the queries are issued concurrently
+ * on the {@link MorphiaConfig#referenceExecutor() configured executor}. Any further references met while decoding on one of those
+ * threads are fetched inline on it rather than submitted back to the executor and waited on, which could otherwise exhaust a bounded
+ * executor. If the calling thread is collecting references in a {@link ReferenceBatch}, each query on the executor collects its own in
+ * the same way.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class ReferenceQueries {
+    @Nullable
+    private static final Executor VIRTUAL_THREADS = virtualThreads();
+    /**
+     * Set while a query runs on the reference executor
+     */
+    private static final ThreadLocal<Boolean> WORKER = new ThreadLocal<>();
+
+    private ReferenceQueries() {
+    }
+
+    /**
+     * Fetches the entities for the given IDs.
+     *
+     * @param datastore the datastore to query
+     * @param ids       the IDs to fetch keyed by collection name
+     * @return the entities found keyed by collection name and then by ID
+     */
+    public static Map<String, Map<Object, Object>> fetch(MorphiaDatastore datastore,
+            Map<String, ? extends Collection<Object>> ids) {
+        Executor executor = executor(datastore);
+        Map<String, Map<Object, Object>> entities = new HashMap<>();
+        if (executor == null || ids.size() < 2 || WORKER.get() != null) {
+            for (Entry<String, ? extends Collection<Object>> entry : ids.entrySet()) {
+                entities.put(entry.getKey(), query(datastore, entry.getKey(), entry.getValue()));
+            }
+            return entities;
+        }
+
+        boolean batched = ReferenceBatch.current() != null;
+        Map<String, CompletableFuture<Map<Object, Object>>> pending = new LinkedHashMap<>();
+        for (Entry<String, ? extends Collection<Object>> entry : ids.entrySet()) {
+            pending.put(entry.getKey(), CompletableFuture.supplyAsync(
+                    () -> queryOnWorker(datastore, entry.getKey(), entry.getValue(), batched), executor));
+        }
+        try {
+            for (Entry<String, CompletableFuture<Map<Object, Object>>> entry : pending.entrySet()) {
+                entities.put(entry.getKey(), entry.getValue().join());
+            }
+        } catch (CompletionException e) {
+            pending.values().forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return entities;
+    }
+
+    /**
+     * Fetches the entities for the given IDs from one collection.
+     *
+     * @param datastore  the datastore to query
+     * @param collection the collection name
+     * @param ids        the IDs to fetch
+     * @return the entities found keyed by ID
+     */
+    public static Map<Object, Object> query(MorphiaDatastore datastore, String collection, Collection<Object> ids) {
+        Instrumentation instrumentation = datastore.getMapper().getConfig().instrumentation().orElse(null);
+        long start = instrumentation != null ? System.nanoTime() : 0;
+        Map<Object, Object> found = new HashMap<>();
+        try (MongoCursor<Object> cursor = datastore.find(collection)
+                .disableValidation()
+                .filter(in("_id", ids))
+                .iterator()) {
+            while (cursor.hasNext()) {
+                Object entity = cursor.next();
+                found.put(datastore.getMapper().getId(entity), entity);
+            }
+        }
+        if (instrumentation != null) {
+            instrumentation.referencesResolved(collection, ids.size(), found.size(), System.nanoTime() - start);
+        }
+        return found;
+    }
+
+    private static Map<Object, Object> queryOnWorker(MorphiaDatastore datastore, String collection, Collection<Object> ids,
+            boolean batched) {
+        // a caller running tasks itself may already be flagged
+        Boolean previous = WORKER.get();
+        WORKER.set(Boolean.TRUE);
+        try {
+            return batched
+                    ? new ReferenceBatch(datastore).resolving(() -> query(datastore, collection, ids))
+                    : ReferenceBatch.suspended(() -> query(datastore, collection, ids));
+        } finally {
+            if (previous == null) {
+                WORKER.remove();
+            }
+        }
+    }
+
+    /**
+     * Sessions can not be used by more than one operation at a time so any reads through one stay on the calling thread.
+     */
+    @Nullable
+    private static Executor executor(MorphiaDatastore datastore) {
+        MorphiaConfig config = datastore.getMapper().getConfig();
+        if (!config.parallelReferences() || datastore instanceof MorphiaSession) {
+            return null;
+        }
+        return config.referenceExecutor().orElse(VIRTUAL_THREADS);
+    }
+
+    /**
+     * Morphia targets Java 17 so the virtual thread executor is looked up reflectively when running on a newer JDK.
+     */
+    @Nullable
+    private static Executor virtualThreads() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -17,10 +17,12 @@ import dev.morphia.annotations.Transient;
 import dev.morphia.annotations.Version;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.config.MorphiaConfig;
+import dev.morphia.mapping.AccessorStrategy;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.ArrayFieldAccessor;
 import dev.morphia.mapping.codec.FieldAccessor;
+import dev.morphia.mapping.codec.GeneratedAccessor;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.pojo.TypeData;
@@ -52,7 +54,7 @@ public class FieldDiscovery implements MorphiaConvention {
                                 .typeData(typeData)
                                 .annotations(List.of(field.getDeclaredAnnotations()))
                                 .isFinal(Modifier.isFinal(field.getModifiers()))
-                                .accessor(getAccessor(getTargetField(model, target, field), typeData))
+                                .accessor(getAccessor(mapper, getTargetField(model, target, field), typeData))
                                 .mappedName(discoverMappedName(mapper, propertyModel)));
                     }
                 }
@@ -101,9 +103,11 @@ public class FieldDiscovery implements MorphiaConvention {
         }
     }
 
-    private PropertyAccessor<? super Object> getAccessor(Field field, TypeData<?> typeData) {
-        return field.getType().isArray() && !field.getType().getComponentType().equals(byte.class)
-                ? new ArrayFieldAccessor(typeData, field)
-                : new FieldAccessor(field);
+    private PropertyAccessor<? super Object> getAccessor(Mapper mapper, Field field, TypeData<?> typeData) {
+        boolean generated = mapper.getConfig().accessorStrategy() == AccessorStrategy.GENERATED;
+        if (field.getType().isArray() && !field.getType().getComponentType().equals(byte.class)) {
+            return new ArrayFieldAccessor(typeData, field, generated ? GeneratedAccessor.of(field) : null);
+        }
+        return generated ? GeneratedAccessor.of(field) : new FieldAccessor(field);
     }
 }
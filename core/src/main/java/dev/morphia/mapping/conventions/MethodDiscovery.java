@@ -15,14 +15,18 @@ import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.ExternalEntity;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.AccessorStrategy;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.GeneratedAccessor;
 import dev.morphia.mapping.codec.MethodAccessor;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.pojo.TypeData;
 import dev.morphia.sofia.Sofia;
 
+import org.bson.codecs.pojo.PropertyAccessor;
+
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import static dev.morphia.mapping.conventions.FieldDiscovery.discoverMappedName;
@@ -78,12 +82,18 @@ public class MethodDiscovery implements MorphiaConvention {
                     .name(methods.property)
                     .typeData(typeData)
                     .annotations(discoverAnnotations(methods.getter, methods.setter))
-                    .accessor(new MethodAccessor(getTargetMethod(model, target, methods.getter),
+                    .accessor(getAccessor(mapper, getTargetMethod(model, target, methods.getter),
                             getTargetMethod(model, target, methods.setter)))
                     .mappedName(discoverMappedName(mapper, propertyModel)));
         }
     }
 
+    private PropertyAccessor<? super Object> getAccessor(Mapper mapper, Method getter, Method setter) {
+        return mapper.getConfig().accessorStrategy() == AccessorStrategy.GENERATED
+                ? GeneratedAccessor.of(getter, setter)
+                : new MethodAccessor(getter, setter);
+    }
+
     private static class Methods {
         private final Method getter;
         private final Method setter;
@@ -4,25 +4,26 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.mongodb.DBRef;
-import com.mongodb.client.MongoCursor;
 
 import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.references.ReferenceCodec;
+import dev.morphia.mapping.codec.references.ReferenceQueries;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.sofia.Sofia;
 
-import static dev.morphia.query.filters.Filters.in;
 import static java.util.Arrays.asList;
 
 /**
@@ -147,10 +148,51 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
     }
 
     final List find() {
-        HashMap<Object, Object> idMap = new HashMap<>();
+        Map<String, List<Object>> collectionIds = new LinkedHashMap<>();
         for (Entry<String, List<Object>> entry : collections.entrySet()) {
-            idMap.putAll(query(entry.getKey(), extractIds(entry.getValue())));
+            collectionIds.put(entry.getKey(), extractIds(entry.getValue()));
+        }
+        Map<String, Map<Object, Object>> found = ReferenceQueries.fetch(getDatastore(), collectionIds);
+        HashMap<Object, Object> idMap = new HashMap<>();
+        for (Entry<String, List<Object>> entry : collectionIds.entrySet()) {
+            Map<Object, Object> collectionMap = found.get(entry.getKey());
+            checkMissing(collectionMap, entry.getValue());
+            idMap.putAll(collectionMap);
         }
+        return mapValues(idMap);
+    }
+
+    @Override
+    public void collate(Map<String, Set<Object>> ids) {
+        if (!isResolved() && this.ids != null) {
+            for (Entry<String, List<Object>> entry : collections.entrySet()) {
+                ids.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).addAll(extractIds(entry.getValue()));
+            }
+        }
+    }
+
+    @Override
+    public void resolve(Map<String, Map<Object, Object>> entities) {
+        if (!isResolved() && this.ids != null) {
+            HashMap<Object, Object> idMap = new HashMap<>();
+            for (Entry<String, List<Object>> entry : collections.entrySet()) {
+                List<Object> collectionIds = extractIds(entry.getValue());
+                Map<Object, Object> found = entities.getOrDefault(entry.getKey(), Map.of());
+                Map<Object, Object> collectionMap = new HashMap<>();
+                for (Object id : collectionIds) {
+                    Object entity = found.get(id);
+                    if (entity != null) {
+                        collectionMap.put(id, entity);
+                    }
+                }
+                checkMissing(collectionMap, collectionIds);
+                idMap.putAll(collectionMap);
+            }
+            setValues(mapValues(idMap));
+        }
+    }
+
+    private List mapValues(Map<Object, Object> idMap) {
         List values = mapIds(ids, idMap).stream()
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
@@ -158,23 +200,10 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
         return values;
     }
 
-    Map<Object, Object> query(String collection, List<Object> collectionIds) {
-
-        final Map<Object, Object> idMap = new HashMap<>();
-        try (MongoCursor<?> cursor = getDatastore().find(collection)
-                .disableValidation()
-                .filter(in("_id", collectionIds)).iterator()) {
-            while (cursor.hasNext()) {
-                final Object entity = cursor.next();
-                idMap.put(getMapper().getId(entity), entity);
-            }
-
-            if (!ignoreMissing() && idMap.size() != new HashSet<>(collectionIds).size()) {
-                throw new ReferenceException(
-                        Sofia.missingReferencedEntities(entityModel.getType().getSimpleName()));
-            }
+    private void checkMissing(Map<Object, Object> idMap, List<Object> collectionIds) {
+        if (!ignoreMissing() && idMap.size() != new HashSet<>(collectionIds).size()) {
+            throw new ReferenceException(
+                    Sofia.missingReferencedEntities(entityModel.getType().getSimpleName()));
         }
-
-        return idMap;
     }
 }
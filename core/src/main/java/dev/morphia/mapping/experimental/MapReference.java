@@ -2,11 +2,13 @@ package dev.morphia.mapping.experimental;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import com.mongodb.DBRef;
 import com.mongodb.client.MongoCursor;
@@ -17,10 +19,12 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.references.ReferenceCodec;
+import dev.morphia.mapping.codec.references.ReferenceQueries;
+import dev.morphia.mapping.lazy.proxy.ReferenceException;
+import dev.morphia.sofia.Sofia;
 
 import org.bson.Document;
 
-import static dev.morphia.query.filters.Filters.eq;
 import static dev.morphia.query.filters.Filters.in;
 
 /**
@@ -88,8 +92,9 @@ public class MapReference<T> extends MorphiaReference<Map<Object, T>> {
      */
     public Map<Object, T> get() {
         if (values == null && ids != null) {
-            values = new LinkedHashMap<>();
-            mergeReads();
+            Map<String, Set<Object>> collectionIds = new LinkedHashMap<>();
+            collate(collectionIds);
+            resolve(ReferenceQueries.fetch(getDatastore(), collectionIds));
         }
         return values;
     }
@@ -112,6 +117,34 @@ public class MapReference<T> extends MorphiaReference<Map<Object, T>> {
         return ids;
     }
 
+    @Override
+    public void collate(Map<String, Set<Object>> ids) {
+        if (values == null && this.ids != null) {
+            for (Object value : this.ids.values()) {
+                DBRef id = normalizeId(value);
+                ids.computeIfAbsent(id.getCollectionName(), k -> new HashSet<>()).add(id.getId());
+            }
+        }
+    }
+
+    @Override
+    public void resolve(Map<String, Map<Object, Object>> entities) {
+        if (values == null && ids != null) {
+            values = new LinkedHashMap<>();
+            for (Entry<String, Object> entry : ids.entrySet()) {
+                DBRef id = normalizeId(entry.getValue());
+                T value = (T) entities.getOrDefault(id.getCollectionName(), Map.of()).get(id.getId());
+                if (value != null) {
+                    values.put(entry.getKey(), value);
+                } else if (!ignoreMissing()) {
+                    throw new ReferenceException(
+                            Sofia.missingReferencedEntities(entityModel.getType().getSimpleName()));
+                }
+            }
+            resolve();
+        }
+    }
+
     @Override
     public Map<String, Object> getId(Mapper mapper, EntityModel field) {
         if (ids == null) {
@@ -123,18 +156,6 @@ public class MapReference<T> extends MorphiaReference<Map<Object, T>> {
         return ids;
     }
 
-    private void mergeReads() {
-        for (Entry<String, Object> entry : ids.entrySet()) {
-            DBRef id = normalizeId(entry.getValue());
-            try (MongoCursor<T> cursor = (MongoCursor<T>) getDatastore().find(id.getCollectionName())
-                    .filter(eq("_id", id.getId())).iterator()) {
-                values.put(entry.getKey(), cursor.next());
-            }
-        }
-
-        resolve();
-    }
-
     private DBRef normalizeId(Object value) {
         return value instanceof DBRef
                 ? (DBRef) value
@@ -135,5 +135,27 @@ public abstract class MorphiaReference<T> {
         resolved = true;
     }
 
+    /**
+     * Adds the IDs this reference needs to the given collection to ID mapping.
+     *
+     * @param ids the IDs to fetch keyed by collection name
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public abstract void collate(Map<String, Set<Object>> ids);
+
+    /**
+     * Resolves this reference using entities already fetched.
+     *
+     * @param entities the fetched entities keyed by collection name and then ID
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public abstract void resolve(Map<String, Map<Object, Object>> entities);
+
     abstract Object getId(Mapper mapper, EntityModel entityModel);
 }
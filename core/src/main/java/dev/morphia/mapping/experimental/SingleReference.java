@@ -1,12 +1,16 @@
 package dev.morphia.mapping.experimental;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.mongodb.DBRef;
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.instrumentation.Instrumentation;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
@@ -83,7 +87,12 @@ public class SingleReference<T> extends MorphiaReference<T> {
     @Override
     public T get() {
         if (!isResolved() && value == null && id != null) {
+            Instrumentation instrumentation = getDatastore().getMapper().getConfig().instrumentation().orElse(null);
+            long start = instrumentation != null ? System.nanoTime() : 0;
             value = (T) buildQuery().iterator().tryNext();
+            if (instrumentation != null) {
+                instrumentation.referencesResolved(collectionName(), 1, value != null ? 1 : 0, System.nanoTime() - start);
+            }
             if (value == null && !ignoreMissing()) {
                 throw new ReferenceException(
                         Sofia.missingReferencedEntity(entityModel.getType().getSimpleName()));
@@ -93,6 +102,25 @@ public class SingleReference<T> extends MorphiaReference<T> {
         return value;
     }
 
+    @Override
+    public void collate(Map<String, Set<Object>> ids) {
+        if (!isResolved() && value == null && id != null) {
+            ids.computeIfAbsent(collectionName(), k -> new HashSet<>()).add(getId());
+        }
+    }
+
+    @Override
+    public void resolve(Map<String, Map<Object, Object>> entities) {
+        if (!isResolved() && value == null && id != null) {
+            value = (T) entities.getOrDefault(collectionName(), Map.of()).get(getId());
+            if (value == null && !ignoreMissing()) {
+                throw new ReferenceException(
+                        Sofia.missingReferencedEntity(entityModel.getType().getSimpleName()));
+            }
+            resolve();
+        }
+    }
+
     @Override
     public List<Object> getIds() {
         return List.of(getId());
@@ -124,6 +152,10 @@ public class SingleReference<T> extends MorphiaReference<T> {
         return id instanceof DBRef ? ((DBRef) id).getId() : id;
     }
 
+    private String collectionName() {
+        return id instanceof DBRef ? ((DBRef) id).getCollectionName() : entityModel.collectionName();
+    }
+
     Query<?> buildQuery() {
         final Query<?> query;
         if (id instanceof DBRef) {
@@ -2,14 +2,9 @@ package dev.morphia.mapping.internal;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.TreeMap;
-import java.util.function.BiFunction;
-import java.util.function.Consumer;
 
 import com.mongodb.lang.Nullable;
 
@@ -20,7 +15,6 @@ import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.MappingException;
-import dev.morphia.mapping.codec.Conversions;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
@@ -41,42 +35,29 @@ import static java.util.Arrays.stream;
  */
 @MorphiaInternal
 public class ConstructorCreator implements MorphiaInstanceCreator {
-    private final Object[] parameters;
-    private final Constructor<?> constructor;
-    private final EntityModel model;
-    private final Map<String, BiFunction<Object[], Object, Void>> positions = new LinkedHashMap<>();
-    private final List<Consumer<Object>> setFunctions = new ArrayList<>();
+    private final ConstructorPlan plan;
+    private final Object[] arguments;
+    private PropertyModel[] pendingProperties;
+    private Object[] pendingValues;
+    private int pending;
     private Object instance;
 
     /**
      * @param model       the model
      * @param constructor the constructor to use
      */
-    @SuppressFBWarnings("EI_EXPOSE_REP2")
     public ConstructorCreator(EntityModel model, Constructor<?> constructor) {
-        this.model = model;
-        this.constructor = constructor;
-        this.constructor.setAccessible(true);
-
-        final Parameter[] constructorParameters = this.constructor.getParameters();
-        this.parameters = new Object[constructorParameters.length];
-        for (int i = 0; i < constructorParameters.length; i++) {
-            final Parameter parameter = constructorParameters[i];
-            parameters[i] = zeroValue(parameter);
-            final int finalI = i;
-            String name = getParameterName(parameter);
-            if (name.matches("arg[0-9]+")) {
-                throw new MappingException(Sofia.unnamedConstructorParameter(model.getType().getName()));
-            }
-            BiFunction<Object[], Object, Void> old = positions.put(name, (Object[] params, Object v) -> {
-                params[finalI] = Conversions.convert(v, parameter.getType());
-                return null;
-            });
+        this(new ConstructorPlan(model, constructor));
+    }
 
-            if (old != null) {
-                throw new MappingException(Sofia.duplicatedParameterName(model.getType().getName(), name));
-            }
-        }
+    /**
+     * @param plan the precomputed plan for the constructor to use
+     * @since 3.0
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public ConstructorCreator(ConstructorPlan plan) {
+        this.plan = plan;
+        this.arguments = plan.newArguments();
     }
 
     @Nullable
@@ -112,12 +93,12 @@ public class ConstructorCreator implements MorphiaInstanceCreator {
     @Override
     public Object getInstance() {
         if (instance == null) {
-            try {
-                instance = constructor.newInstance(parameters);
-                setFunctions.forEach(function -> function.accept(instance));
-            } catch (Exception e) {
-                throw new MappingException(Sofia.cannotInstantiate(model.getType().getName(), e.getMessage()), e);
+            instance = plan.newInstance(arguments);
+            for (int i = 0; i < pending; i++) {
+                pendingProperties[i].setValue(instance, pendingValues[i]);
             }
+            pendingProperties = null;
+            pendingValues = null;
         }
         return instance;
     }
@@ -163,24 +144,24 @@ public class ConstructorCreator implements MorphiaInstanceCreator {
         if (instance != null) {
             model.setValue(instance, value);
         } else {
-            BiFunction<Object[], Object, Void> function = positions.get(model.getName());
-            if (function != null) {
-                function.apply(parameters, value);
+            int slot = plan.slot(model);
+            if (slot >= 0) {
+                plan.set(arguments, slot, value);
             }
-            setFunctions.add((instance) -> {
-                model.setValue(instance, value);
-            });
+            defer(model, value);
         }
     }
 
-    @Nullable
-    private Object zeroValue(Parameter parameter) {
-        if (!parameter.getType().isPrimitive()) {
-            return null;
-        } else if (parameter.getType().equals(boolean.class)) {
-            return false;
-        } else {
-            return 0;
+    private void defer(PropertyModel model, @Nullable Object value) {
+        if (pendingProperties == null) {
+            int size = Math.max(plan.propertyCount(), 1);
+            pendingProperties = new PropertyModel[size];
+            pendingValues = new Object[size];
+        } else if (pending == pendingProperties.length) {
+            pendingProperties = Arrays.copyOf(pendingProperties, pending * 2);
+            pendingValues = Arrays.copyOf(pendingValues, pending * 2);
         }
+        pendingProperties[pending] = model;
+        pendingValues[pending++] = value;
     }
 }
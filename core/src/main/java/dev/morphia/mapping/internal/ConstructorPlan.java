@@ -0,0 +1,162 @@
+package dev.morphia.mapping.internal;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.Conversions;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.sofia.Sofia;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import static dev.morphia.mapping.internal.ConstructorCreator.getParameterName;
+
+/**
+ * An immutable, precomputed description of how to invoke a constructor for an entity. The parameter inspection and name validation is
+ * done once per model and the resulting plan is shared by every {@link ConstructorCreator} created for that model.
+ *
+ * @morphia.internal
+ * @hidden
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class ConstructorPlan {
+    private static final int NOT_A_PARAMETER = -1;
+
+    private final EntityModel model;
+    private final Constructor<?> constructor;
+    private final Class<?>[] parameterTypes;
+    private final Object[] zeroValues;
+    private final Map<PropertyModel, Integer> slots = new IdentityHashMap<>();
+    private final Map<String, Integer> slotsByName = new HashMap<>();
+    private final int propertyCount;
+
+    /**
+     * @param model       the model
+     * @param constructor the constructor to use
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public ConstructorPlan(EntityModel model, Constructor<?> constructor) {
+        this.model = model;
+        this.constructor = constructor;
+        this.constructor.setAccessible(true);
+
+        Parameter[] parameters = constructor.getParameters();
+        parameterTypes = new Class<?>[parameters.length];
+        zeroValues = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+            parameterTypes[i] = parameter.getType();
+            zeroValues[i] = zeroValue(parameter.getType());
+            String name = getParameterName(parameter);
+            if (isSynthesizedName(name)) {
+                throw new MappingException(Sofia.unnamedConstructorParameter(model.getType().getName()));
+            }
+            if (slotsByName.put(name, i) != null) {
+                throw new MappingException(Sofia.duplicatedParameterName(model.getType().getName(), name));
+            }
+        }
+
+        var properties = model.getProperties();
+        propertyCount = properties.size();
+        for (PropertyModel property : properties) {
+            Integer slot = slotsByName.get(property.getName());
+            if (slot != null) {
+                slots.put(property, slot);
+            }
+        }
+    }
+
+    /**
+     * @return the model this plan was built for
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public EntityModel getModel() {
+        return model;
+    }
+
+    /**
+     * @return a fresh argument array populated with the zero values for each parameter
+     */
+    public Object[] newArguments() {
+        return zeroValues.clone();
+    }
+
+    /**
+     * @return the number of mapped properties on the model
+     */
+    public int propertyCount() {
+        return propertyCount;
+    }
+
+    /**
+     * Finds the constructor argument position for a property.
+     *
+     * @param property the property
+     * @return the argument position or -1 if the property is not a constructor parameter
+     */
+    public int slot(PropertyModel property) {
+        Integer slot = slots.get(property);
+        if (slot == null) {
+            slot = slotsByName.get(property.getName());
+        }
+        return slot != null ? slot : NOT_A_PARAMETER;
+    }
+
+    /**
+     * Converts and stores a value in the argument array
+     *
+     * @param arguments the arguments
+     * @param slot      the argument position
+     * @param value     the value to store
+     */
+    public void set(Object[] arguments, int slot, @Nullable Object value) {
+        arguments[slot] = Conversions.convert(value, parameterTypes[slot]);
+    }
+
+    /**
+     * Invokes the constructor
+     *
+     * @param arguments the arguments to use
+     * @return the new instance
+     */
+    public Object newInstance(Object[] arguments) {
+        try {
+            return constructor.newInstance(arguments);
+        } catch (Exception e) {
+            throw new MappingException(Sofia.cannotInstantiate(model.getType().getName(), e.getMessage()), e);
+        }
+    }
+
+    private static boolean isSynthesizedName(String name) {
+        if (name.length() < 4 || !name.startsWith("arg")) {
+            return false;
+        }
+        for (int i = 3; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static Object zeroValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        } else if (type.equals(boolean.class)) {
+            return false;
+        } else {
+            return 0;
+        }
+    }
+}
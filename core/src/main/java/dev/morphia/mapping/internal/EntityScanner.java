@@ -0,0 +1,171 @@
+package dev.morphia.mapping.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.Mapper;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ClassInfoList;
+import io.github.classgraph.ScanResult;
+
+/**
+ * Finds the names of the classes in a package which might be mapped. Only annotation information is read from the class files so no
+ * class is loaded during the scan. A class is a candidate if it, one of its superclasses, or one of its interfaces carries one of the
+ * {@link Mapper#MAPPING_ANNOTATIONS mapping annotations}. Classes whose hierarchy reaches outside the scanned packages can not be judged
+ * from the class files alone and are also returned so the caller can check them once loaded.
+ * <p>
+ * Scanning can be skipped entirely by shipping an index at {@value #INDEX} listing one class name per line. Such an index can be
+ * generated at build time by running this class with the output directory and the packages to scan as arguments. The results for each
+ * class loader and package are also kept for the life of the class loader.
+ *
+ * @morphia.internal
+ * @hidden
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class EntityScanner {
+    /**
+     * The location of the entity index on the classpath.
+     */
+    public static final String INDEX = "META-INF/morphia/entities";
+
+    private static final Map<ClassLoader, Map<String, List<String>>> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private EntityScanner() {
+    }
+
+    /**
+     * Writes an entity index for the given packages.
+     *
+     * @param args the output directory followed by the packages to scan
+     * @throws IOException if the index can not be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: EntityScanner <output directory> <package>...");
+        }
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        TreeSet<String> names = new TreeSet<>();
+        for (int i = 1; i < args.length; i++) {
+            names.addAll(scan(loader, args[i]));
+        }
+        Path index = Path.of(args[0]).resolve(INDEX);
+        Files.createDirectories(index.getParent());
+        Files.write(index, names, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Finds the candidate classes in a package.
+     *
+     * @param loader      the class loader to search
+     * @param packageName the package to search. A name ending in {@code .*} includes any subpackages.
+     * @return the names of the candidate classes
+     */
+    public static List<String> find(ClassLoader loader, String packageName) {
+        return CACHE.computeIfAbsent(loader, l -> new ConcurrentHashMap<>())
+                .computeIfAbsent(packageName, name -> {
+                    List<String> indexed = indexed(loader, name);
+                    return indexed != null ? indexed : scan(loader, name);
+                });
+    }
+
+    @Nullable
+    private static List<String> indexed(ClassLoader loader, String packageName) {
+        List<String> names = new ArrayList<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(INDEX);
+            while (resources.hasMoreElements()) {
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (!line.isEmpty() && !line.startsWith("#") && inPackage(line, packageName)) {
+                            names.add(line);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // an index covering other packages says nothing about this one
+        return names.isEmpty() ? null : names;
+    }
+
+    private static boolean inPackage(String className, String packageName) {
+        int dot = className.lastIndexOf('.');
+        String classPackage = dot == -1 ? "" : className.substring(0, dot);
+        if (packageName.endsWith(".*")) {
+            String base = packageName.substring(0, packageName.length() - 2);
+            return base.isEmpty() || classPackage.equals(base) || classPackage.startsWith(base + ".");
+        }
+        return classPackage.equals(packageName);
+    }
+
+    private static List<String> scan(ClassLoader loader, String packageName) {
+        ClassGraph classGraph = new ClassGraph()
+                .addClassLoader(loader)
+                .enableClassInfo()
+                .enableAnnotationInfo()
+                .ignoreClassVisibility();
+        if (packageName.endsWith(".*")) {
+            String base = packageName.substring(0, packageName.length() - 2);
+            if (!base.isEmpty()) {
+                classGraph.acceptPackages(base);
+            }
+            classGraph.acceptPackages(packageName);
+        } else {
+            classGraph.acceptPackagesNonRecursive(packageName);
+        }
+
+        List<String> names = new ArrayList<>();
+        try (ScanResult scanResult = classGraph.scan()) {
+            for (ClassInfo classInfo : scanResult.getAllClasses()) {
+                if (isCandidate(classInfo)) {
+                    names.add(classInfo.getName());
+                }
+            }
+        }
+        return names;
+    }
+
+    private static boolean isCandidate(ClassInfo classInfo) {
+        if (isAnnotated(classInfo)) {
+            return true;
+        }
+        for (ClassInfoList list : List.of(classInfo.getSuperclasses(), classInfo.getInterfaces())) {
+            for (ClassInfo parent : list) {
+                // the annotations of classes outside the scan are unknown so leave those to the caller
+                if (parent.isExternalClass() || isAnnotated(parent)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAnnotated(ClassInfo classInfo) {
+        return Mapper.MAPPING_ANNOTATIONS.stream()
+                .anyMatch(annotation -> classInfo.hasAnnotation(annotation.getName()));
+    }
+}
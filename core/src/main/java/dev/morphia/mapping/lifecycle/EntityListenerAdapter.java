@@ -5,6 +5,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +54,17 @@ public class EntityListenerAdapter implements EntityListener<Object> {
         return methods;
     }
 
+    /**
+     * @param annotation the lifecycle event
+     * @return true if any of the methods handling the event takes a Document parameter
+     * @since 3.0
+     */
+    public boolean usesDocument(Class<? extends Annotation> annotation) {
+        List<Method> list = methods.get(annotation);
+        return list != null && list.stream()
+                .anyMatch(method -> Arrays.asList(method.getParameterTypes()).contains(Document.class));
+    }
+
     protected Object[] collectArgs(Method method, Object entity, Document document, Datastore datastore) {
         List<Object> args = new ArrayList<>();
         for (Class<?> parameterType : method.getParameterTypes()) {
@@ -21,6 +21,7 @@ import dev.morphia.mapping.validation.fieldrules.IdDoesNotMix;
 import dev.morphia.mapping.validation.fieldrules.LazyReferenceMissingDependencies;
 import dev.morphia.mapping.validation.fieldrules.LazyReferenceOnArray;
 import dev.morphia.mapping.validation.fieldrules.MapKeyTypeConstraint;
+import dev.morphia.mapping.validation.fieldrules.PackedOnNumericArray;
 import dev.morphia.mapping.validation.fieldrules.ReferenceToUnidentifiable;
 import dev.morphia.mapping.validation.fieldrules.VersionMisuse;
 
@@ -87,6 +88,7 @@ public class MappingValidator {
         constraints.add(new LazyReferenceMissingDependencies());
         constraints.add(new LazyReferenceOnArray());
         constraints.add(new MapKeyTypeConstraint());
+        constraints.add(new PackedOnNumericArray());
         constraints.add(new VersionMisuse());
         constraints.add(new ShardKeyNames());
 
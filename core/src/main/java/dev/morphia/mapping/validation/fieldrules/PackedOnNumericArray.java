@@ -0,0 +1,25 @@
+package dev.morphia.mapping.validation.fieldrules;
+
+import java.util.Set;
+
+import dev.morphia.annotations.Packed;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.validation.ConstraintViolation;
+import dev.morphia.mapping.validation.ConstraintViolation.Level;
+import dev.morphia.sofia.Sofia;
+
+/**
+ * Checks that {@link Packed} is only used on the numeric array types it can store.
+ */
+public class PackedOnNumericArray extends PropertyConstraint {
+    private static final Set<Class<?>> PACKABLE = Set.of(int[].class, long[].class, float[].class, double[].class);
+
+    @Override
+    protected void check(Mapper mapper, EntityModel model, PropertyModel propertyModel, Set<ConstraintViolation> ve) {
+        if (propertyModel.hasAnnotation(Packed.class) && !PACKABLE.contains(propertyModel.getType())) {
+            ve.add(new ConstraintViolation(Level.FATAL, model, propertyModel, getClass(), Sofia.packedArrayInvalidType()));
+        }
+    }
+}
@@ -11,9 +11,11 @@ import com.mongodb.ReadPreference;
 import com.mongodb.assertions.Assertions;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.model.Collation;
+import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.internal.CollectionConfigurable;
+import dev.morphia.internal.FindTarget;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.internal.ReadConfigurable;
 import dev.morphia.mapping.Mapper;
@@ -41,6 +43,7 @@ import static dev.morphia.internal.MorphiaInternals.tryInvoke;
 public final class FindOptions implements ReadConfigurable<FindOptions>, CollectionConfigurable<FindOptions> {
     private Boolean allowDiskUse;
     private int batchSize;
+    private Boolean batchReferences;
     private int limit;
     private long maxTimeMS;
     private long maxAwaitTimeMS;
@@ -88,32 +91,48 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
      */
     @MorphiaInternal
     public <T> FindIterable<T> apply(FindIterable<T> iterable, Mapper mapper, Class<?> type) {
+        apply(FindTarget.of(iterable), mapper, type);
+        return iterable;
+    }
+
+    /**
+     * Applies these options to a find through the settings shared by the sync and reactive drivers.
+     *
+     * @param target the find to configure
+     * @param mapper the mapper to use
+     * @param type   the query type
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public void apply(FindTarget target, Mapper mapper, Class<?> type) {
         if (isLogQuery()) {
             logQuery(); //  reset to a new ID
         }
         if (projection != null) {
-            iterable.projection(projection.map(mapper, type));
+            target.projection(projection.map(mapper, type));
         }
 
-        tryInvoke(v4_1_0, () -> iterable.allowDiskUse(allowDiskUse));
-        iterable.batchSize(batchSize);
-        iterable.collation(collation);
-        tryInvoke(v4_6_0, () -> iterable.comment(comment));
+        tryInvoke(v4_1_0, () -> target.allowDiskUse(allowDiskUse));
+        target.batchSize(batchSize);
+        target.collation(collation);
+        tryInvoke(v4_6_0, () -> target.comment(comment));
         if (cursorType != null) {
-            iterable.cursorType(cursorType);
+            target.cursorType(cursorType);
         }
-        iterable.hint(hint);
-        iterable.hintString(hintString);
-        iterable.limit(limit);
-        iterable.max(max);
-        iterable.maxAwaitTime(maxAwaitTimeMS, TimeUnit.MILLISECONDS);
-        iterable.maxTime(maxTimeMS, TimeUnit.MILLISECONDS);
-        iterable.min(min);
-        iterable.noCursorTimeout(noCursorTimeout);
-        iterable.partial(partial);
-        iterable.returnKey(returnKey);
-        iterable.showRecordId(showRecordId);
-        iterable.skip(skip);
+        target.hint(hint);
+        target.hintString(hintString);
+        target.limit(limit);
+        target.max(max);
+        target.maxAwaitTime(maxAwaitTimeMS, TimeUnit.MILLISECONDS);
+        target.maxTime(maxTimeMS, TimeUnit.MILLISECONDS);
+        target.min(min);
+        target.noCursorTimeout(noCursorTimeout);
+        target.partial(partial);
+        target.returnKey(returnKey);
+        target.showRecordId(showRecordId);
+        target.skip(skip);
         if (sort != null) {
             Document mapped = new Document();
             EntityModel model = null;
@@ -127,10 +146,35 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
                 boolean metaScore = value instanceof Document && ((Document) value).get("$meta") != null;
                 mapped.put(new PathTarget(mapper, model, entry.getKey(), model != null && !metaScore).translatedPath(), value);
             }
-            iterable.sort(mapped);
+            target.sort(mapped);
         }
-        tryInvoke(v4_6_0, () -> iterable.let(variables));
-        return iterable;
+        tryInvoke(v4_6_0, () -> target.let(variables));
+    }
+
+    /**
+     * Enables resolving non-lazy references once per cursor batch. Rather than fetching the references of each entity as it is decoded,
+     * the references of all the entities in a batch are gathered and fetched with one query per referenced collection. If not set, the
+     * value of {@link dev.morphia.config.MorphiaConfig#batchReferences()} is used.
+     *
+     * @param batchReferences true to batch reference resolution
+     * @return this
+     * @since 3.0
+     */
+    public FindOptions batchReferences(boolean batchReferences) {
+        this.batchReferences = batchReferences;
+        return this;
+    }
+
+    /**
+     * @return true if references should be resolved once per batch or null if the configured default should be used
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public Boolean batchReferences() {
+        return batchReferences;
     }
 
     /**
@@ -215,6 +259,7 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
     public FindOptions copy(FindOptions original) {
         this.allowDiskUse = original.allowDiskUse;
         this.batchSize = original.batchSize;
+        this.batchReferences = original.batchReferences;
         this.collection = original.collection;
         this.limit = original.limit;
         this.maxTimeMS = original.maxTimeMS;
@@ -260,7 +305,7 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
     public int hashCode() {
         return Objects.hash(allowDiskUse, batchSize, limit, maxTimeMS, maxAwaitTimeMS, skip, sort, cursorType, noCursorTimeout,
                 partial, collation, comment, hint, hintString, max, min, returnKey, showRecordId, readConcern, readPreference, projection,
-                queryLogId);
+                queryLogId, batchReferences);
     }
 
     /**
@@ -285,7 +330,7 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
                 && Objects.equals(comment, that.comment) && Objects.equals(hint, that.hint) && Objects.equals(hintString, that.hintString)
                 && Objects.equals(max, that.max) && Objects.equals(min, that.min) && Objects.equals(readConcern, that.readConcern)
                 && Objects.equals(readPreference, that.readPreference) && Objects.equals(projection, that.projection)
-                && Objects.equals(queryLogId, that.queryLogId);
+                && Objects.equals(queryLogId, that.queryLogId) && Objects.equals(batchReferences, that.batchReferences);
     }
 
     /**
@@ -553,6 +598,7 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
         return new StringJoiner(", ", FindOptions.class.getSimpleName() + "[", "]")
                 .add("allowDiskUse=" + allowDiskUse)
                 .add("batchSize=" + batchSize)
+                .add("batchReferences=" + batchReferences)
                 .add("limit=" + limit)
                 .add("maxTimeMS=" + maxTimeMS)
                 .add("maxAwaitTimeMS=" + maxAwaitTimeMS)
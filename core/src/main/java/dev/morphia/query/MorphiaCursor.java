@@ -7,8 +7,10 @@ import com.mongodb.ServerAddress;
 import com.mongodb.ServerCursor;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 
 /**
  * @param <T> the original type being iterated
@@ -16,6 +18,8 @@ import dev.morphia.annotations.internal.MorphiaInternal;
  */
 public class MorphiaCursor<T> implements MongoCursor<T> {
     private final MongoCursor<T> wrapped;
+    @Nullable
+    private final ReferenceBatch batch;
 
     /**
      * Creates a MorphiaCursor
@@ -26,7 +30,22 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
      */
     @MorphiaInternal
     public MorphiaCursor(MongoCursor<T> cursor) {
+        this(cursor, null);
+    }
+
+    /**
+     * Creates a MorphiaCursor
+     *
+     * @param cursor the Iterator to use
+     * @param batch  the batch to collect references in as documents are decoded
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public MorphiaCursor(MongoCursor<T> cursor, @Nullable ReferenceBatch batch) {
         wrapped = cursor;
+        this.batch = batch;
     }
 
     /**
@@ -38,13 +57,13 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
 
     @Override
     public boolean hasNext() {
-        return wrapped.hasNext();
+        return batch != null ? batch.resolving(wrapped::hasNext) : wrapped.hasNext();
     }
 
     @Override
     @NonNull
     public T next() {
-        return wrapped.next();
+        return batch != null ? batch.resolving(wrapped::next) : wrapped.next();
     }
 
     @Override
@@ -54,7 +73,7 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
 
     @Override
     public T tryNext() {
-        return wrapped.tryNext();
+        return batch != null ? batch.resolving(wrapped::tryNext) : wrapped.tryNext();
     }
 
     @Override
@@ -81,7 +100,7 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
     public List<T> toList() {
         final List<T> results = new ArrayList<>();
         try (wrapped) {
-            while (wrapped.hasNext()) {
+            while (hasNext()) {
                 results.add(next());
             }
         }
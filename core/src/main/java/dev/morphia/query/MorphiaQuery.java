@@ -1,6 +1,7 @@
 package dev.morphia.query;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -22,16 +23,25 @@ import dev.morphia.MorphiaDatastore;
 import dev.morphia.UpdateOptions;
 import dev.morphia.aggregation.stages.Stage;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.instrumentation.Instrumentation;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
 import dev.morphia.query.filters.Filter;
+import dev.morphia.query.filters.LogicalFilter;
+import dev.morphia.query.internal.FilterBson;
 import dev.morphia.query.updates.UpdateOperator;
 import dev.morphia.sofia.Sofia;
 
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
 import org.bson.Document;
 import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,6 +71,8 @@ public class MorphiaQuery<T> implements Query<T> {
 
     private boolean validate = true;
     private FindOptions lastOptions;
+    @Nullable
+    private BsonDocument prepared;
 
     /**
      * @param datastore      the datastore
@@ -95,6 +107,24 @@ public class MorphiaQuery<T> implements Query<T> {
         collectionName = collection.getNamespace().getCollectionName();
     }
 
+    /**
+     * @param datastore  the datastore
+     * @param collection the collection to query
+     * @param type       the type to query against
+     * @param prepared   the encoded query with any parameters already bound
+     */
+    MorphiaQuery(MorphiaDatastore datastore, @Nullable MongoCollection<T> collection, Class<T> type, BsonDocument prepared) {
+        this.type = type;
+        this.datastore = datastore;
+        this.prepared = prepared;
+        mapper = datastore.getMapper();
+        seedQuery = null;
+        this.collection = collection;
+        if (collection != null) {
+            collectionName = collection.getNamespace().getCollectionName();
+        }
+    }
+
     @Override
     public Query<T> filter(Filter... additional) {
         for (Filter filter : additional) {
@@ -105,6 +135,20 @@ public class MorphiaQuery<T> implements Query<T> {
         return this;
     }
 
+    @Override
+    public PreparedQuery<T> prepare() {
+        Document query = getQueryDocument();
+        BsonDocument skeleton = new BsonDocument();
+        datastore.getCodecRegistry().get(Document.class)
+                .encode(new BsonDocumentWriter(skeleton), query, EncoderContext.builder().build());
+
+        Map<String, Parameter> parameters = new LinkedHashMap<>();
+        for (Filter filter : filters) {
+            collectParameters(filter, parameters);
+        }
+        return new PreparedMorphiaQuery<>(datastore, collection, type, skeleton, parameters);
+    }
+
     @Override
     public long count() {
         return count(new CountOptions());
@@ -113,16 +157,16 @@ public class MorphiaQuery<T> implements Query<T> {
     @Override
     public long count(CountOptions options) {
         MongoCollection<T> collection = datastore.configureCollection(options, this.collection);
-        return datastore.operations().countDocuments(collection, getQueryDocument(), options);
+        return datastore.operations().countDocuments(collection, getQuery(), options);
     }
 
     @Override
     public DeleteResult delete(DeleteOptions options) {
         MongoCollection<T> collection = datastore.configureCollection(options, this.collection);
         if (options.multi()) {
-            return datastore.operations().deleteMany(collection, getQueryDocument(), options);
+            return datastore.operations().deleteMany(collection, getQuery(), options);
         } else {
-            return datastore.operations().deleteOne(collection, getQueryDocument(), options);
+            return datastore.operations().deleteOne(collection, getQuery(), options);
         }
     }
 
@@ -171,7 +215,7 @@ public class MorphiaQuery<T> implements Query<T> {
     @Override
     public T findAndDelete(FindAndDeleteOptions options) {
         MongoCollection<T> mongoCollection = datastore.configureCollection(options, collection);
-        return datastore.operations().findOneAndDelete(mongoCollection, getQueryDocument(), options);
+        return datastore.operations().findOneAndDelete(mongoCollection, getQuery(), options);
     }
 
     @Override
@@ -186,6 +230,17 @@ public class MorphiaQuery<T> implements Query<T> {
         }
     }
 
+    /**
+     * @return the collection this query runs against
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public MongoCollection<T> getCollection() {
+        return collection;
+    }
+
     public Class<T> getEntityClass() {
         return type;
     }
@@ -197,7 +252,7 @@ public class MorphiaQuery<T> implements Query<T> {
         Operations value = new Operations(entityModel, coalesce(first, updates), validate);
 
         return datastore.operations().findOneAndUpdate(datastore.configureCollection(options, collection),
-                toDocument(), value.toDocument(datastore), options);
+                getQuery(), value.toDocument(datastore), options);
     }
 
     @MorphiaInternal
@@ -207,6 +262,11 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(FindOptions options) {
+        Boolean batchReferences = options.batchReferences();
+        if (batchReferences == null ? mapper.getConfig().batchReferences() : batchReferences) {
+            ReferenceBatch batch = new ReferenceBatch(datastore);
+            return new MorphiaCursor<>(batch.resolving(() -> prepareCursor(options, collection)), batch);
+        }
         return new MorphiaCursor<>(prepareCursor(options, collection));
     }
 
@@ -231,11 +291,13 @@ public class MorphiaQuery<T> implements Query<T> {
         Document updateOperations = new Operations(entityModel, coalesce(first, updates), isValidate())
                 .toDocument(datastore);
 
-        final Document queryObject = toDocument();
-        if (options.isUpsert()) {
-            if (entityModel.useDiscriminator()) {
-                queryObject.put(entityModel.discriminatorKey(), entityModel.discriminator());
-            }
+        final Bson queryObject;
+        if (options.isUpsert() && entityModel.useDiscriminator()) {
+            Document document = toDocument();
+            document.put(entityModel.discriminatorKey(), entityModel.discriminator());
+            queryObject = document;
+        } else {
+            queryObject = getQuery();
         }
 
         MongoCollection<T> mongoCollection = options.prepare(collection, datastore.getDatabase());
@@ -258,7 +320,7 @@ public class MorphiaQuery<T> implements Query<T> {
                     return writer.getDocument();
                 })
                 .collect(toList());
-        final Document queryObject = toDocument();
+        final Bson queryObject = getQuery();
 
         MongoCollection<T> mongoCollection = datastore.configureCollection(options, datastore.configureCollection(options, collection));
         return options.multi()
@@ -299,7 +361,7 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @NonNull
     private <E> FindIterable<E> iterable(FindOptions findOptions, MongoCollection<E> collection) {
-        final Document query = toDocument();
+        final Bson query = getQuery();
 
         if (LOG.isTraceEnabled()) {
             LOG.trace(format("Running query(%s) : %s, options: %s,", getCollectionName(), query, findOptions));
@@ -331,12 +393,44 @@ public class MorphiaQuery<T> implements Query<T> {
         }
     }
 
+    /**
+     * Encodes the filters straight to the wire when possible and falls back to building the full Document otherwise.
+     */
+    private Bson getQuery() {
+        if (invalid != null) {
+            throw invalid;
+        }
+        if (prepared != null && filters.isEmpty()) {
+            return prepared;
+        }
+        if (seedQuery == null && prepared == null) {
+            try {
+                EntityModel model = mapper.isMappable(getEntityClass()) ? mapper.getEntityModel(getEntityClass()) : null;
+                FilterBson query = FilterBson.of(datastore, model, filters);
+                if (query != null) {
+                    return query;
+                }
+            } catch (ValidationException e) {
+                invalid = e;
+                throw e;
+            }
+        }
+        return getQueryDocument();
+    }
+
     private Document getQueryDocument() {
         if (invalid != null) {
             throw invalid;
         }
+        Instrumentation instrumentation = mapper.getConfig().instrumentation().orElse(null);
+        long start = instrumentation != null ? System.nanoTime() : 0;
         try {
-            DocumentWriter writer = new DocumentWriter(mapper.getConfig(), seedQuery);
+            Document seed = seedQuery;
+            if (seed == null && prepared != null) {
+                seed = datastore.getCodecRegistry().get(Document.class)
+                        .decode(new BsonDocumentReader(prepared), DecoderContext.builder().build());
+            }
+            DocumentWriter writer = new DocumentWriter(mapper.getConfig(), seed);
             document(writer, () -> {
                 EncoderContext context = EncoderContext.builder().build();
                 for (Filter filter : filters) {
@@ -349,6 +443,10 @@ public class MorphiaQuery<T> implements Query<T> {
             if (mapper.isMappable(getEntityClass())) {
                 mapper.updateQueryWithDiscriminators(mapper.getEntityModel(getEntityClass()), query);
             }
+            if (instrumentation != null) {
+                instrumentation.filtered(mapper.isMappable(getEntityClass()) ? getEntityClass() : Object.class,
+                        System.nanoTime() - start);
+            }
 
             return query;
         } catch (ValidationException e) {
@@ -358,4 +456,21 @@ public class MorphiaQuery<T> implements Query<T> {
 
     }
 
+    private static void collectParameters(@Nullable Object value, Map<String, Parameter> parameters) {
+        if (value instanceof Parameter) {
+            parameters.putIfAbsent(((Parameter) value).name(), (Parameter) value);
+        } else if (value instanceof LogicalFilter) {
+            collectParameters(((LogicalFilter) value).filters(), parameters);
+        } else if (value instanceof Filter) {
+            collectParameters(((Filter) value).getValue(), parameters);
+        } else if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                collectParameters(element, parameters);
+            }
+        } else if (value instanceof Object[]) {
+            for (Object element : (Object[]) value) {
+                collectParameters(element, parameters);
+            }
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package dev.morphia.query;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.internal.PathTarget;
+
+/**
+ * A named placeholder for a filter value in a {@link PreparedQuery}. Values are bound to placeholders each time the prepared query is
+ * executed.
+ *
+ * <pre>
+ * PreparedQuery&lt;User&gt; byName = datastore.find(User.class)
+ *         .filter(eq("name", parameter("name")))
+ *         .prepare();
+ * User user = byName.bind("name", "Jane").first();
+ * </pre>
+ *
+ * @see Query#prepare()
+ * @since 3.0
+ */
+public final class Parameter {
+    private final String name;
+    @Nullable
+    private PathTarget target;
+
+    private Parameter(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Creates a new placeholder
+     *
+     * @param name the name of the parameter
+     * @return the new placeholder
+     */
+    public static Parameter parameter(String name) {
+        return new Parameter(name);
+    }
+
+    /**
+     * @return the name of the parameter
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return the target of the filter using this parameter, if known
+     * @hidden
+     * @morphia.internal
+     */
+    @Nullable
+    @MorphiaInternal
+    public PathTarget target() {
+        return target;
+    }
+
+    /**
+     * @param target the target of the filter using this parameter
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public void target(PathTarget target) {
+        this.target = target;
+    }
+
+    @Override
+    public String toString() {
+        return "Parameter{" + name + "}";
+    }
+}
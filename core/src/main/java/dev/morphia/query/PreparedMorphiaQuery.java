@@ -0,0 +1,156 @@
+package dev.morphia.query;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.codec.pojo.PropertyHandler;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.codecs.EncoderContext;
+
+import static dev.morphia.mapping.codec.CodecHelper.document;
+import static dev.morphia.mapping.codec.CodecHelper.namedValue;
+import static dev.morphia.mapping.codec.filters.ParameterCodec.PARAMETER;
+
+/**
+ * Holds the encoded form of a query along with the locations of its parameters. Binding values only encodes those values and copies
+ * them in to the skeleton; the filters themselves are not revisited.
+ *
+ * @param <T> the type being queried
+ */
+class PreparedMorphiaQuery<T> implements PreparedQuery<T> {
+    private final MorphiaDatastore datastore;
+    @Nullable
+    private final MongoCollection<T> collection;
+    private final Class<T> type;
+    private final BsonDocument skeleton;
+    private final Map<String, Parameter> parameters;
+    private final List<Slot> slots = new ArrayList<>();
+
+    PreparedMorphiaQuery(MorphiaDatastore datastore, @Nullable MongoCollection<T> collection, Class<T> type, BsonDocument skeleton,
+            Map<String, Parameter> parameters) {
+        this.datastore = datastore;
+        this.collection = collection;
+        this.type = type;
+        this.skeleton = skeleton;
+        this.parameters = parameters;
+        findSlots(skeleton, new ArrayList<>());
+    }
+
+    @Override
+    public Query<T> bind(Map<String, ?> values) {
+        for (String name : values.keySet()) {
+            if (!parameters.containsKey(name)) {
+                throw new IllegalArgumentException(Sofia.unknownQueryParameter(name, parameters.keySet()));
+            }
+        }
+        Map<String, BsonValue> encoded = new HashMap<>();
+        for (Entry<String, Parameter> entry : parameters.entrySet()) {
+            if (!values.containsKey(entry.getKey())) {
+                throw new IllegalArgumentException(Sofia.unboundQueryParameter(entry.getKey()));
+            }
+            encoded.put(entry.getKey(), encode(entry.getValue(), values.get(entry.getKey())));
+        }
+
+        BsonDocument query = skeleton.clone();
+        for (Slot slot : slots) {
+            slot.apply(query, encoded.get(slot.name));
+        }
+        return new MorphiaQuery<>(datastore, collection, type, query);
+    }
+
+    @Override
+    public Set<String> parameters() {
+        return parameters.keySet();
+    }
+
+    @Override
+    public String toString() {
+        return skeleton.toJson();
+    }
+
+    private BsonValue encode(Parameter parameter, @Nullable Object value) {
+        Object mapped = value;
+        PathTarget target = parameter.target();
+        PropertyModel property = target != null ? target.target() : null;
+        if (property != null && property.specializeCodec(datastore) instanceof PropertyHandler) {
+            mapped = ((PropertyHandler) property.specializeCodec(datastore)).encode(value);
+        }
+        if (mapped == null) {
+            return BsonNull.VALUE;
+        }
+        BsonDocument holder = new BsonDocument();
+        BsonDocumentWriter writer = new BsonDocumentWriter(holder);
+        Object encodable = mapped;
+        document(writer, () -> namedValue(writer, datastore, "value", encodable, EncoderContext.builder().build()));
+        return holder.get("value");
+    }
+
+    private void findSlots(BsonValue value, List<Object> path) {
+        if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            BsonValue name = document.get(PARAMETER);
+            if (document.size() == 1 && name instanceof BsonString) {
+                slots.add(new Slot(name.asString().getValue(), List.copyOf(path)));
+                return;
+            }
+            for (Entry<String, BsonValue> entry : document.entrySet()) {
+                path.add(entry.getKey());
+                findSlots(entry.getValue(), path);
+                path.remove(path.size() - 1);
+            }
+        } else if (value.isArray()) {
+            BsonArray array = value.asArray();
+            for (int i = 0; i < array.size(); i++) {
+                path.add(i);
+                findSlots(array.get(i), path);
+                path.remove(path.size() - 1);
+            }
+        }
+    }
+
+    private static class Slot {
+        private final String name;
+        private final List<Object> path;
+
+        Slot(String name, List<Object> path) {
+            this.name = name;
+            this.path = path;
+        }
+
+        void apply(BsonDocument query, BsonValue value) {
+            BsonValue parent = query;
+            for (int i = 0; i < path.size() - 1; i++) {
+                parent = step(parent, path.get(i));
+            }
+            Object last = path.get(path.size() - 1);
+            if (last instanceof Integer) {
+                parent.asArray().set((Integer) last, value);
+            } else {
+                parent.asDocument().put((String) last, value);
+            }
+        }
+
+        private static BsonValue step(BsonValue value, Object key) {
+            return key instanceof Integer
+                    ? value.asArray().get((Integer) key)
+                    : value.asDocument().get((String) key);
+        }
+    }
+}
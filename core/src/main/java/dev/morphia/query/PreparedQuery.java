@@ -0,0 +1,41 @@
+package dev.morphia.query;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import com.mongodb.lang.Nullable;
+
+/**
+ * A query whose filters have been translated once and which only needs the values of its {@link Parameter placeholders} to be
+ * supplied on each execution. Prepared queries are immutable and can be shared between threads.
+ *
+ * @param <T> the type being queried
+ * @see Query#prepare()
+ * @since 3.0
+ */
+public interface PreparedQuery<T> {
+    /**
+     * Binds a value to the only parameter of this query.
+     *
+     * @param name  the name of the parameter
+     * @param value the value to use
+     * @return a new query with the value applied
+     */
+    default Query<T> bind(String name, @Nullable Object value) {
+        return bind(Collections.singletonMap(name, value));
+    }
+
+    /**
+     * Binds values to the parameters of this query. Every parameter must be given a value.
+     *
+     * @param values the values to use keyed by parameter name
+     * @return a new query with the values applied
+     */
+    Query<T> bind(Map<String, ?> values);
+
+    /**
+     * @return the names of the parameters of this query
+     */
+    Set<String> parameters();
+}
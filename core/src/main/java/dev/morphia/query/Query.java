@@ -199,6 +199,18 @@ public interface Query<T> extends Iterable<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Translates this query once so that it can be executed repeatedly with different values bound to its {@link Parameter placeholders}.
+     * Any filters added to this query after it has been prepared are not reflected in the prepared query.
+     *
+     * @return the prepared query
+     * @see Parameter#parameter(String)
+     * @since 3.0
+     */
+    default PreparedQuery<T> prepare() {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Execute the query and get the results.
      *
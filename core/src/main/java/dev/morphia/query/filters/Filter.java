@@ -9,6 +9,7 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.PropertyHandler;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.query.OperationTarget;
+import dev.morphia.query.Parameter;
 
 import org.bson.BsonWriter;
 import org.bson.Document;
@@ -157,6 +158,11 @@ public class Filter {
     public Object getValue(MorphiaDatastore datastore) {
         if (!mapped) {
             PathTarget target = pathTarget(datastore.getMapper());
+            if (value instanceof Parameter) {
+                ((Parameter) value).target(target);
+                mapped = true;
+                return value;
+            }
             OperationTarget operationTarget = new OperationTarget(pathTarget, value);
             this.value = operationTarget.getValue();
             PropertyModel property = target.target();
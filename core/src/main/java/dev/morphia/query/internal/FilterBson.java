@@ -0,0 +1,108 @@
+package dev.morphia.query.internal;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.instrumentation.Instrumentation;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.query.filters.EqFilter;
+import dev.morphia.query.filters.Filter;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWrapper;
+import org.bson.BsonWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+
+/**
+ * A query filter which encodes its filters directly on to the writer the driver uses to serialize the command rather than building an
+ * intermediate {@code Document} first. This is only possible when each filter writes a single, distinct top level field as merging
+ * repeated fields requires the full document.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class FilterBson implements Bson {
+    private final MorphiaDatastore datastore;
+    private final List<Filter> filters;
+    @Nullable
+    private final EntityModel model;
+    @Nullable
+    private final Document discriminators;
+
+    private FilterBson(MorphiaDatastore datastore, List<Filter> filters, @Nullable EntityModel model, @Nullable Document discriminators) {
+        this.datastore = datastore;
+        this.filters = filters;
+        this.model = model;
+        this.discriminators = discriminators;
+    }
+
+    /**
+     * Creates a lazily encoded filter if the filters given allow it.
+     *
+     * @param datastore the datastore
+     * @param model     the model of the queried type if it is mapped
+     * @param filters   the filters to apply
+     * @return the new filter or null if the filters need to be merged in to a {@code Document}
+     */
+    @Nullable
+    public static FilterBson of(MorphiaDatastore datastore, @Nullable EntityModel model, List<Filter> filters) {
+        Set<String> paths = new LinkedHashSet<>();
+        for (Filter filter : filters) {
+            Class<?> type = filter.getClass();
+            if ((type != Filter.class && type != EqFilter.class) || !paths.add(filter.path(datastore.getMapper()))) {
+                return null;
+            }
+        }
+        Document discriminators = model != null ? datastore.getMapper().discriminatorFilter(model, paths) : null;
+        return new FilterBson(datastore, List.copyOf(filters), model, discriminators);
+    }
+
+    @Override
+    public <TDocument> BsonDocument toBsonDocument(Class<TDocument> documentClass, CodecRegistry codecRegistry) {
+        return new BsonDocumentWrapper<>(this, new FilterEncoder());
+    }
+
+    @Override
+    public String toString() {
+        return toBsonDocument(BsonDocument.class, datastore.getCodecRegistry()).toJson();
+    }
+
+    private class FilterEncoder implements Encoder<FilterBson> {
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public void encode(BsonWriter writer, FilterBson value, EncoderContext encoderContext) {
+            Instrumentation instrumentation = datastore.getMapper().getConfig().instrumentation().orElse(null);
+            long start = instrumentation != null ? System.nanoTime() : 0;
+            writer.writeStartDocument();
+            for (Filter filter : filters) {
+                Codec codec = datastore.getCodecRegistry().get(filter.getClass());
+                codec.encode(writer, filter, encoderContext);
+            }
+            if (model != null && discriminators != null) {
+                writer.writeName(model.discriminatorKey());
+                datastore.getCodecRegistry().get(Document.class).encode(writer, discriminators, encoderContext);
+            }
+            writer.writeEndDocument();
+            if (instrumentation != null) {
+                instrumentation.filtered(model != null ? model.getType() : Object.class, System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public Class<FilterBson> getEncoderClass() {
+            return FilterBson.class;
+        }
+    }
+}
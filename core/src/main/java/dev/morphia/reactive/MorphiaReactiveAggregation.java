@@ -0,0 +1,50 @@
+package dev.morphia.reactive;
+
+import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import dev.morphia.aggregation.AggregationImpl;
+import dev.morphia.aggregation.AggregationOptions;
+import dev.morphia.aggregation.stages.Stage;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * Collects and encodes the stages with an {@link AggregationImpl} and runs the resulting pipeline with the reactive driver.
+ *
+ * @param <T> the source type
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+class MorphiaReactiveAggregation<T> implements ReactiveAggregation<T> {
+    private final MorphiaReactiveDatastore datastore;
+    private final AggregationImpl<T> pipeline;
+    private final MongoCollection<T> collection;
+
+    MorphiaReactiveAggregation(MorphiaReactiveDatastore datastore, AggregationImpl<T> pipeline, MongoCollection<T> collection) {
+        this.datastore = datastore;
+        this.pipeline = pipeline;
+        this.collection = collection;
+    }
+
+    @Override
+    public <R> Publisher<R> execute(Class<R> resultType, AggregationOptions options) {
+        datastore.checkLoadable(resultType);
+        return Publishers.defer(() -> {
+            AggregatePublisher<R> publisher = datastore.configureCollection(options, collection)
+                    .aggregate(pipeline.pipeline(), resultType);
+            options.apply(ReactiveTargets.aggregate(publisher));
+            return publisher;
+        });
+    }
+
+    @Override
+    public ReactiveAggregation<T> pipeline(Stage... stages) {
+        pipeline.pipeline(stages);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return pipeline.pipeline().toString();
+    }
+}
@@ -0,0 +1,242 @@
+package dev.morphia.reactive;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.InsertManyOptions;
+import dev.morphia.InsertOneOptions;
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.MorphiaDatastore.VersionBumpInfo;
+import dev.morphia.VersionMismatchException;
+import dev.morphia.aggregation.AggregationImpl;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Reference;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.config.MorphiaConfig;
+import dev.morphia.internal.CollectionConfiguration;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.experimental.MorphiaReference;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+
+/**
+ * The Reactive Streams implementation of a datastore. The mapping and all the codecs are shared with the sync API through a
+ * {@link MorphiaDatastore} which is never connected to a sync client.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class MorphiaReactiveDatastore implements ReactiveDatastore {
+    private final MongoClient mongoClient;
+    private final MorphiaDatastore datastore;
+    private final MongoDatabase database;
+    /**
+     * The types already checked for references
+     */
+    private final Map<Class<?>, Boolean> loadable = new ConcurrentHashMap<>();
+
+    /**
+     * @param mongoClient the client to use
+     * @param config      the config
+     */
+    public MorphiaReactiveDatastore(MongoClient mongoClient, MorphiaConfig config) {
+        this.mongoClient = mongoClient;
+        MongoDatabase clientDatabase = mongoClient.getDatabase(config.database());
+        datastore = new MorphiaDatastore(clientDatabase.getCodecRegistry(), config);
+        database = clientDatabase.withCodecRegistry(datastore.getCodecRegistry());
+    }
+
+    @Override
+    public <T> ReactiveAggregation<T> aggregate(Class<T> source) {
+        return new MorphiaReactiveAggregation<>(this, new AggregationImpl<>(datastore, source, null), getCollection(source));
+    }
+
+    @Override
+    public <T> Publisher<DeleteResult> delete(T entity, DeleteOptions options) {
+        Document filter = idFilter(entity);
+        MongoCollection<T> collection = configureCollection(options, getCollection((Class<T>) entity.getClass()));
+        return collection.deleteOne(filter, options);
+    }
+
+    @Override
+    public <T> ReactiveQuery<T> find(Class<T> type) {
+        checkLoadable(type);
+        return new MorphiaReactiveQuery<>(this, type);
+    }
+
+    @Override
+    public <T> MongoCollection<T> getCollection(Class<T> type) {
+        EntityModel entityModel = getMapper().getEntityModel(type);
+        MongoCollection<T> collection = database.getCollection(entityModel.collectionName(), type);
+
+        Entity annotation = entityModel.getEntityAnnotation();
+        if (annotation != null && !annotation.concern().equals("")) {
+            collection = collection.withWriteConcern(WriteConcern.valueOf(annotation.concern()));
+        }
+        return collection;
+    }
+
+    @Override
+    public MongoDatabase getDatabase() {
+        return database;
+    }
+
+    @Override
+    public Mapper getMapper() {
+        return datastore.getMapper();
+    }
+
+    /**
+     * @return the client this datastore uses
+     */
+    public MongoClient getMongoClient() {
+        return mongoClient;
+    }
+
+    @Override
+    public <T> Publisher<InsertOneResult> insert(T entity, InsertOneOptions options) {
+        return Publishers.defer(() -> {
+            MongoCollection<T> collection = configureCollection(options, getCollection((Class<T>) entity.getClass()));
+            VersionBumpInfo info = datastore.updateVersioning(entity);
+            return Publishers.map(collection.insertOne(entity, options.driver()), result -> result, error -> info.rollbackVersion());
+        });
+    }
+
+    @Override
+    public <T> Publisher<InsertManyResult> insert(List<T> entities, InsertManyOptions options) {
+        if (entities.isEmpty()) {
+            throw new IllegalArgumentException(Sofia.valuesCannotBeNullOrEmpty());
+        }
+        return Publishers.defer(() -> {
+            Class<T> type = (Class<T>) entities.get(0).getClass();
+            List<VersionBumpInfo> infos = entities.stream()
+                    .map(datastore::updateVersioning)
+                    .toList();
+            MongoCollection<T> collection = configureCollection(options, getCollection(type));
+            return Publishers.map(collection.insertMany(entities, options.driver()), result -> result,
+                    error -> infos.forEach(VersionBumpInfo::rollbackVersion));
+        });
+    }
+
+    @Override
+    public <T> Publisher<T> save(T entity, InsertOneOptions options) {
+        return Publishers.defer(() -> {
+            MongoCollection<T> collection = configureCollection(options, getCollection((Class<T>) entity.getClass()));
+            EntityModel model = getMapper().getEntityModel(entity.getClass());
+            PropertyModel idProperty = model.getIdProperty();
+            Object id = idProperty != null ? idProperty.getValue(entity) : null;
+            VersionBumpInfo info = datastore.updateVersioning(entity);
+
+            if (id == null || info.versioned() && info.newVersion() == 1) {
+                return Publishers.map(collection.insertOne(entity, options.driver()), result -> entity, error -> info.rollbackVersion());
+            }
+            Document filter = new Document("_id", id);
+            info.filter(filter);
+            model.getShardKeys().forEach((property) -> {
+                filter.put(property.getMappedName(), property.getValue(entity));
+            });
+            ReplaceOptions replaceOptions = new ReplaceOptions()
+                    .bypassDocumentValidation(options.bypassDocumentValidation())
+                    .upsert(!info.versioned());
+            return Publishers.map(collection.replaceOne(filter, entity, replaceOptions), result -> {
+                if (info.versioned() && result.getModifiedCount() != 1) {
+                    info.rollbackVersion();
+                    throw new VersionMismatchException(entity.getClass(), id);
+                }
+                return entity;
+            }, error -> info.rollbackVersion());
+        });
+    }
+
+    /**
+     * Applies configuration options to the collection
+     *
+     * @param options    the options to apply
+     * @param collection the collection to configure
+     * @param <T>        the collection type
+     * @return the configured collection
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public <T> MongoCollection<T> configureCollection(CollectionConfiguration options, MongoCollection<T> collection) {
+        return MorphiaDatastore.configure(options, collection, name -> database.getCollection(name, collection.getDocumentClass()),
+                MongoCollection::withReadConcern, MongoCollection::withReadPreference, MongoCollection::withWriteConcern);
+    }
+
+    /**
+     * @return the datastore providing the mapping and codecs
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public MorphiaDatastore getMorphiaDatastore() {
+        return datastore;
+    }
+
+    /**
+     * Fails if entities of the given type could not be decoded without resolving references. Types which are not mapped are ignored.
+     *
+     * @param type the type to check
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public void checkLoadable(Class<?> type) {
+        if (getMapper().isMappable(type)) {
+            loadable.computeIfAbsent(type, t -> {
+                checkReferences(getMapper().getEntityModel(t), new HashSet<>());
+                return true;
+            });
+        }
+    }
+
+    private void checkReferences(EntityModel model, Set<EntityModel> visited) {
+        if (!visited.add(model)) {
+            return;
+        }
+        for (PropertyModel property : model.getProperties()) {
+            if (property.hasAnnotation(Reference.class) || MorphiaReference.class.isAssignableFrom(property.getType())) {
+                throw new MappingException(Sofia.reactiveReferencesUnsupported(model.getType().getName(), property.getName()));
+            }
+            Class<?> type = property.getNormalizedType();
+            if (getMapper().isMappable(type)) {
+                checkReferences(getMapper().getEntityModel(type), visited);
+            }
+        }
+        for (EntityModel subtype : model.getSubtypes()) {
+            checkReferences(subtype, visited);
+        }
+    }
+
+    private Document idFilter(Object entity) {
+        EntityModel model = getMapper().getEntityModel(entity.getClass());
+        PropertyModel idProperty = model.getIdProperty();
+        Object id = idProperty != null ? idProperty.getValue(entity) : null;
+        if (id == null) {
+            throw new MappingException(Sofia.missingIdOnDelete());
+        }
+        return new Document("_id", id);
+    }
+}
@@ -0,0 +1,160 @@
+package dev.morphia.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.ModifyOptions;
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.UpdateOptions;
+import dev.morphia.internal.CollectionConfiguration;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.query.CountOptions;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Operations;
+import dev.morphia.query.filters.Filter;
+import dev.morphia.query.internal.FilterBson;
+import dev.morphia.query.updates.UpdateOperator;
+
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
+
+import static dev.morphia.mapping.codec.CodecHelper.coalesce;
+import static dev.morphia.mapping.codec.CodecHelper.document;
+
+/**
+ * @param <T> the type being queried
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+class MorphiaReactiveQuery<T> implements ReactiveQuery<T> {
+    private final MorphiaReactiveDatastore reactiveDatastore;
+    private final MorphiaDatastore datastore;
+    private final Mapper mapper;
+    private final Class<T> type;
+    private final EntityModel model;
+    private final List<Filter> filters = new ArrayList<>();
+    private boolean validate = true;
+
+    MorphiaReactiveQuery(MorphiaReactiveDatastore reactiveDatastore, Class<T> type) {
+        this.reactiveDatastore = reactiveDatastore;
+        this.datastore = reactiveDatastore.getMorphiaDatastore();
+        this.mapper = datastore.getMapper();
+        this.type = type;
+        this.model = mapper.getEntityModel(type);
+    }
+
+    @Override
+    public Publisher<Long> count(CountOptions options) {
+        return Publishers.defer(() -> collection(options).countDocuments(getQuery(), options));
+    }
+
+    @Override
+    public Publisher<DeleteResult> delete(DeleteOptions options) {
+        return Publishers.defer(() -> options.multi()
+                ? collection(options).deleteMany(getQuery(), options)
+                : collection(options).deleteOne(getQuery(), options));
+    }
+
+    @Override
+    public ReactiveQuery<T> disableValidation() {
+        validate = false;
+        return this;
+    }
+
+    @Override
+    public ReactiveQuery<T> enableValidation() {
+        validate = true;
+        return this;
+    }
+
+    @Override
+    public Publisher<T> execute(FindOptions options) {
+        return Publishers.defer(() -> iterable(options));
+    }
+
+    @Override
+    public ReactiveQuery<T> filter(Filter... additional) {
+        for (Filter filter : additional) {
+            filters.add(filter
+                    .entityType(type)
+                    .isValidating(validate));
+        }
+        return this;
+    }
+
+    @Override
+    public Publisher<T> first(FindOptions options) {
+        return Publishers.defer(() -> iterable(options).first());
+    }
+
+    @Override
+    public Publisher<T> modify(ModifyOptions options, UpdateOperator first, UpdateOperator... updates) {
+        return Publishers.defer(() -> {
+            Document update = new Operations(model, coalesce(first, updates), validate).toDocument(datastore);
+            return collection(options).findOneAndUpdate(getQuery(), update, options);
+        });
+    }
+
+    @Override
+    public Publisher<UpdateResult> update(UpdateOptions options, UpdateOperator first, UpdateOperator... updates) {
+        return Publishers.defer(() -> {
+            Document update = new Operations(model, coalesce(first, updates), validate).toDocument(datastore);
+            final Bson query;
+            if (options.isUpsert() && model.useDiscriminator()) {
+                Document document = getQueryDocument();
+                document.put(model.discriminatorKey(), model.discriminator());
+                query = document;
+            } else {
+                query = getQuery();
+            }
+            MongoCollection<T> collection = collection(options);
+            return options.multi()
+                    ? collection.updateMany(query, update, options)
+                    : collection.updateOne(query, update, options);
+        });
+    }
+
+    @Override
+    public String toString() {
+        return getQueryDocument().toJson();
+    }
+
+    private MongoCollection<T> collection(CollectionConfiguration options) {
+        return reactiveDatastore.configureCollection(options, reactiveDatastore.getCollection(type));
+    }
+
+    private FindPublisher<T> iterable(FindOptions options) {
+        FindPublisher<T> publisher = collection(options).find(getQuery());
+        options.apply(ReactiveTargets.find(publisher), mapper, type);
+        return publisher;
+    }
+
+    private Bson getQuery() {
+        FilterBson query = FilterBson.of(datastore, model, filters);
+        return query != null ? query : getQueryDocument();
+    }
+
+    private Document getQueryDocument() {
+        DocumentWriter writer = new DocumentWriter(mapper.getConfig());
+        document(writer, () -> {
+            EncoderContext context = EncoderContext.builder().build();
+            for (Filter filter : filters) {
+                Codec codec = datastore.getCodecRegistry().get(filter.getClass());
+                codec.encode(writer, filter, context);
+            }
+        });
+        Document query = writer.getDocument();
+        mapper.updateQueryWithDiscriminators(model, query);
+        return query;
+    }
+}
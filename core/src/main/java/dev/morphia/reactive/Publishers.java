@@ -0,0 +1,107 @@
+package dev.morphia.reactive;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * The few operators needed to compose driver publishers without depending on a reactive library.
+ */
+final class Publishers {
+    private Publishers() {
+    }
+
+    /**
+     * Defers the creation of a publisher until it is subscribed to so that any side effects happen once per subscription.
+     */
+    static <T> Publisher<T> defer(Supplier<Publisher<T>> supplier) {
+        return subscriber -> {
+            Publisher<T> publisher;
+            try {
+                publisher = supplier.get();
+            } catch (RuntimeException e) {
+                subscriber.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(e);
+                return;
+            }
+            publisher.subscribe(subscriber);
+        };
+    }
+
+    static <S, R> Publisher<R> map(Publisher<S> source, Function<S, R> mapper) {
+        return map(source, mapper, error -> {
+        });
+    }
+
+    /**
+     * Maps each value of the source. An exception thrown by the mapper cancels the source and is signalled downstream.
+     */
+    static <S, R> Publisher<R> map(Publisher<S> source, Function<S, R> mapper, Consumer<Throwable> onError) {
+        return subscriber -> source.subscribe(new MappingSubscriber<>(subscriber, mapper, onError));
+    }
+
+    private static class MappingSubscriber<S, R> implements Subscriber<S> {
+        private final Subscriber<? super R> downstream;
+        private final Function<S, R> mapper;
+        private final Consumer<Throwable> onError;
+        private Subscription subscription;
+        private boolean done;
+
+        MappingSubscriber(Subscriber<? super R> downstream, Function<S, R> mapper, Consumer<Throwable> onError) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.onError = onError;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(S value) {
+            if (done) {
+                return;
+            }
+            R mapped;
+            try {
+                mapped = mapper.apply(value);
+            } catch (RuntimeException e) {
+                subscription.cancel();
+                onError(e);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                onError.accept(throwable);
+                downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                downstream.onComplete();
+            }
+        }
+    }
+}
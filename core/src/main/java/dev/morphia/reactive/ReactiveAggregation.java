@@ -0,0 +1,43 @@
+package dev.morphia.reactive;
+
+import dev.morphia.aggregation.AggregationOptions;
+import dev.morphia.aggregation.stages.Stage;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * The reactive counterpart of {@link dev.morphia.aggregation.Aggregation}. Stages are encoded exactly as they are for the sync API.
+ *
+ * @param <T> the source type
+ * @since 3.0
+ */
+public interface ReactiveAggregation<T> {
+    /**
+     * Executes the pipeline and decodes the results in to the given type.
+     *
+     * @param resultType the type of the results
+     * @param <R>        the result type
+     * @return a publisher of the results
+     */
+    default <R> Publisher<R> execute(Class<R> resultType) {
+        return execute(resultType, new AggregationOptions());
+    }
+
+    /**
+     * Executes the pipeline and decodes the results in to the given type.
+     *
+     * @param resultType the type of the results
+     * @param options    the options to apply
+     * @param <R>        the result type
+     * @return a publisher of the results
+     */
+    <R> Publisher<R> execute(Class<R> resultType, AggregationOptions options);
+
+    /**
+     * Appends stages to the pipeline
+     *
+     * @param stages the stages to add
+     * @return this
+     */
+    ReactiveAggregation<T> pipeline(Stage... stages);
+}
@@ -0,0 +1,148 @@
+package dev.morphia.reactive;
+
+import java.util.List;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.InsertManyOptions;
+import dev.morphia.InsertOneOptions;
+import dev.morphia.mapping.Mapper;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * Mirrors {@link dev.morphia.Datastore} on top of the Reactive Streams driver. Every operation returns a cold {@link Publisher}: nothing
+ * is sent to the server until the publisher is subscribed to and entities are only decoded as they are requested.
+ * <p>
+ * References can not be resolved without blocking so types with {@link dev.morphia.annotations.Reference} or
+ * {@link dev.morphia.mapping.experimental.MorphiaReference} properties, directly or through embedded types and subtypes, can not be loaded
+ * through this datastore. Queries for such types, and aggregations returning them, fail with a {@link dev.morphia.mapping.MappingException} when
+ * they are created.
+ *
+ * @since 3.0
+ */
+public interface ReactiveDatastore {
+    /**
+     * Starts an aggregation pipeline on the collection mapped for the given type.
+     *
+     * @param source the type to aggregate
+     * @param <T>    the source type
+     * @return the new aggregation
+     */
+    <T> ReactiveAggregation<T> aggregate(Class<T> source);
+
+    /**
+     * Deletes the given entity by its ID
+     *
+     * @param entity the entity to delete
+     * @param <T>    the entity type
+     * @return a publisher of the results of the delete
+     */
+    default <T> Publisher<DeleteResult> delete(T entity) {
+        return delete(entity, new DeleteOptions());
+    }
+
+    /**
+     * Deletes the given entity by its ID
+     *
+     * @param entity  the entity to delete
+     * @param options the options to use when deleting
+     * @param <T>     the entity type
+     * @return a publisher of the results of the delete
+     */
+    <T> Publisher<DeleteResult> delete(T entity, DeleteOptions options);
+
+    /**
+     * Find all instances of a type
+     *
+     * @param type the type to query
+     * @param <T>  the type to query
+     * @return the query
+     */
+    <T> ReactiveQuery<T> find(Class<T> type);
+
+    /**
+     * @param type the type look up
+     * @param <T>  the type of the collection
+     * @return the collection mapped for this class
+     */
+    <T> MongoCollection<T> getCollection(Class<T> type);
+
+    /**
+     * @return the database this datastore uses
+     */
+    MongoDatabase getDatabase();
+
+    /**
+     * @return the Mapper used by this datastore
+     */
+    Mapper getMapper();
+
+    /**
+     * Inserts an entity in to the mapped collection.
+     *
+     * @param entity the entity to insert
+     * @param <T>    the type of the entity
+     * @return a publisher of the results of the insert
+     */
+    default <T> Publisher<InsertOneResult> insert(T entity) {
+        return insert(entity, new InsertOneOptions());
+    }
+
+    /**
+     * Inserts an entity in to the mapped collection.
+     *
+     * @param entity  the entity to insert
+     * @param options the options to apply to the insert operation
+     * @param <T>     the type of the entity
+     * @return a publisher of the results of the insert
+     */
+    <T> Publisher<InsertOneResult> insert(T entity, InsertOneOptions options);
+
+    /**
+     * Inserts entities in to the mapped collection. The entities must all be of the same type.
+     *
+     * @param entities the entities to insert
+     * @param <T>      the type of the entities
+     * @return a publisher of the results of the insert
+     */
+    default <T> Publisher<InsertManyResult> insert(List<T> entities) {
+        return insert(entities, new InsertManyOptions());
+    }
+
+    /**
+     * Inserts entities in to the mapped collection. The entities must all be of the same type.
+     *
+     * @param entities the entities to insert
+     * @param options  the options to apply to the insert operation
+     * @param <T>      the type of the entities
+     * @return a publisher of the results of the insert
+     */
+    <T> Publisher<InsertManyResult> insert(List<T> entities, InsertManyOptions options);
+
+    /**
+     * Saves an entity, inserting it if it is new or replacing the stored document otherwise.
+     *
+     * @param entity the entity to save
+     * @param <T>    the type of the entity
+     * @return a publisher of the saved entity
+     */
+    default <T> Publisher<T> save(T entity) {
+        return save(entity, new InsertOneOptions());
+    }
+
+    /**
+     * Saves an entity, inserting it if it is new or replacing the stored document otherwise.
+     *
+     * @param entity  the entity to save
+     * @param options the options to apply to the save operation
+     * @param <T>     the type of the entity
+     * @return a publisher of the saved entity
+     */
+    <T> Publisher<T> save(T entity, InsertOneOptions options);
+}
@@ -0,0 +1,143 @@
+package dev.morphia.reactive;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.ModifyOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.query.CountOptions;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.filters.Filter;
+import dev.morphia.query.updates.UpdateOperator;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * The reactive counterpart of {@link dev.morphia.query.Query}. Filters and updates are encoded exactly as they are for the sync API.
+ *
+ * @param <T> the type being queried
+ * @since 3.0
+ */
+public interface ReactiveQuery<T> {
+    /**
+     * Counts the documents matching this query
+     *
+     * @return a publisher of the count
+     */
+    default Publisher<Long> count() {
+        return count(new CountOptions());
+    }
+
+    /**
+     * Counts the documents matching this query
+     *
+     * @param options the options to apply
+     * @return a publisher of the count
+     */
+    Publisher<Long> count(CountOptions options);
+
+    /**
+     * Deletes the first document matching this query
+     *
+     * @return a publisher of the results
+     */
+    default Publisher<DeleteResult> delete() {
+        return delete(new DeleteOptions());
+    }
+
+    /**
+     * Deletes the documents matching this query
+     *
+     * @param options the options to apply
+     * @return a publisher of the results
+     */
+    Publisher<DeleteResult> delete(DeleteOptions options);
+
+    /**
+     * Turns off validation
+     *
+     * @return this
+     */
+    ReactiveQuery<T> disableValidation();
+
+    /**
+     * Turns on validation
+     *
+     * @return this
+     */
+    ReactiveQuery<T> enableValidation();
+
+    /**
+     * Finds the entities matching this query
+     *
+     * @return a publisher of the results
+     */
+    default Publisher<T> execute() {
+        return execute(new FindOptions());
+    }
+
+    /**
+     * Finds the entities matching this query
+     *
+     * @param options the options to apply
+     * @return a publisher of the results
+     */
+    Publisher<T> execute(FindOptions options);
+
+    /**
+     * Adds filters to this query. This method can be called multiple times to add new filters.
+     *
+     * @param filters the filters to add
+     * @return this
+     */
+    ReactiveQuery<T> filter(Filter... filters);
+
+    /**
+     * Finds the first entity matching this query
+     *
+     * @return a publisher of the result
+     */
+    default Publisher<T> first() {
+        return first(new FindOptions());
+    }
+
+    /**
+     * Finds the first entity matching this query
+     *
+     * @param options the options to apply
+     * @return a publisher of the result
+     */
+    Publisher<T> first(FindOptions options);
+
+    /**
+     * Updates the first document matching this query and returns it.
+     *
+     * @param options the options to apply
+     * @param first   the first update operator
+     * @param updates the other update operators
+     * @return a publisher of the document before or after the update as configured in the options
+     */
+    Publisher<T> modify(ModifyOptions options, UpdateOperator first, UpdateOperator... updates);
+
+    /**
+     * Updates the first document matching this query
+     *
+     * @param first   the first update operator
+     * @param updates the other update operators
+     * @return a publisher of the results
+     */
+    default Publisher<UpdateResult> update(UpdateOperator first, UpdateOperator... updates) {
+        return update(new UpdateOptions(), first, updates);
+    }
+
+    /**
+     * Updates the documents matching this query
+     *
+     * @param options the options to apply
+     * @param first   the first update operator
+     * @param updates the other update operators
+     * @return a publisher of the results
+     */
+    Publisher<UpdateResult> update(UpdateOptions options, UpdateOperator first, UpdateOperator... updates);
+}
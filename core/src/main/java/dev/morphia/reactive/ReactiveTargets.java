@@ -0,0 +1,187 @@
+package dev.morphia.reactive;
+
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.CursorType;
+import com.mongodb.client.model.Collation;
+import com.mongodb.lang.Nullable;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.FindPublisher;
+
+import dev.morphia.internal.AggregateTarget;
+import dev.morphia.internal.FindTarget;
+
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+
+/**
+ * Lets the existing option types configure the reactive driver's publishers.
+ */
+final class ReactiveTargets {
+    private ReactiveTargets() {
+    }
+
+    static FindTarget find(FindPublisher<?> publisher) {
+        return new FindTarget() {
+            @Override
+            public FindTarget allowDiskUse(@Nullable Boolean allowDiskUse) {
+                publisher.allowDiskUse(allowDiskUse);
+                return this;
+            }
+
+            @Override
+            public FindTarget batchSize(int batchSize) {
+                publisher.batchSize(batchSize);
+                return this;
+            }
+
+            @Override
+            public FindTarget collation(@Nullable Collation collation) {
+                publisher.collation(collation);
+                return this;
+            }
+
+            @Override
+            public FindTarget comment(@Nullable BsonValue comment) {
+                publisher.comment(comment);
+                return this;
+            }
+
+            @Override
+            public FindTarget cursorType(CursorType cursorType) {
+                publisher.cursorType(cursorType);
+                return this;
+            }
+
+            @Override
+            public FindTarget hint(@Nullable Bson hint) {
+                publisher.hint(hint);
+                return this;
+            }
+
+            @Override
+            public FindTarget hintString(@Nullable String hint) {
+                publisher.hintString(hint);
+                return this;
+            }
+
+            @Override
+            public FindTarget let(@Nullable Bson variables) {
+                publisher.let(variables);
+                return this;
+            }
+
+            @Override
+            public FindTarget limit(int limit) {
+                publisher.limit(limit);
+                return this;
+            }
+
+            @Override
+            public FindTarget max(@Nullable Bson max) {
+                publisher.max(max);
+                return this;
+            }
+
+            @Override
+            public FindTarget maxAwaitTime(long maxAwaitTime, TimeUnit unit) {
+                publisher.maxAwaitTime(maxAwaitTime, unit);
+                return this;
+            }
+
+            @Override
+            public FindTarget maxTime(long maxTime, TimeUnit unit) {
+                publisher.maxTime(maxTime, unit);
+                return this;
+            }
+
+            @Override
+            public FindTarget min(@Nullable Bson min) {
+                publisher.min(min);
+                return this;
+            }
+
+            @Override
+            public FindTarget noCursorTimeout(boolean noCursorTimeout) {
+                publisher.noCursorTimeout(noCursorTimeout);
+                return this;
+            }
+
+            @Override
+            public FindTarget partial(boolean partial) {
+                publisher.partial(partial);
+                return this;
+            }
+
+            @Override
+            public FindTarget projection(@Nullable Bson projection) {
+                publisher.projection(projection);
+                return this;
+            }
+
+            @Override
+            public FindTarget returnKey(boolean returnKey) {
+                publisher.returnKey(returnKey);
+                return this;
+            }
+
+            @Override
+            public FindTarget showRecordId(boolean showRecordId) {
+                publisher.showRecordId(showRecordId);
+                return this;
+            }
+
+            @Override
+            public FindTarget skip(int skip) {
+                publisher.skip(skip);
+                return this;
+            }
+
+            @Override
+            public FindTarget sort(@Nullable Bson sort) {
+                publisher.sort(sort);
+                return this;
+            }
+        };
+    }
+
+    static AggregateTarget aggregate(AggregatePublisher<?> publisher) {
+        return new AggregateTarget() {
+            @Override
+            public AggregateTarget allowDiskUse(@Nullable Boolean allowDiskUse) {
+                publisher.allowDiskUse(allowDiskUse);
+                return this;
+            }
+
+            @Override
+            public AggregateTarget batchSize(int batchSize) {
+                publisher.batchSize(batchSize);
+                return this;
+            }
+
+            @Override
+            public AggregateTarget bypassDocumentValidation(@Nullable Boolean bypassDocumentValidation) {
+                publisher.bypassDocumentValidation(bypassDocumentValidation);
+                return this;
+            }
+
+            @Override
+            public AggregateTarget collation(@Nullable Collation collation) {
+                publisher.collation(collation);
+                return this;
+            }
+
+            @Override
+            public AggregateTarget hint(@Nullable Bson hint) {
+                publisher.hint(hint);
+                return this;
+            }
+
+            @Override
+            public AggregateTarget maxTime(long maxTime, TimeUnit unit) {
+                publisher.maxTime(maxTime, unit);
+                return this;
+            }
+        };
+    }
+}
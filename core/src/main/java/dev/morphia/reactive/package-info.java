@@ -0,0 +1,7 @@
+/**
+ * Support for using Morphia with the Reactive Streams driver
+ */
+@NonNullApi
+package dev.morphia.reactive;
+
+import com.mongodb.lang.NonNullApi;
@@ -0,0 +1,502 @@
+package dev.morphia.schema;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.CappedAt;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.ShardKey;
+import dev.morphia.annotations.ShardKeyType;
+import dev.morphia.annotations.ShardKeys;
+import dev.morphia.annotations.ShardOptions;
+import dev.morphia.annotations.Validation;
+import dev.morphia.annotations.internal.IndexHelper;
+import dev.morphia.annotations.internal.IndexPlanner;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonParseException;
+import org.bson.json.JsonWriterSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.lang.String.format;
+import static java.util.Arrays.stream;
+
+/**
+ * Describes the server side schema of a set of mapped entities: the capped collections, document validators, indexes and shard keys
+ * defined on them. A plan is computed from a {@link Mapper} alone without contacting the server and can be written out as JSON and read
+ * back later. This allows deploy tooling to apply the schema once rather than having every application instance issue the same
+ * commands on startup.
+ * <p>
+ * Each collection's commands are applied in the order caps, validators, indexes and then sharding. When more than one collection is
+ * involved, the collections are processed concurrently on a bounded pool of threads.
+ *
+ * <pre>
+ * String json = SchemaPlan.of(datastore.getMapper()).toJson();
+ * // ... later, from deploy tooling
+ * SchemaPlan.parse(json).apply(client);
+ * </pre>
+ *
+ * @since 3.0
+ */
+public final class SchemaPlan {
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaPlan.class);
+    /**
+     * The most collections processed at once. The commands run on the server so this bounds the load put on it rather than on the client.
+     */
+    private static final int MAX_THREADS = 8;
+    private static final int NAMESPACE_NOT_FOUND = 26;
+    private static final int NAMESPACE_EXISTS = 48;
+
+    private final String database;
+    private final List<CollectionPlan> collections;
+
+    private SchemaPlan(String database, List<CollectionPlan> collections) {
+        this.database = database;
+        this.collections = collections;
+    }
+
+    /**
+     * Computes the plan for the entities known to a mapper. No commands are sent to the server.
+     *
+     * @param mapper the mapper to use
+     * @return the plan
+     */
+    public static SchemaPlan of(Mapper mapper) {
+        return of(mapper, true);
+    }
+
+    /**
+     * Computes the plan for the entities known to a mapper leaving out the indexes, which the datastore applies through
+     * {@link IndexPlanner}. No commands are sent to the server.
+     *
+     * @param mapper the mapper to use
+     * @return the plan
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public static SchemaPlan withoutIndexes(Mapper mapper) {
+        return of(mapper, false);
+    }
+
+    private static SchemaPlan of(Mapper mapper, boolean withIndexes) {
+        String database = mapper.getConfig().database();
+        IndexHelper indexHelper = new IndexHelper(mapper);
+        Map<String, CollectionPlan> plans = new LinkedHashMap<>();
+        for (EntityModel model : mapper.getMappedEntities()) {
+            CollectionPlan plan = plans.computeIfAbsent(model.collectionName(), CollectionPlan::new);
+            plan.cap(model);
+            plan.validation(model);
+            if (withIndexes && model.getIdProperty() != null) {
+                plan.indexes(indexHelper.indexModels(model));
+            }
+            plan.shard(database, model);
+        }
+        plans.values().removeIf(CollectionPlan::isEmpty);
+        return new SchemaPlan(database, new ArrayList<>(plans.values()));
+    }
+
+    /**
+     * Reads a plan previously written by {@link #toJson()}.
+     *
+     * @param json the JSON form of the plan
+     * @return the plan
+     */
+    public static SchemaPlan parse(String json) {
+        try {
+            Document document = Document.parse(json);
+            List<CollectionPlan> collections = new ArrayList<>();
+            for (Document collection : document.getList("collections", Document.class)) {
+                collections.add(new CollectionPlan(collection));
+            }
+            return new SchemaPlan(document.getString("database"), collections);
+        } catch (JsonParseException | ClassCastException | NullPointerException e) {
+            throw new MappingException(Sofia.schemaPlanInvalid(e.getMessage()), e);
+        }
+    }
+
+    /**
+     * @return the name of the database the plan applies to
+     */
+    public String database() {
+        return database;
+    }
+
+    /**
+     * @return the plans for each collection with any schema defined
+     */
+    public List<CollectionPlan> collections() {
+        return collections;
+    }
+
+    /**
+     * Applies the plan to the database it was computed for.
+     *
+     * @param client the client to use
+     */
+    public void apply(MongoClient client) {
+        long start = System.nanoTime();
+        MongoDatabase target = client.getDatabase(database);
+        MongoDatabase admin = client.getDatabase("admin");
+        if (collections.stream().anyMatch(plan -> plan.shardCollection() != null)) {
+            admin.runCommand(new Document("enableSharding", database));
+        }
+        if (collections.size() < 2) {
+            collections.forEach(plan -> plan.apply(target, admin::runCommand));
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(collections.size(), MAX_THREADS), runnable -> {
+                Thread thread = new Thread(runnable, "morphia-schema");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                CompletableFuture.allOf(collections.stream()
+                        .map(plan -> CompletableFuture.runAsync(() -> plan.apply(target, admin::runCommand), executor))
+                        .toArray(CompletableFuture[]::new))
+                        .join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        Sofia.logSchemaApplied(collections.size(), database, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * @return this plan as a document
+     */
+    public Document toDocument() {
+        List<Document> list = new ArrayList<>();
+        for (CollectionPlan collection : collections) {
+            list.add(collection.toDocument());
+        }
+        return new Document("database", database)
+                .append("collections", list);
+    }
+
+    /**
+     * Writes this plan as extended JSON so that it can be read back with {@link #parse(String)} without losing any type information.
+     *
+     * @return the JSON form of this plan
+     */
+    public String toJson() {
+        return toDocument().toJson(JsonWriterSettings.builder()
+                .outputMode(JsonMode.EXTENDED)
+                .indent(true)
+                .build());
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaPlan{database='%s', collections=%s}".formatted(database, collections);
+    }
+
+    /**
+     * Describes the commands needed for one collection. Each command is only present if the mapped entities define it.
+     */
+    public static final class CollectionPlan {
+        private final String name;
+        @Nullable
+        private Document create;
+        @Nullable
+        private Document collMod;
+        private final Map<String, Document> indexes = new LinkedHashMap<>();
+        @Nullable
+        private Document shardCollection;
+
+        private CollectionPlan(String name) {
+            this.name = name;
+        }
+
+        private CollectionPlan(Document document) {
+            name = document.getString("name");
+            create = document.get("create", Document.class);
+            collMod = document.get("collMod", Document.class);
+            Document createIndexes = document.get("createIndexes", Document.class);
+            if (createIndexes != null) {
+                for (Document index : createIndexes.getList("indexes", Document.class)) {
+                    indexes.put(index.getString("name"), index);
+                }
+            }
+            shardCollection = document.get("shardCollection", Document.class);
+        }
+
+        /**
+         * @return the collection name
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * @return the {@code create} command for a capped collection
+         */
+        @Nullable
+        public Document create() {
+            return create;
+        }
+
+        /**
+         * @return the {@code collMod} command setting the document validator
+         */
+        @Nullable
+        public Document collMod() {
+            return collMod;
+        }
+
+        /**
+         * @return the {@code createIndexes} command for every index defined
+         */
+        @Nullable
+        public Document createIndexes() {
+            return indexes.isEmpty()
+                    ? null
+                    : new Document("createIndexes", name)
+                            .append("indexes", new ArrayList<>(indexes.values()));
+        }
+
+        /**
+         * @return the {@code shardCollection} command
+         */
+        @Nullable
+        public Document shardCollection() {
+            return shardCollection;
+        }
+
+        @Override
+        public String toString() {
+            return toDocument().toJson();
+        }
+
+        private boolean isEmpty() {
+            return create == null && collMod == null && indexes.isEmpty() && shardCollection == null;
+        }
+
+        private Document toDocument() {
+            Document document = new Document("name", name);
+            append(document, "create", create);
+            append(document, "collMod", collMod);
+            append(document, "createIndexes", createIndexes());
+            append(document, "shardCollection", shardCollection);
+            return document;
+        }
+
+        private static void append(Document document, String key, @Nullable Document value) {
+            if (value != null) {
+                document.append(key, value);
+            }
+        }
+
+        private void cap(EntityModel model) {
+            Entity entityAnnotation = model.getEntityAnnotation();
+            if (create == null && entityAnnotation != null) {
+                CappedAt cap = entityAnnotation.cap();
+                if (cap.value() > 0 || cap.count() > 0) {
+                    Document command = new Document("create", name)
+                            .append("capped", true);
+                    if (cap.value() > 0) {
+                        command.append("size", cap.value());
+                    }
+                    if (cap.count() > 0) {
+                        command.append("max", cap.count());
+                    }
+                    create = command;
+                }
+            }
+        }
+
+        private void validation(EntityModel model) {
+            Validation validation = model.getAnnotation(Validation.class);
+            if (collMod == null && validation != null) {
+                collMod = new Document("collMod", name)
+                        .append("validator", Document.parse(validation.value()))
+                        .append("validationLevel", validation.level().getValue())
+                        .append("validationAction", validation.action().getValue());
+            }
+        }
+
+        private void indexes(List<IndexModel> models) {
+            for (IndexModel model : models) {
+                Document keys = (Document) model.getKeys();
+                IndexOptions options = model.getOptions();
+                String indexName = options.getName() != null ? options.getName() : IndexPlanner.indexName(keys);
+                indexes.putIfAbsent(indexName, index(keys, indexName, options));
+            }
+        }
+
+        private static Document index(Document keys, String indexName, IndexOptions options) {
+            Document index = new Document("key", keys)
+                    .append("name", indexName);
+            if (options.isBackground()) {
+                index.append("background", true);
+            }
+            if (options.isUnique()) {
+                index.append("unique", true);
+            }
+            if (options.isSparse()) {
+                index.append("sparse", true);
+            }
+            Long expireAfter = options.getExpireAfter(TimeUnit.SECONDS);
+            if (expireAfter != null) {
+                index.append("expireAfterSeconds", expireAfter);
+            }
+            if (options.getWeights() != null) {
+                index.append("weights", options.getWeights().toBsonDocument());
+            }
+            if (options.getDefaultLanguage() != null) {
+                index.append("default_language", options.getDefaultLanguage());
+            }
+            if (options.getLanguageOverride() != null) {
+                index.append("language_override", options.getLanguageOverride());
+            }
+            if (options.getPartialFilterExpression() != null) {
+                index.append("partialFilterExpression", options.getPartialFilterExpression().toBsonDocument());
+            }
+            if (options.getCollation() != null) {
+                index.append("collation", options.getCollation().asDocument());
+            }
+            return index;
+        }
+
+        private void shard(String database, EntityModel model) {
+            ShardKeys shardKeys = model.getAnnotation(ShardKeys.class);
+            if (shardCollection == null && shardKeys != null) {
+                ShardOptions options = shardKeys.options();
+                Document command = new Document("shardCollection", format("%s.%s", database, name))
+                        .append("unique", options.unique())
+                        .append("presplitHashedZones", options.presplitHashedZones());
+                if (options.numInitialChunks() != -1 && stream(shardKeys.value()).anyMatch(k -> k.type() == ShardKeyType.HASHED)) {
+                    command.append("numInitialChunks", options.numInitialChunks());
+                }
+                Document key = new Document();
+                for (ShardKey shardKey : shardKeys.value()) {
+                    key.append(shardKey.value(), shardKey.type() == ShardKeyType.HASHED ? "hashed" : 1);
+                }
+                shardCollection = command.append("key", key);
+            }
+        }
+
+        private void apply(MongoDatabase database, Function<Document, Document> admin) {
+            applyCap(database);
+            applyValidation(database);
+            Document createIndexes = createIndexes();
+            if (createIndexes != null) {
+                database.runCommand(createIndexes);
+            }
+            applySharding(database, admin);
+        }
+
+        /**
+         * Creates the capped collection if one is planned. An existing collection is left as it is.
+         *
+         * @param database the database to use
+         * @hidden
+         * @morphia.internal
+         */
+        @MorphiaInternal
+        public void applyCap(MongoDatabase database) {
+            if (create == null) {
+                return;
+            }
+            try {
+                database.runCommand(create);
+                LOG.debug("Created capped MongoCollection (" + name + ") with " + create);
+            } catch (MongoCommandException e) {
+                if (e.getCode() != NAMESPACE_EXISTS) {
+                    throw e;
+                }
+                Document collstats = database.runCommand(new Document("collstats", name));
+                if (collstats.getBoolean("capped", false)) {
+                    LOG.debug("MongoCollection already exists and is capped already; doing nothing. " + collstats);
+                } else {
+                    LOG.warn("MongoCollection already exists with same name(" + name
+                            + ") and is not capped; not creating capped version!");
+                }
+            }
+        }
+
+        /**
+         * Sets the document validator if one is planned, creating the collection if it does not exist yet.
+         *
+         * @param database the database to use
+         * @hidden
+         * @morphia.internal
+         */
+        @MorphiaInternal
+        public void applyValidation(MongoDatabase database) {
+            if (collMod == null) {
+                return;
+            }
+            try {
+                database.runCommand(collMod);
+            } catch (MongoCommandException e) {
+                if (e.getCode() != NAMESPACE_NOT_FOUND) {
+                    throw e;
+                }
+                Document command = new Document("create", name);
+                collMod.forEach((key, value) -> {
+                    if (!key.equals("collMod")) {
+                        command.append(key, value);
+                    }
+                });
+                database.runCommand(command);
+            }
+        }
+
+        /**
+         * Shards the collection if sharding is planned and it is not sharded already. Sharding must already be enabled on the database.
+         *
+         * @param database the database holding the collection
+         * @param admin    runs a command against the admin database
+         * @hidden
+         * @morphia.internal
+         */
+        @MorphiaInternal
+        public void applySharding(MongoDatabase database, Function<Document, Document> admin) {
+            if (shardCollection == null) {
+                return;
+            }
+            Document collstats = database.runCommand(new Document("collstats", name));
+            if (collstats.getBoolean("sharded", false)) {
+                LOG.debug("MongoCollection already exists and is sharded already; doing nothing. " + collstats);
+                return;
+            }
+            Document command = new Document(shardCollection);
+            // the collection's default collation is only known at this point and sharding requires the simple collation if one is set
+            if (collstats.get("collation") != null) {
+                Object key = command.remove("key");
+                command.append("collation", new Document("locale", "simple"))
+                        .append("key", key);
+            }
+            if (!admin.apply(command).containsKey("collectionsharded")) {
+                throw new MappingException(Sofia.cannotShardCollection(database.getName(), name));
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Defines the offline schema plan used to apply indexes, validators, caps and sharding from deploy tooling.
+ */
+@NonNullApi
+package dev.morphia.schema;
+
+import com.mongodb.lang.NonNullApi;
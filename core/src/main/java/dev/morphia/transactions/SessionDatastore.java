@@ -9,6 +9,7 @@ import com.mongodb.client.ClientSession;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.TransactionBody;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.InsertManyResult;
 import com.mongodb.client.result.InsertOneResult;
@@ -17,6 +18,7 @@ import com.mongodb.lang.NonNull;
 import com.mongodb.lang.Nullable;
 import com.mongodb.session.ServerSession;
 
+import dev.morphia.BulkWriteOptions;
 import dev.morphia.DeleteOptions;
 import dev.morphia.InsertManyOptions;
 import dev.morphia.InsertOneOptions;
@@ -33,6 +35,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 /**
  * @hidden
@@ -189,35 +192,66 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
 
     private class TransactionalOperations extends DatastoreOperations {
         @Override
-        public <T> long countDocuments(MongoCollection<T> collection, Document query, CountOptions options) {
+        public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
             return collection.countDocuments(session, query, options);
         }
 
         @Override
-        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> long countDocuments(MongoCollection<T> collection, Document query, CountOptions options) {
+            return countDocuments(collection, (Bson) query, options);
+        }
+
+        @Override
+        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteMany(session, queryDocument, options);
         }
 
         @Override
-        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+            return deleteMany(collection, (Bson) queryDocument, options);
+        }
+
+        @Override
+        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteOne(session, queryDocument, options);
         }
 
+        @Override
+        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+            return deleteOne(collection, (Bson) queryDocument, options);
+        }
+
         @Override
         public <E> FindIterable<E> find(MongoCollection<E> collection, Document query) {
             return collection.find(session, query);
         }
 
         @Override
-        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Document queryDocument, FindAndDeleteOptions options) {
+        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Bson queryDocument, FindAndDeleteOptions options) {
             return mongoCollection.findOneAndDelete(session, queryDocument, options);
         }
 
         @Override
-        public <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options) {
+        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Document queryDocument, FindAndDeleteOptions options) {
+            return findOneAndDelete(mongoCollection, (Bson) queryDocument, options);
+        }
+
+        @Override
+        public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Document update, ModifyOptions options) {
             return collection.findOneAndUpdate(session, query, update, options);
         }
 
+        @Override
+        public <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options) {
+            return findOneAndUpdate(collection, (Bson) query, update, options);
+        }
+
+        @Override
+        public <T> com.mongodb.bulk.BulkWriteResult bulkWrite(MongoCollection<T> collection,
+                List<? extends WriteModel<? extends T>> requests, BulkWriteOptions options) {
+            return collection.bulkWrite(session, requests, options.driver());
+        }
+
         @Override
         public <T> InsertManyResult insertMany(MongoCollection<T> collection, List<T> list, InsertManyOptions options) {
             return collection.insertMany(session, list, options.driver());
@@ -241,28 +275,48 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Document updates,
                 UpdateOptions options) {
             return collection.updateMany(session, query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates, UpdateOptions options) {
+            return updateMany(collection, (Bson) query, updates, options);
+        }
+
+        @Override
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<Document> updates,
                 UpdateOptions options) {
             return collection.updateMany(session, query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates, UpdateOptions options) {
+            return updateMany(collection, (Bson) query, updates, options);
+        }
+
+        @Override
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Document updates,
                 UpdateOptions options) {
             return collection.updateOne(session, query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates, UpdateOptions options) {
+            return updateOne(collection, (Bson) query, updates, options);
+        }
+
+        @Override
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<Document> updates,
                 UpdateOptions options) {
             return collection.updateOne(session, query, updates, options);
         }
+
+        @Override
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates, UpdateOptions options) {
+            return updateOne(collection, (Bson) query, updates, options);
+        }
     }
 
     @Override
@@ -33,6 +33,10 @@ class MongoHolder implements AutoCloseable {
         return mongoDBContainer != null && mongoDBContainer.isRunning();
     }
 
+    public String getConnectionString() {
+        return connectionString;
+    }
+
     public MongoClient getMongoClient() {
         if (mongoClient == null) {
             mongoClient = MongoClients.create(builder()
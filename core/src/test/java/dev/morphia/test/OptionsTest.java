@@ -12,6 +12,7 @@ import com.mongodb.client.FindIterable;
 import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
 
+import dev.morphia.BulkWriteOptions;
 import dev.morphia.DeleteOptions;
 import dev.morphia.InsertManyOptions;
 import dev.morphia.InsertOneOptions;
@@ -40,6 +41,11 @@ public class OptionsTest {
                 "getMaxTime"));
     }
 
+    @Test
+    public void bulkWriteOptions() {
+        scan(com.mongodb.client.model.BulkWriteOptions.class, BulkWriteOptions.class, List.of(WriteConcern.class));
+    }
+
     @Test
     public void countOptions() {
         scan(com.mongodb.client.model.CountOptions.class, CountOptions.class, List.of(ReadConcern.class, ReadPreference.class));
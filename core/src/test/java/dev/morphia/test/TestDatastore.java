@@ -33,6 +33,8 @@ import dev.morphia.annotations.PostPersist;
 import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.Transient;
+import dev.morphia.bulk.BulkWriteResult;
+import dev.morphia.bulk.WriteRequests;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
@@ -73,6 +75,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
@@ -86,6 +89,28 @@ public class TestDatastore extends TestBase {
                         FacebookUser.class.getPackageName())));
     }
 
+    @Test
+    public void testCollectionCaching() {
+        MorphiaDatastore datastore = getDs();
+        MongoCollection<User> collection = datastore.getCollection(User.class);
+        assertSame(datastore.getCollection(User.class), collection);
+
+        assertSame(datastore.configureCollection(new InsertOneOptions(), collection), collection);
+        assertSame(datastore.configureCollection(new UpdateOptions(), collection), collection);
+        assertSame(datastore.configureCollection(new InsertOneOptions()
+                .writeConcern(collection.getWriteConcern()), collection), collection);
+        MongoCollection<User> majority = datastore.configureCollection(new InsertOneOptions()
+                .writeConcern(WriteConcern.MAJORITY), collection);
+        assertEquals(majority.getWriteConcern(), WriteConcern.MAJORITY);
+        assertSame(datastore.configureCollection(new InsertOneOptions()
+                .writeConcern(WriteConcern.MAJORITY), collection), majority);
+
+        MongoCollection<User> alternate = datastore.configureCollection(new InsertOneOptions()
+                .collection("alternate"), collection);
+        assertEquals(alternate.getNamespace().getCollectionName(), "alternate");
+        assertNotSame(alternate, majority);
+    }
+
     @Test
     public void testDatastoreClones() {
         withConfig(buildConfig(MultipleDSEntity.class), () -> {
@@ -188,6 +213,34 @@ public class TestDatastore extends TestBase {
         assertEquals(population.countDocuments(), 3);
     }
 
+    @Test
+    public void testBulkWrite() {
+        User jane = new User("Jane", LocalDate.now());
+        User john = new User("John", LocalDate.now());
+        getDs().save(of(jane, john));
+
+        TestEntity entity = new TestEntity();
+        jane.age = 21;
+        BulkWriteResult result = getDs().bulkWrite(of(
+                WriteRequests.insert(entity),
+                WriteRequests.insert(new Population()),
+                WriteRequests.replace(jane),
+                WriteRequests.update(getDs().find(User.class).filter(eq("name", "John")), set("age", 30)),
+                WriteRequests.delete(getDs().find(User.class).filter(eq("name", "Bob")))));
+
+        assertNotNull(entity.getId());
+        assertEquals(result.results().size(), 3);
+        assertEquals(result.getInsertedCount(), 2);
+        assertEquals(result.getMatchedCount(), 2);
+        assertEquals(result.getDeletedCount(), 0);
+        assertEquals(getDs().find(User.class).filter(eq("name", "Jane")).first().age, 21);
+        assertEquals(getDs().find(User.class).filter(eq("name", "John")).first().age, 30);
+        assertEquals(getDs().find(Population.class).count(), 1);
+
+        getDs().bulkWrite(of(WriteRequests.delete(jane), WriteRequests.delete(getDs().find(User.class).filter(eq("name", "John")))));
+        assertEquals(getDs().find(User.class).count(), 0);
+    }
+
     @Test
     public void testCappedEntity() {
         assertCapped(CurrentStatus.class, 1);
@@ -1,15 +1,22 @@
 package dev.morphia.test;
 
+import java.util.List;
+
 import dev.morphia.Datastore;
 import dev.morphia.InsertOneOptions;
+import dev.morphia.MergeResult;
 import dev.morphia.MorphiaDatastore;
 import dev.morphia.UpdateOptions;
+import dev.morphia.VersionMismatchException;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.annotations.LoadOnly;
+import dev.morphia.annotations.Reference;
 import dev.morphia.annotations.Version;
+import dev.morphia.query.FindOptions;
 import dev.morphia.query.filters.Filters;
 
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -17,6 +24,7 @@ import org.testng.annotations.Test;
 import static dev.morphia.query.filters.Filters.eq;
 import static dev.morphia.query.updates.UpdateOperators.set;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 public class TestDatastoreMerge extends TestBase {
 
@@ -110,6 +118,146 @@ public class TestDatastoreMerge extends TestBase {
         assertNotNull(updatedEntity2.loadOnlyValue); // FAILS
     }
 
+    @Test
+    public void testMergeResult() {
+        Test1 test1 = new Test1();
+        test1.name = "foobar";
+        getDs().save(test1);
+
+        test1.name = "find and update";
+        Test1 merged = getDs().merge(test1, new InsertOneOptions().mergeResult(MergeResult.FIND_AND_UPDATE));
+        Assert.assertNotSame(merged, test1);
+        Assert.assertEquals(merged.name, "find and update");
+        Assert.assertEquals(merged.version, 2);
+
+        test1.name = "entity";
+        merged = getDs().merge(test1, new InsertOneOptions().mergeResult(MergeResult.ENTITY));
+        Assert.assertSame(merged, test1);
+        Assert.assertEquals(test1.version, 3);
+        Assert.assertEquals(getDs().find(Test1.class).filter(eq("_id", test1.id)).first().name, "entity");
+
+        Test1 stale = new Test1();
+        stale.id = test1.id;
+        stale.name = "stale";
+        stale.version = 1;
+        Assert.assertThrows(VersionMismatchException.class,
+                () -> getDs().merge(stale, new InsertOneOptions().mergeResult(MergeResult.FIND_AND_UPDATE)));
+        Assert.assertEquals(stale.version, 1);
+    }
+
+    @Test
+    public void testTrackedChanges() {
+        withConfig(buildConfig().trackChanges(true), () -> {
+            MorphiaDatastore ds = getDs();
+            Tracked tracked = new Tracked();
+            tracked.name = "tracked";
+            tracked.count = 1;
+            tracked.address = new Address();
+            tracked.address.street = "Main";
+            tracked.address.city = "Springfield";
+            ds.save(tracked);
+
+            Tracked loaded = ds.find(Tracked.class).filter(eq("_id", tracked.id)).first();
+            assertTrue(ds.getChangeTracker().isTracked(loaded));
+
+            // fields which are not changed locally should not be overwritten
+            ds.find(Tracked.class).filter(eq("_id", tracked.id))
+                    .update(new UpdateOptions(), set("count", 42), set("address.city", "Shelbyville"));
+
+            loaded.name = "renamed";
+            loaded.address.street = "Elm";
+            ds.save(loaded);
+
+            Document document = ds.getCollection(Tracked.class).withDocumentClass(Document.class)
+                    .find(new Document("_id", tracked.id)).first();
+            assertNotNull(document);
+            Assert.assertEquals(document.getString("name"), "renamed");
+            Assert.assertEquals(document.getInteger("count"), 42);
+            Document address = document.get("address", Document.class);
+            Assert.assertEquals(address.getString("street"), "Elm");
+            Assert.assertEquals(address.getString("city"), "Shelbyville");
+
+            loaded.name = null;
+            ds.save(loaded);
+            document = ds.getCollection(Tracked.class).withDocumentClass(Document.class)
+                    .find(new Document("_id", tracked.id)).first();
+            assertNotNull(document);
+            Assert.assertFalse(document.containsKey("name"));
+            Assert.assertEquals(document.getInteger("count"), 42);
+
+            Test1 versioned = new Test1();
+            versioned.name = "versioned";
+            ds.save(versioned);
+            Test1 loadedVersioned = ds.find(Test1.class).filter(eq("_id", versioned.id)).first();
+            loadedVersioned.name = "merged";
+            Test1 merged = ds.merge(loadedVersioned);
+            Assert.assertEquals(merged.name, "merged");
+            Assert.assertEquals(merged.version, versioned.version + 1);
+
+            versioned.name = "stale";
+            Assert.assertThrows(VersionMismatchException.class, () -> ds.save(versioned));
+        });
+    }
+
+    @Test
+    public void testTrackedReferences() {
+        withConfig(buildConfig().trackChanges(true), () -> {
+            MorphiaDatastore ds = getDs();
+            Merger first = new Merger();
+            first.name = "first";
+            Merger second = new Merger();
+            second.name = "second";
+            ds.save(List.of(first, second));
+
+            Owner owner = new Owner();
+            owner.name = "owner";
+            owner.merger = first;
+            ds.save(owner);
+
+            Owner loaded = ds.find(Owner.class).filter(eq("_id", owner.id))
+                    .iterator(new FindOptions().batchReferences(true)).next();
+            assertTrue(ds.getChangeTracker().isTracked(loaded));
+            Assert.assertEquals(loaded.merger.name, "first");
+
+            // an unchanged reference must not look changed and overwrite this
+            ds.getCollection(Owner.class)
+                    .updateOne(new Document("_id", owner.id), new Document("$set", new Document("merger", second.id)));
+
+            loaded.name = "renamed";
+            ds.save(loaded);
+
+            Document document = ds.getCollection(Owner.class).withDocumentClass(Document.class)
+                    .find(new Document("_id", owner.id)).first();
+            assertNotNull(document);
+            Assert.assertEquals(document.getString("name"), "renamed");
+            Assert.assertEquals(document.get("merger"), second.id);
+        });
+    }
+
+    @Entity
+    private static class Tracked {
+        @Id
+        private ObjectId id;
+        private String name;
+        private Integer count;
+        private Address address;
+    }
+
+    @Entity
+    private static class Owner {
+        @Id
+        private ObjectId id;
+        private String name;
+        @Reference
+        private Merger merger;
+    }
+
+    @Entity
+    private static class Address {
+        private String street;
+        private String city;
+    }
+
     @Entity
     private static class LoadOnlyEntity {
         @Id
@@ -1,12 +1,23 @@
 package dev.morphia.test;
 
 import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.mapping.DiscriminatorLookup;
+import dev.morphia.mapping.DiscriminatorMetrics;
 import dev.morphia.test.models.TestEntity;
 
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.types.ObjectId;
 import org.testng.annotations.Test;
 
+import static dev.morphia.query.filters.Filters.eq;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
 
 public class TestDiscriminatorLookup extends TestBase {
 
@@ -24,6 +35,104 @@ public class TestDiscriminatorLookup extends TestBase {
         assertTrue(Shape.Square.class.isInstance(entity.getShape()));
     }
 
+    @Test
+    public void testCaching() {
+        DiscriminatorLookup lookup = new DiscriminatorLookup();
+        lookup.addModel(getMapper().getEntityModel(SomeEntity.class));
+
+        assertEquals(lookup.lookup("SomeEntity"), SomeEntity.class);
+        assertEquals(lookup.lookup(SomeEntity.class.getName()), SomeEntity.class);
+        assertEquals(lookup.lookup("someEntity"), SomeEntity.class);
+        assertEquals(lookup.lookup(TestEntity.class.getName()), TestEntity.class);
+        assertEquals(lookup.lookup(TestEntity.class.getName()), TestEntity.class);
+        assertThrows(CodecConfigurationException.class, () -> lookup.lookup("dev.morphia.test.Unknown"));
+        assertThrows(CodecConfigurationException.class, () -> lookup.lookup("dev.morphia.test.Unknown"));
+
+        DiscriminatorMetrics metrics = lookup.metrics();
+        assertEquals(metrics.hits(), 4);
+        assertEquals(metrics.loads(), 1);
+        assertEquals(metrics.failures(), 1);
+        assertEquals(metrics.cachedFailures(), 1);
+    }
+
+    @Test
+    public void testLateDiscriminator() {
+        getMapper().map(Animal.class, Dog.class);
+        ObjectId id = new ObjectId();
+        getDatabase().getCollection("animals").insertOne(new Document("_id", id)
+                .append("name", "Rex")
+                .append("barks", 3)
+                .append("_t", "Dog"));
+
+        Animal animal = getDs().find(Animal.class)
+                .filter(eq("_id", id))
+                .first();
+        assertTrue(animal instanceof Dog);
+        assertEquals(animal.name, "Rex");
+        assertEquals(((Dog) animal).barks, 3);
+
+        Dog dog = getDs().find(Dog.class)
+                .filter(eq("_id", id))
+                .first();
+        assertEquals(dog.barks, 3);
+    }
+
+    @Test
+    public void testUnmappedSubtype() {
+        getMapper().map(Vehicle.class);
+        assertFalse(getMapper().isMapped(Truck.class));
+        ObjectId id = new ObjectId();
+        getDatabase().getCollection("vehicles").insertOne(new Document("_id", id)
+                .append("_t", Truck.class.getName())
+                .append("make", "Mack")
+                .append("axles", 3));
+
+        Vehicle vehicle = getDs().find(Vehicle.class)
+                .filter(eq("_id", id))
+                .first();
+        assertTrue(vehicle instanceof Truck, String.valueOf(vehicle));
+        assertEquals(vehicle.make, "Mack");
+        assertEquals(((Truck) vehicle).axles, 3);
+    }
+
+    @Test
+    public void testNonEntityDiscriminator() {
+        getMapper().map(Vehicle.class);
+        ObjectId id = new ObjectId();
+        getDatabase().getCollection("vehicles").insertOne(new Document("_id", id)
+                .append("_t", String.class.getName())
+                .append("make", "Mack"));
+
+        CodecConfigurationException exception = expectThrows(CodecConfigurationException.class, () -> getDs().find(Vehicle.class)
+                .filter(eq("_id", id))
+                .first());
+        assertTrue(exception.getMessage().startsWith("Non-entity class used as discriminator"), exception.getMessage());
+    }
+
+    @Entity("animals")
+    public static class Animal {
+        @Id
+        private ObjectId id;
+        private String name;
+    }
+
+    @Entity("animals")
+    public static class Dog extends Animal {
+        private int barks;
+    }
+
+    @Entity("vehicles")
+    public static class Vehicle {
+        @Id
+        private ObjectId id;
+        private String make;
+    }
+
+    @Entity("vehicles")
+    public static class Truck extends Vehicle {
+        private int axles;
+    }
+
     @Entity
     public static class SomeEntity extends TestEntity {
         private Shape shape;
@@ -0,0 +1,109 @@
+package dev.morphia.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Reference;
+import dev.morphia.instrumentation.jfr.JfrInstrumentation;
+import dev.morphia.instrumentation.micrometer.MicrometerInstrumentation;
+
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static dev.morphia.query.filters.Filters.eq;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestInstrumentation extends TestBase {
+    @Test
+    public void testJfr() throws IOException {
+        Path file = Files.createTempFile("morphia", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("dev.morphia.Operation");
+            recording.enable("dev.morphia.Decode");
+            recording.start();
+            withConfig(buildConfig().instrumentation(new JfrInstrumentation()), this::saveAndLoad);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertTrue(events.stream()
+                    .anyMatch(event -> event.getEventType().getName().equals("dev.morphia.Operation")
+                            && event.getString("operation").equals("insertOne")
+                            && event.getString("collection").equals("widgets")));
+            assertTrue(events.stream()
+                    .anyMatch(event -> event.getEventType().getName().equals("dev.morphia.Decode")
+                            && event.getClass("entityType").getName().equals(Widget.class.getName())));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testMicrometer() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        withConfig(buildConfig().instrumentation(new MicrometerInstrumentation(registry)), () -> {
+            saveAndLoad();
+
+            assertTrue(registry.get("morphia.operation")
+                    .tag("operation", "insertOne")
+                    .tag("collection", "widgets")
+                    .timer().count() >= 1);
+            assertTrue(registry.get("morphia.encode")
+                    .tag("type", Widget.class.getName())
+                    .timer().count() >= 1);
+            assertEquals(registry.get("morphia.decode")
+                    .tag("type", Widget.class.getName())
+                    .timer().count(), 1);
+            assertTrue(registry.get("morphia.filter")
+                    .tag("type", Widget.class.getName())
+                    .timer().count() >= 1);
+            assertEquals(registry.get("morphia.references.resolved")
+                    .tag("collection", "parts")
+                    .counter().count(), 1.0);
+        });
+    }
+
+    private void saveAndLoad() {
+        getMapper().map(Widget.class, Part.class);
+        Part part = new Part();
+        part.name = "bolt";
+        getDs().save(part);
+        Widget widget = new Widget();
+        widget.name = "gear";
+        widget.part = part;
+        getDs().save(widget);
+
+        Widget loaded = getDs().find(Widget.class)
+                .filter(eq("name", "gear"))
+                .first();
+        assertNotNull(loaded);
+        assertEquals(loaded.part.name, "bolt");
+    }
+
+    @Entity("widgets")
+    public static class Widget {
+        @Id
+        private ObjectId id;
+        private String name;
+        @Reference
+        private Part part;
+    }
+
+    @Entity("parts")
+    public static class Part {
+        @Id
+        private ObjectId id;
+        private String name;
+    }
+}
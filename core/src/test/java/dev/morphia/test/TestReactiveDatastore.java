@@ -0,0 +1,235 @@
+package dev.morphia.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+
+import dev.morphia.ModifyOptions;
+import dev.morphia.Morphia;
+import dev.morphia.VersionMismatchException;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Reference;
+import dev.morphia.annotations.Version;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.reactive.ReactiveDatastore;
+
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.bson.types.ObjectId;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import static com.mongodb.MongoClientSettings.builder;
+import static com.mongodb.client.model.ReturnDocument.AFTER;
+import static dev.morphia.aggregation.expressions.AccumulatorExpressions.sum;
+import static dev.morphia.aggregation.stages.Group.group;
+import static dev.morphia.aggregation.stages.Group.id;
+import static dev.morphia.query.filters.Filters.eq;
+import static dev.morphia.query.filters.Filters.gt;
+import static dev.morphia.query.updates.UpdateOperators.inc;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.fail;
+
+public class TestReactiveDatastore extends TestBase {
+    private MongoClient reactiveClient;
+
+    @AfterClass
+    public void closeReactiveClient() {
+        if (reactiveClient != null) {
+            reactiveClient.close();
+        }
+    }
+
+    @Test
+    public void testAggregate() {
+        ReactiveDatastore ds = getReactiveDs();
+        await(ds.insert(List.of(new Counter("a", 1), new Counter("a", 2), new Counter("b", 3))));
+
+        List<Document> totals = await(ds.aggregate(Counter.class)
+                .pipeline(group(id("$name"))
+                        .field("total", sum("$count")))
+                .execute(Document.class));
+
+        assertEquals(totals.size(), 2);
+        for (Document total : totals) {
+            assertEquals(total.getInteger("total"), 3, total.toJson());
+        }
+    }
+
+    @Test
+    public void testQueries() {
+        ReactiveDatastore ds = getReactiveDs();
+        await(ds.insert(List.of(new Counter("a", 1), new Counter("b", 2), new Counter("c", 3))));
+
+        assertEquals(await(ds.find(Counter.class).count()), List.of(3L));
+        assertEquals(await(ds.find(Counter.class).filter(gt("count", 1)).execute()).size(), 2);
+
+        await(ds.find(Counter.class).filter(eq("name", "a")).update(inc("count", 10)));
+        Counter first = await(ds.find(Counter.class).filter(eq("name", "a")).first()).get(0);
+        assertEquals(first.count, 11);
+
+        Counter modified = await(ds.find(Counter.class).filter(eq("name", "b"))
+                .modify(new ModifyOptions().returnDocument(AFTER), inc("count")))
+                .get(0);
+        assertEquals(modified.count, 3);
+
+        DeleteResult deleted = await(ds.find(Counter.class).filter(eq("name", "c")).delete()).get(0);
+        assertEquals(deleted.getDeletedCount(), 1);
+        assertEquals(await(ds.find(Counter.class).count()), List.of(2L));
+
+        assertEquals(getDs().find(Counter.class).count(), 2);
+    }
+
+    @Test
+    public void testReferences() {
+        Counter counter = new Counter("a", 1);
+        getDs().save(counter);
+        getDs().save(new Tally(counter));
+        ReactiveDatastore ds = getReactiveDs();
+
+        assertThrows(MappingException.class, () -> ds.find(Tally.class));
+        assertThrows(MappingException.class, () -> ds.find(Ledger.class));
+        assertThrows(MappingException.class, () -> ds.aggregate(Counter.class).execute(Tally.class));
+
+        List<Document> tallies = await(ds.aggregate(Tally.class).execute(Document.class));
+        assertEquals(tallies.size(), 1);
+        assertEquals(tallies.get(0).get("counter"), counter.id);
+    }
+
+    @Test
+    public void testSave() {
+        ReactiveDatastore ds = getReactiveDs();
+        Counter counter = new Counter("a", 1);
+        Publisher<Counter> save = ds.save(counter);
+        assertNull(counter.id, "Nothing should happen until the publisher is subscribed to");
+
+        await(save);
+        assertNotNull(counter.id);
+        assertEquals(counter.version, 1L);
+
+        counter.count = 5;
+        await(ds.save(counter));
+        assertEquals(counter.version, 2L);
+        assertEquals(getDs().find(Counter.class).first().count, 5);
+
+        Counter stale = getDs().find(Counter.class).first();
+        stale.version = 1L;
+        try {
+            await(ds.save(stale));
+            fail("The stale version should have been rejected");
+        } catch (VersionMismatchException e) {
+            assertEquals(stale.version, 1L);
+        }
+
+        await(ds.delete(counter));
+        assertEquals(getDs().find(Counter.class).count(), 0);
+    }
+
+    private ReactiveDatastore getReactiveDs() {
+        if (reactiveClient == null) {
+            reactiveClient = MongoClients.create(builder()
+                    .uuidRepresentation(UuidRepresentation.STANDARD)
+                    .applyConnectionString(new ConnectionString(getMongoHolder().getConnectionString()))
+                    .build());
+        }
+        return Morphia.createReactiveDatastore(reactiveClient, getMorphiaContainer().getMorphiaConfig());
+    }
+
+    private static <T> List<T> await(Publisher<T> publisher) {
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<T>() {
+            private final List<T> values = new ArrayList<>();
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T value) {
+                values.add(value);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(values);
+            }
+        });
+        try {
+            return future.get(30, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException | TimeoutException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Entity
+    private static class Counter {
+        @Id
+        private ObjectId id;
+        private String name;
+        private int count;
+        @Version
+        private Long version;
+
+        Counter() {
+        }
+
+        Counter(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+    }
+
+    @Entity
+    private static class Tally {
+        @Id
+        private ObjectId id;
+        @Reference(idOnly = true)
+        private Counter counter;
+
+        Tally() {
+        }
+
+        Tally(Counter counter) {
+            this.counter = counter;
+        }
+    }
+
+    @Entity
+    private static class Ledger {
+        @Id
+        private ObjectId id;
+        private List<Entry> entries;
+    }
+
+    @Entity
+    private static class Entry {
+        @Reference
+        private Tally tally;
+    }
+}
@@ -0,0 +1,105 @@
+package dev.morphia.test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import dev.morphia.annotations.CappedAt;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Field;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Index;
+import dev.morphia.annotations.IndexOptions;
+import dev.morphia.annotations.Indexes;
+import dev.morphia.annotations.Validation;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.schema.SchemaPlan;
+import dev.morphia.schema.SchemaPlan.CollectionPlan;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestSchemaPlan extends TestBase {
+    @Test
+    public void testPlan() {
+        getMapper().map(Ledger.class, Event.class);
+        SchemaPlan plan = SchemaPlan.of(getMapper());
+
+        assertEquals(plan.database(), getDatabase().getName());
+        assertEquals(plan.collections().size(), 2);
+        CollectionPlan ledger = collection(plan, "ledger");
+        assertNull(ledger.create());
+        assertEquals(ledger.collMod().get("validator"), Document.parse("{ amount: { $gte: 0 } }"));
+        List<Document> indexes = ledger.createIndexes().getList("indexes", Document.class);
+        assertEquals(indexes.stream().map(index -> index.getString("name")).collect(Collectors.toList()),
+                List.of("account_1", "reference"));
+        assertEquals(indexes.get(1).getBoolean("unique"), Boolean.TRUE);
+
+        CollectionPlan events = collection(plan, "events");
+        assertEquals(events.create(), new Document("create", "events")
+                .append("capped", true)
+                .append("size", 4096L)
+                .append("max", 100L));
+        assertNull(events.collMod());
+        assertNull(events.createIndexes());
+        assertNull(events.shardCollection());
+
+        SchemaPlan parsed = SchemaPlan.parse(plan.toJson());
+        assertEquals(parsed.toJson(), plan.toJson());
+    }
+
+    @Test
+    public void testApply() {
+        getMapper().map(Ledger.class, Event.class);
+        SchemaPlan.parse(SchemaPlan.of(getMapper()).toJson())
+                .apply(getMongoClient());
+
+        assertEquals(getIndexInfo(Ledger.class).size(), 3);
+        assertTrue(getOptions(Event.class).getBoolean("capped"));
+        Document validator = getOptions(Ledger.class).get("validator", Document.class);
+        assertNotNull(validator);
+        assertEquals(validator, Document.parse("{ amount: { $gte: 0 } }"));
+
+        // applying again is a no-op
+        SchemaPlan.of(getMapper()).apply(getMongoClient());
+        assertEquals(getIndexInfo(Ledger.class).size(), 3);
+    }
+
+    @Test(expectedExceptions = MappingException.class)
+    public void testInvalidJson() {
+        SchemaPlan.parse("{ collections: 42 }");
+    }
+
+    private static CollectionPlan collection(SchemaPlan plan, String name) {
+        return plan.collections().stream()
+                .filter(collection -> collection.name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Entity("ledger")
+    @Validation("{ amount: { $gte: 0 } }")
+    @Indexes({
+            @Index(fields = @Field("account")),
+            @Index(fields = @Field("reference"), options = @IndexOptions(name = "reference", unique = true))
+    })
+    public static class Ledger {
+        @Id
+        private ObjectId id;
+        private String account;
+        private String reference;
+        private long amount;
+    }
+
+    @Entity(value = "events", cap = @CappedAt(value = 4096, count = 100))
+    public static class Event {
+        @Id
+        private ObjectId id;
+        private String message;
+    }
+}
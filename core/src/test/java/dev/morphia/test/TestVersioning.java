@@ -8,6 +8,7 @@ import com.mongodb.MongoWriteException;
 import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.result.UpdateResult;
 
+import dev.morphia.BulkWriteOptions;
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
 import dev.morphia.ModifyOptions;
@@ -18,6 +19,10 @@ import dev.morphia.annotations.Id;
 import dev.morphia.annotations.IndexOptions;
 import dev.morphia.annotations.Indexed;
 import dev.morphia.annotations.Version;
+import dev.morphia.bulk.BulkWriteException;
+import dev.morphia.bulk.WriteRequest;
+import dev.morphia.bulk.WriteRequests;
+import dev.morphia.instrumentation.Instrumentation;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.PropertyDiscovery;
 import dev.morphia.mapping.codec.pojo.EntityModel;
@@ -37,6 +42,7 @@ import org.bson.types.ObjectId;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import static dev.morphia.bulk.WriteRequests.replace;
 import static dev.morphia.query.filters.Filters.eq;
 import static dev.morphia.query.updates.UpdateOperators.inc;
 import static dev.morphia.query.updates.UpdateOperators.set;
@@ -44,8 +50,10 @@ import static java.util.Arrays.asList;
 import static java.util.List.of;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
 
 public class TestVersioning extends TestBase {
     public TestVersioning() {
@@ -81,6 +89,96 @@ public class TestVersioning extends TestBase {
         assertEquals(entity.getVersion().longValue(), 3);
     }
 
+    @Test
+    public void testBulkWriteVersionMismatch() {
+        Versioned first = new Versioned();
+        first.setName("first");
+        Versioned second = new Versioned();
+        second.setName("second");
+        getDs().save(of(first, second));
+
+        getDs().save(getDs().find(Versioned.class).filter(eq("_id", second.getId())).first());
+
+        first.setName("first updated");
+        second.setName("second updated");
+        BulkWriteException exception = expectThrows(BulkWriteException.class,
+                () -> getDs().bulkWrite(of(replace(first), replace(second)), new BulkWriteOptions().ordered(false)));
+
+        assertEquals(exception.failures().size(), 1);
+        assertSame(exception.failures().get(0).entity(), second);
+        assertEquals(first.getVersion().longValue(), 2);
+        assertEquals(second.getVersion().longValue(), 1);
+        assertEquals(getDs().find(Versioned.class).filter(eq("_id", first.getId())).first().getName(), "first updated");
+        assertEquals(getDs().find(Versioned.class).filter(eq("_id", second.getId())).first().getName(), "second");
+    }
+
+    @Test
+    public void testBulkWriteVersionedReplacementsTogether() {
+        List<String> operations = new ArrayList<>();
+        withConfig(buildConfig(Versioned.class).instrumentation(new Instrumentation() {
+            @Override
+            public void operation(String operation, String collection, long nanos, boolean failed) {
+                operations.add(operation);
+            }
+        }), () -> {
+            List<Versioned> entities = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                Versioned entity = new Versioned();
+                entity.setName("entity " + i);
+                entities.add(entity);
+            }
+            getDs().save(entities);
+            Versioned stale = entities.get(3);
+            getDs().save(getDs().find(Versioned.class).filter(eq("_id", stale.getId())).first());
+
+            List<WriteRequest<?>> requests = new ArrayList<>();
+            for (Versioned entity : entities) {
+                entity.setName(entity.getName() + " updated");
+                requests.add(replace(entity));
+            }
+            operations.clear();
+            BulkWriteException exception = expectThrows(BulkWriteException.class,
+                    () -> getDs().bulkWrite(requests, new BulkWriteOptions().ordered(false)));
+
+            assertEquals(operations, of("bulkWrite"));
+            assertEquals(exception.failures().size(), 1);
+            assertSame(exception.failures().get(0).entity(), stale);
+            assertEquals(exception.result().getMatchedCount(), 9);
+            assertEquals(stale.getVersion().longValue(), 1);
+            assertEquals(getDs().find(Versioned.class).filter(eq("name", "entity 0 updated")).count(), 1);
+        });
+    }
+
+    @Test
+    public void testOrderedBulkWriteVersionMismatch() {
+        Versioned first = new Versioned();
+        first.setName("first");
+        Versioned second = new Versioned();
+        second.setName("second");
+        getDs().save(of(first, second));
+
+        getDs().save(getDs().find(Versioned.class).filter(eq("_id", second.getId())).first());
+
+        Versioned third = new Versioned();
+        third.setName("third");
+        first.setName("first updated");
+        BulkWriteException exception = expectThrows(BulkWriteException.class,
+                () -> getDs().bulkWrite(of(
+                        WriteRequests.update(getDs().find(Versioned.class).filter(eq("name", "first")), set("count", 5)),
+                        replace(first),
+                        replace(second),
+                        WriteRequests.insert(third))));
+
+        // the query based update does not hide the outcome of the replacements
+        assertEquals(exception.failures().size(), 1);
+        assertSame(exception.failures().get(0).entity(), second);
+        assertEquals(exception.result().getMatchedCount(), 2);
+        assertEquals(first.getVersion().longValue(), 2);
+        assertEquals(second.getVersion().longValue(), 1);
+        assertEquals(getDs().find(Versioned.class).filter(eq("_id", first.getId())).first().getName(), "first updated");
+        assertEquals(getDs().find(Versioned.class).count(), 2, "The ordered write should have stopped at the mismatch");
+    }
+
     @Test
     public void testCanMapAPackageContainingAVersionedAbstractBaseClass() {
         List<EntityModel> entities = getMapper().getMappedEntities();
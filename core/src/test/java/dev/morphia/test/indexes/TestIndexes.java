@@ -2,15 +2,18 @@ package dev.morphia.test.indexes;
 
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.CollationCaseFirst;
 import com.mongodb.client.model.CollationMaxVariable;
 import com.mongodb.client.model.CollationStrength;
 import com.mongodb.client.model.geojson.Point;
 import com.mongodb.client.model.geojson.Position;
 
+import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.Collation;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Field;
@@ -21,6 +24,8 @@ import dev.morphia.annotations.Indexed;
 import dev.morphia.annotations.Indexes;
 import dev.morphia.annotations.Property;
 import dev.morphia.annotations.Text;
+import dev.morphia.annotations.internal.IndexPlanner;
+import dev.morphia.annotations.internal.IndexReport;
 import dev.morphia.mapping.IndexDirection;
 import dev.morphia.mapping.IndexType;
 import dev.morphia.mapping.PropertyDiscovery;
@@ -243,6 +248,46 @@ public class TestIndexes extends TestBase {
         assertEquals(getIndexInfo(Circle.class).size(), 4);
     }
 
+    @Test
+    public void testIndexPlanner() {
+        List<EntityModel> models = List.of(getMapper().getEntityModel(Circle.class),
+                getMapper().getEntityModel(CompoundTextIndex.class),
+                getMapper().getEntityModel(TestWithHashedIndex.class));
+        models.forEach(model -> getDs().getCollection(model.getType()).drop());
+
+        IndexReport report = new IndexPlanner((MorphiaDatastore) getDs()).apply(models);
+        assertEquals(report.collections().size(), 3);
+        assertEquals(report.created(), 5);
+        assertEquals(report.existing(), 0);
+        assertEquals(getIndexInfo(Circle.class).size(), 4);
+
+        report = new IndexPlanner((MorphiaDatastore) getDs()).apply(models);
+        assertEquals(report.created(), 0);
+        assertEquals(report.existing(), 5);
+    }
+
+    @Test
+    public void testIndexPlannerOptions() {
+        EntityModel model = getMapper().getEntityModel(HasExpiryField.class);
+        MongoCollection<HasExpiryField> collection = getDs().getCollection(HasExpiryField.class);
+        collection.drop();
+        collection.createIndex(new Document("offerExpiresAt", 1), new com.mongodb.client.model.IndexOptions()
+                .expireAfter(60L, TimeUnit.SECONDS));
+
+        try {
+            new IndexPlanner((MorphiaDatastore) getDs()).apply(List.of(model));
+            Assert.fail("The differing TTL should have been sent to the server and rejected");
+        } catch (MongoCommandException e) {
+            assertEquals(e.getErrorCodeName(), "IndexOptionsConflict");
+        }
+
+        collection.dropIndexes();
+        IndexReport report = new IndexPlanner((MorphiaDatastore) getDs()).apply(List.of(model));
+        assertEquals(report.created(), 1);
+        report = new IndexPlanner((MorphiaDatastore) getDs()).apply(List.of(model));
+        assertEquals(report.existing(), 1);
+    }
+
     @Test
     public void testMethodMapping() {
         withConfig(buildConfig(MethodMappedUser.class)
@@ -26,8 +26,10 @@ import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.annotations.Property;
 import dev.morphia.internal.PathTarget;
+import dev.morphia.internal.PathTargetCache;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.query.ValidationException;
 import dev.morphia.test.TestBase;
 import dev.morphia.test.models.City;
 import dev.morphia.test.models.CityPopulation;
@@ -61,6 +63,31 @@ public class PathTargetTest extends TestBase {
         });
     }
 
+    @Test
+    public void cached() {
+        withTestConfig(List.of(State.class, CityPopulation.class), () -> {
+            Mapper mapper = getMapper();
+            PathTargetCache cache = mapper.getPathTargetCache();
+            long misses = cache.misses();
+            long hits = cache.hits();
+
+            PathTarget first = new PathTarget(mapper, State.class, "biggestCity.population");
+            Assert.assertEquals(first.translatedPath(), "biggestCity.pop");
+            PathTarget second = new PathTarget(mapper, State.class, "biggestCity.population");
+            Assert.assertEquals(second.translatedPath(), "biggestCity.pop");
+            Assert.assertSame(second.target(), first.target());
+            Assert.assertEquals(cache.misses(), misses + 1);
+            Assert.assertEquals(cache.hits(), hits + 1);
+
+            new PathTarget(mapper, State.class, "biggestCity.population", false).translatedPath();
+            Assert.assertEquals(cache.misses(), misses + 2);
+
+            Assert.assertThrows(ValidationException.class, () -> new PathTarget(mapper, State.class, "biggestCity.bad").translatedPath());
+            Assert.assertThrows(ValidationException.class, () -> new PathTarget(mapper, State.class, "biggestCity.bad").translatedPath());
+            Assert.assertEquals(cache.misses(), misses + 4);
+        });
+    }
+
     @Test
     public void disableValidation() {
         withTestConfig(List.of(FatherEntity.class), () -> {
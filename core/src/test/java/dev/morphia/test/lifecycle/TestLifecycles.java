@@ -126,6 +126,22 @@ public class TestLifecycles extends TestBase {
         Assert.assertTrue(a.bs.get(0).isPreLoad());
     }
 
+    @Test
+    public void testDocumentOnlyDecodedWhenRequested() {
+        withTestConfig(List.of(LifecyleA.class, LifecycleB.class, UsesDocument.class), () -> {
+            assertFalse(getMapper().getEntityModel(LifecyleA.class).loadRequiresDocument());
+            assertTrue(getMapper().getEntityModel(UsesDocument.class).loadRequiresDocument());
+
+            UsesDocument entity = new UsesDocument();
+            entity.name = "document";
+            getDs().save(entity);
+
+            UsesDocument loaded = getDs().find(UsesDocument.class).first();
+            Assert.assertEquals(loaded.name, "document");
+            Assert.assertEquals(loaded.preLoadName, "document");
+        });
+    }
+
     @Test
     public void testGlobalInterceptorRunsAfterEntityCallback() {
         getMapper().addInterceptor(new NonNullValidation());
@@ -310,6 +326,20 @@ public class TestLifecycles extends TestBase {
         }
     }
 
+    @Entity
+    private static class UsesDocument {
+        @Id
+        private ObjectId id;
+        private String name;
+        @Transient
+        private String preLoadName;
+
+        @PreLoad
+        void preLoad(Document document) {
+            preLoadName = document.getString("name");
+        }
+    }
+
     @Entity
     @SuppressWarnings("FieldCanBeLocal")
     private static class ValidNullHolder {
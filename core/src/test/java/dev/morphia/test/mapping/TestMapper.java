@@ -1,11 +1,17 @@
 package dev.morphia.test.mapping;
 
+import java.util.List;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.internal.EntityScanner;
 import dev.morphia.test.TestBase;
 import dev.morphia.test.models.generics.ChildEntity;
 
+import org.bson.types.ObjectId;
 import org.testng.annotations.Test;
 
 import static java.lang.String.format;
@@ -13,8 +19,33 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 public class TestMapper extends TestBase {
+    @Test
+    public void testMappable() {
+        Mapper mapper = getMapper();
+        assertTrue(mapper.isMappable(ScannedParent.class));
+        assertTrue(mapper.isMappable(ScannedChild.class));
+        assertFalse(mapper.isMappable(Unscanned.class));
+        assertFalse(mapper.isMappable(null));
+
+        assertFalse(mapper.isMapped(ScannedChild.class));
+        EntityModel model = mapper.getEntityModel(ScannedChild.class);
+        assertTrue(mapper.isMapped(ScannedChild.class));
+        assertSame(mapper.getEntityModel(ScannedChild.class), model);
+    }
+
+    @Test
+    public void testScanning() {
+        List<String> names = EntityScanner.find(Thread.currentThread().getContextClassLoader(), getClass().getPackageName());
+
+        assertTrue(names.contains(ScannedParent.class.getName()));
+        assertTrue(names.contains(ScannedChild.class.getName()));
+        assertFalse(names.contains(Unscanned.class.getName()));
+    }
+
     @Test
     public void testMapperCopying() {
         withConfig(buildConfig(ChildEntity.class), () -> {
@@ -57,4 +88,15 @@ public class TestMapper extends TestBase {
                                 clonedEntity.getType().getName())));
     }
 
+    @Entity
+    private static class ScannedParent {
+        @Id
+        private ObjectId id;
+    }
+
+    private static class ScannedChild extends ScannedParent {
+    }
+
+    private static class Unscanned {
+    }
 }
@@ -12,6 +12,9 @@ import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.config.MorphiaConfig;
+import dev.morphia.mapping.codec.ArrayFieldAccessor;
+import dev.morphia.mapping.codec.FieldAccessor;
+import dev.morphia.mapping.codec.GeneratedAccessor;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
@@ -22,8 +25,10 @@ import org.bson.types.ObjectId;
 import org.testng.annotations.Test;
 
 import static dev.morphia.Morphia.*;
+import static dev.morphia.mapping.AccessorStrategy.GENERATED;
 import static dev.morphia.mapping.DiscriminatorFunction.lowerSimpleName;
 import static dev.morphia.mapping.NamingStrategy.lowerCase;
+import static dev.morphia.mapping.PropertyDiscovery.METHODS;
 import static dev.morphia.query.filters.Filters.ne;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -229,6 +234,51 @@ public class TestMappingOptions extends TestBase {
                 });
     }
 
+    @Test
+    public void generatedAccessors() {
+        withConfig(buildConfig()
+                .accessorStrategy(GENERATED), () -> {
+                    EntityModel model = getMapper().getEntityModel(HasPrimitives.class);
+                    assertTrue(model.getProperty("count").getAccessor() instanceof GeneratedAccessor);
+                    // final fields can not be written by a generated class
+                    assertEquals(model.getProperty("id").getAccessor().getClass(), FieldAccessor.class);
+                    assertTrue(model.getProperty("values").getAccessor() instanceof ArrayFieldAccessor);
+                    assertNull(model.getProperty("count").getAccessor().get(null));
+
+                    HasPrimitives entity = new HasPrimitives();
+                    entity.count = 42;
+                    entity.values = new long[] { 1, 2, 3 };
+                    entity.name = "generated";
+                    getDs().save(entity);
+
+                    HasPrimitives loaded = getDs().find(HasPrimitives.class).first();
+                    assertEquals(loaded.id, entity.id);
+                    assertEquals(loaded.count, 42);
+                    assertEquals(loaded.values, new long[] { 1, 2, 3 });
+                    assertEquals(loaded.name, "generated");
+                });
+    }
+
+    @Test
+    public void generatedGetterSetterAccessors() {
+        withConfig(buildConfig()
+                .accessorStrategy(GENERATED)
+                .propertyDiscovery(METHODS), () -> {
+                    EntityModel model = getMapper().getEntityModel(HasAccessors.class);
+                    assertTrue(model.getProperty("count").getAccessor() instanceof GeneratedAccessor);
+                    assertNull(model.getProperty("count").getAccessor().get(null));
+
+                    HasAccessors entity = new HasAccessors();
+                    entity.setId(new ObjectId());
+                    entity.setCount(42);
+                    getDs().save(entity);
+
+                    HasAccessors loaded = getDs().find(HasAccessors.class).first();
+                    assertEquals(loaded.getId(), entity.getId());
+                    assertEquals(loaded.getCount(), 42);
+                });
+    }
+
     private void shouldFindField(Datastore datastore, HasList hl, List<String> expected) {
         datastore.save(hl);
         final Document document = getDocumentCollection(HasList.class).find().first();
@@ -349,6 +399,38 @@ public class TestMappingOptions extends TestBase {
         }
     }
 
+    @Entity
+    private static class HasPrimitives {
+        @Id
+        private final ObjectId id = new ObjectId();
+        private int count;
+        private long[] values;
+        private String name;
+    }
+
+    @Entity
+    private static class HasAccessors {
+        private ObjectId id;
+        private int count;
+
+        @Id
+        public ObjectId getId() {
+            return id;
+        }
+
+        public void setId(ObjectId id) {
+            this.id = id;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+
     @Entity
     private static class DummyEntity {
         @Id
@@ -25,6 +25,7 @@ import dev.morphia.annotations.IdGetter;
 import dev.morphia.annotations.Property;
 import dev.morphia.annotations.Reference;
 import dev.morphia.config.MorphiaConfig;
+import dev.morphia.instrumentation.Instrumentation;
 import dev.morphia.mapping.PropertyDiscovery;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.query.FindOptions;
@@ -44,6 +45,7 @@ import static dev.morphia.Morphia.createDatastore;
 import static dev.morphia.aggregation.stages.Lookup.lookup;
 import static dev.morphia.aggregation.stages.Unwind.unwind;
 import static dev.morphia.mapping.experimental.MorphiaReference.wrap;
+import static dev.morphia.query.Sort.ascending;
 import static dev.morphia.query.filters.Filters.eq;
 import static dev.morphia.query.filters.Filters.in;
 import static dev.morphia.query.updates.UpdateOperators.setOnInsert;
@@ -137,6 +139,55 @@ public class TestReferences extends ProxyTestBase {
         assertEquals(author, foundBook.author.get());
     }
 
+    @Test
+    public void testBatchedReferences() {
+        List<String> queries = new ArrayList<>();
+        withConfig(buildConfig().instrumentation(new Instrumentation() {
+            @Override
+            public void referencesResolved(String collection, int requested, int resolved, long nanos) {
+                queries.add(collection);
+            }
+        }), () -> {
+            List<Ref> refs = List.of(new Ref("a"), new Ref("b"), new Ref("c"), new Ref("d"));
+            getDs().save(refs);
+
+            List<Container> containers = new ArrayList<>();
+            for (int i = 0; i < refs.size(); i++) {
+                containers.add(new Container(refs.subList(i, refs.size())));
+            }
+            getDs().save(containers);
+            String collection = getMapper().getEntityModel(Ref.class).collectionName();
+
+            // one query per eager reference property of each container
+            queries.clear();
+            checkContainers(containers, false);
+            assertEquals(queries.size(), containers.size() * 3);
+
+            // one query for the referenced collection in each batch of 3 containers
+            queries.clear();
+            checkContainers(containers, true);
+            assertEquals(queries, List.of(collection, collection));
+        });
+    }
+
+    private void checkContainers(List<Container> containers, boolean batched) {
+        List<Container> loaded = getDs().find(Container.class)
+                .iterator(new FindOptions()
+                        .batchReferences(batched)
+                        .batchSize(3)
+                        .sort(ascending("_id")))
+                .toList();
+
+        assertEquals(loaded.size(), containers.size());
+        for (int i = 0; i < loaded.size(); i++) {
+            Container expected = containers.get(i);
+            Container container = loaded.get(i);
+            assertEquals(container.getSingleRef(), expected.getSingleRef());
+            assertEquals(container.getCollectionRef(), expected.getCollectionRef());
+            assertEquals(new ArrayList<>(container.getMapRef().values()), new ArrayList<>(expected.getMapRef().values()));
+        }
+    }
+
     @Test
     public final void testArrays() {
         ArrayOfReferences a = new ArrayOfReferences();
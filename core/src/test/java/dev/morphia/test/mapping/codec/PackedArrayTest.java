@@ -0,0 +1,94 @@
+package dev.morphia.test.mapping.codec;
+
+import java.util.List;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Packed;
+import dev.morphia.test.TestBase;
+
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import static dev.morphia.query.filters.Filters.eq;
+import static dev.morphia.query.updates.UpdateOperators.set;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+public class PackedArrayTest extends TestBase {
+    @Test
+    public void testElementWiseValues() {
+        Embeddings embeddings = new Embeddings();
+        getDs().save(embeddings);
+        getDatabase().getCollection(collectionName())
+                .updateOne(new Document("_id", embeddings.id), new Document("$set", new Document()
+                        .append("doubles", List.of(1.5, 2.5))
+                        .append("ints", List.of(1, 2))));
+
+        Embeddings loaded = getDs().find(Embeddings.class)
+                .filter(eq("_id", embeddings.id))
+                .first();
+        assertEquals(loaded.doubles, new double[] { 1.5, 2.5 });
+        assertEquals(loaded.ints, new int[] { 1, 2 });
+    }
+
+    @Test
+    public void testQueriesAndUpdates() {
+        Embeddings embeddings = new Embeddings();
+        embeddings.floats = new float[] { 1.5f, 2.5f };
+        getDs().save(embeddings);
+
+        assertNotNull(getDs().find(Embeddings.class)
+                .filter(eq("floats", new float[] { 1.5f, 2.5f }))
+                .first());
+
+        getDs().find(Embeddings.class)
+                .filter(eq("_id", embeddings.id))
+                .update(set("floats", new float[] { 3.5f }));
+        Document document = getDatabase().getCollection(collectionName()).find().first();
+        assertEquals(((Binary) document.get("floats")).getData().length, Float.BYTES);
+        assertEquals(getDs().find(Embeddings.class).first().floats, new float[] { 3.5f });
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Embeddings embeddings = new Embeddings();
+        embeddings.doubles = new double[] { 0.25, -1.5, Double.MAX_VALUE };
+        embeddings.floats = new float[] { 0.25f, -1.5f };
+        embeddings.ints = new int[] { 1, -2, Integer.MAX_VALUE };
+        embeddings.longs = new long[] { 1L, -2L, Long.MIN_VALUE };
+        getDs().save(embeddings);
+
+        Document document = getDatabase().getCollection(collectionName()).find().first();
+        assertEquals(((Binary) document.get("doubles")).getData().length, 3 * Double.BYTES);
+        assertEquals(((Binary) document.get("longs")).getData().length, 3 * Long.BYTES);
+
+        Embeddings loaded = getDs().find(Embeddings.class)
+                .filter(eq("_id", embeddings.id))
+                .first();
+        assertEquals(loaded.doubles, embeddings.doubles);
+        assertEquals(loaded.floats, embeddings.floats);
+        assertEquals(loaded.ints, embeddings.ints);
+        assertEquals(loaded.longs, embeddings.longs);
+    }
+
+    private String collectionName() {
+        return getMapper().getEntityModel(Embeddings.class).collectionName();
+    }
+
+    @Entity
+    private static class Embeddings {
+        @Id
+        private ObjectId id;
+        @Packed
+        private double[] doubles;
+        @Packed
+        private float[] floats;
+        @Packed
+        private int[] ints;
+        @Packed
+        private long[] longs;
+    }
+}
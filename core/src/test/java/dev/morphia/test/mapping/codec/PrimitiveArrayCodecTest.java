@@ -0,0 +1,60 @@
+package dev.morphia.test.mapping.codec;
+
+import java.util.List;
+import java.util.stream.DoubleStream;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.test.TestBase;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import static dev.morphia.query.filters.Filters.eq;
+import static org.testng.Assert.assertEquals;
+
+public class PrimitiveArrayCodecTest extends TestBase {
+    @Test
+    public void testLargeArrays() {
+        Vectors vectors = new Vectors();
+        vectors.doubles = DoubleStream.iterate(0.5, d -> d + 1).limit(10_000).toArray();
+        vectors.ints = DoubleStream.of(vectors.doubles).mapToInt(d -> (int) d).toArray();
+        vectors.longs = DoubleStream.of(vectors.doubles).mapToLong(d -> (long) d * 1_000_000_000L).toArray();
+        getDs().save(vectors);
+
+        Vectors loaded = getDs().find(Vectors.class)
+                .filter(eq("_id", vectors.id))
+                .first();
+        assertEquals(loaded.doubles, vectors.doubles);
+        assertEquals(loaded.ints, vectors.ints);
+        assertEquals(loaded.longs, vectors.longs);
+    }
+
+    @Test
+    public void testMixedNumericTypes() {
+        Vectors vectors = new Vectors();
+        getDs().save(vectors);
+        getDatabase().getCollection(getMapper().getEntityModel(Vectors.class).collectionName())
+                .updateOne(new Document("_id", vectors.id), new Document("$set", new Document()
+                        .append("doubles", List.of(1, 2L, 3.5))
+                        .append("ints", List.of(1, 2L, 3.0))
+                        .append("longs", List.of(1, 2L, 3.0))));
+
+        Vectors loaded = getDs().find(Vectors.class)
+                .filter(eq("_id", vectors.id))
+                .first();
+        assertEquals(loaded.doubles, new double[] { 1, 2, 3.5 });
+        assertEquals(loaded.ints, new int[] { 1, 2, 3 });
+        assertEquals(loaded.longs, new long[] { 1, 2, 3 });
+    }
+
+    @Entity
+    private static class Vectors {
+        @Id
+        private ObjectId id;
+        private double[] doubles;
+        private int[] ints;
+        private long[] longs;
+    }
+}
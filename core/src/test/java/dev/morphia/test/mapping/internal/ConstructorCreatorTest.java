@@ -25,7 +25,9 @@ import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.Property;
 import dev.morphia.annotations.Reference;
+import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.internal.ConstructorCreator;
+import dev.morphia.mapping.internal.ConstructorPlan;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.MorphiaCursor;
 import dev.morphia.test.TestBase;
@@ -90,6 +92,34 @@ public class ConstructorCreatorTest extends TestBase {
         assertEquals(constructor.getParameterCount(), 0);
     }
 
+    @Test
+    public void testConstructorPlan() {
+        EntityModel model = getDs().getMapper().map(SomeProps.class).get(0);
+        ConstructorPlan plan = new ConstructorPlan(model, ConstructorCreator.bestConstructor(model));
+
+        assertEquals(plan.slot(model.getProperty("name")), 0);
+        assertEquals(plan.slot(model.getProperty("count")), 1);
+        assertEquals(plan.slot(model.getProperty("id")), -1);
+        assertEquals(plan.newArguments(), new Object[] { null, 0 });
+
+        ObjectId id = new ObjectId();
+        ConstructorCreator first = new ConstructorCreator(plan);
+        first.set("first", model.getProperty("name"));
+        first.set(1, model.getProperty("count"));
+        first.set(id, model.getProperty("id"));
+        ConstructorCreator second = new ConstructorCreator(plan);
+        second.set("second", model.getProperty("name"));
+
+        SomeProps one = (SomeProps) first.getInstance();
+        SomeProps two = (SomeProps) second.getInstance();
+        assertEquals(one.name, "first");
+        assertEquals(one.count, 1);
+        assertEquals(one.id, id);
+        assertEquals(two.name, "second");
+        assertEquals(two.count, 0);
+        assertNull(two.id);
+    }
+
     @Test
     public void typeConversions() {
         getMapper().map(MyEntity.class, EmbeddedEntity.class);
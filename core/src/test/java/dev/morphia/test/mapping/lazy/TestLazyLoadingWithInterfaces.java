@@ -5,21 +5,77 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Reference;
 import dev.morphia.mapping.experimental.MorphiaReference;
 import dev.morphia.test.mapping.ProxyTestBase;
 
+import org.bson.types.ObjectId;
 import org.testng.annotations.Test;
 
 import static dev.morphia.mapping.experimental.MorphiaReference.wrap;
 import static java.util.Arrays.asList;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 @Test(groups = "references")
 public class TestLazyLoadingWithInterfaces extends ProxyTestBase {
-    @SuppressWarnings("unchecked")
     public void interfaces() {
+        loadAcrossCollections();
+    }
+
+    public void parallelFetch() {
+        AtomicInteger queries = new AtomicInteger();
+        Executor executor = command -> {
+            queries.incrementAndGet();
+            new Thread(command).start();
+        };
+        withConfig(buildConfig()
+                .parallelReferences(true)
+                .referenceExecutor(executor), () -> {
+                    loadAcrossCollections();
+                    assertTrue(queries.get() >= 2, "The list and map references should have queried both collections concurrently");
+                });
+    }
+
+    @Test(timeOut = 30000)
+    public void nestedParallelFetch() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            withConfig(buildConfig()
+                    .parallelReferences(true)
+                    .referenceExecutor(executor), () -> {
+                        getMapper().map(Node.class, Tree.class, BranchA.class, BranchB.class, ClassB1.class, ClassB2.class);
+                        ClassB1 b1 = new ClassB1("Sandor Clegane");
+                        ClassB2 b2 = new ClassB2(42);
+                        getDs().save(asList(b1, b2));
+                        BranchA branchA = new BranchA(asList(b1, b2));
+                        BranchB branchB = new BranchB(asList(b2, b1));
+                        getDs().save(asList(branchA, branchB));
+                        Tree tree = new Tree();
+                        tree.branches = asList(branchA, branchB);
+                        getDs().save(tree);
+
+                        // the branches are fetched on the only executor thread which then has to fetch their leaves
+                        Tree loaded = getDs().find(Tree.class).first();
+                        assertEquals(loaded.branches.size(), 2);
+                        assertEquals(((BranchA) loaded.branches.get(0)).children, asList(b1, b2));
+                        assertEquals(((BranchB) loaded.branches.get(1)).children, asList(b2, b1));
+                    });
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadAcrossCollections() {
         getMapper().map(InterfaceA.class, InterfaceB.class, ClassA.class, ClassB1.class, ClassB2.class);
 
         final ClassB1 b1 = new ClassB1("Sandor Clegane");
@@ -61,4 +117,56 @@ public class TestLazyLoadingWithInterfaces extends ProxyTestBase {
         assertEquals(set, first.set.get());
     }
 
+    @Entity
+    public interface Node {
+        ObjectId getId();
+    }
+
+    @Entity("nested_trees")
+    public static class Tree {
+        @Id
+        ObjectId id;
+        @Reference
+        List<Node> branches;
+    }
+
+    @Entity("nested_branches_a")
+    public static class BranchA implements Node {
+        @Id
+        ObjectId id;
+        @Reference
+        List<InterfaceB> children;
+
+        BranchA() {
+        }
+
+        BranchA(List<InterfaceB> children) {
+            this.children = children;
+        }
+
+        @Override
+        public ObjectId getId() {
+            return id;
+        }
+    }
+
+    @Entity("nested_branches_b")
+    public static class BranchB implements Node {
+        @Id
+        ObjectId id;
+        @Reference
+        List<InterfaceB> children;
+
+        BranchB() {
+        }
+
+        BranchB(List<InterfaceB> children) {
+            this.children = children;
+        }
+
+        @Override
+        public ObjectId getId() {
+            return id;
+        }
+    }
 }
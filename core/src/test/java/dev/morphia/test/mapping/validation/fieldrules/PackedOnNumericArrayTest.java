@@ -0,0 +1,21 @@
+package dev.morphia.test.mapping.validation.fieldrules;
+
+import dev.morphia.annotations.Packed;
+import dev.morphia.mapping.validation.ConstraintViolationException;
+import dev.morphia.test.TestBase;
+import dev.morphia.test.models.TestEntity;
+
+import org.testng.annotations.Test;
+
+public class PackedOnNumericArrayTest extends TestBase {
+
+    @Test(expectedExceptions = ConstraintViolationException.class)
+    public void testPackedWrapperArray() {
+        getMapper().map(PackedWrappers.class);
+    }
+
+    private static class PackedWrappers extends TestEntity {
+        @Packed
+        private Double[] values;
+    }
+}
@@ -3,6 +3,8 @@ package dev.morphia.test.query;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.InsertManyOptions;
@@ -12,16 +14,21 @@ import dev.morphia.aggregation.expressions.ComparisonExpressions;
 import dev.morphia.aggregation.stages.Count;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
+import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Meta;
 import dev.morphia.query.MorphiaQuery;
+import dev.morphia.query.PreparedQuery;
 import dev.morphia.query.Query;
 import dev.morphia.query.Type;
+import dev.morphia.query.filters.Filter;
+import dev.morphia.query.internal.FilterBson;
 import dev.morphia.test.TemplatedTestBase;
 import dev.morphia.test.aggregation.model.Inventory;
 import dev.morphia.test.models.Budget;
 import dev.morphia.test.models.User;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -29,11 +36,13 @@ import org.testng.annotations.Test;
 import static dev.morphia.aggregation.expressions.Miscellaneous.rand;
 import static dev.morphia.aggregation.expressions.Miscellaneous.sampleRate;
 import static dev.morphia.aggregation.stages.Match.match;
+import static dev.morphia.query.Parameter.parameter;
 import static dev.morphia.query.filters.Filters.and;
 import static dev.morphia.query.filters.Filters.bitsAllClear;
 import static dev.morphia.query.filters.Filters.bitsAllSet;
 import static dev.morphia.query.filters.Filters.bitsAnyClear;
 import static dev.morphia.query.filters.Filters.bitsAnySet;
+import static dev.morphia.query.filters.Filters.eq;
 import static dev.morphia.query.filters.Filters.expr;
 import static dev.morphia.query.filters.Filters.gt;
 import static dev.morphia.query.filters.Filters.gte;
@@ -54,6 +63,7 @@ import static java.util.List.of;
 import static org.bson.Document.parse;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
 @SuppressWarnings("resource")
@@ -68,6 +78,40 @@ public class FiltersTest extends TemplatedTestBase {
                 .iterator();
     }
 
+    @Test
+    public void testDirectEncoding() {
+        EntityModel model = getMapper().getEntityModel(User.class);
+        List<Filter> filters = of(eq("name", "Jane").entityType(User.class), gt("age", 12).entityType(User.class));
+
+        FilterBson bson = FilterBson.of(getDs(), model, filters);
+        Document document = ((MorphiaQuery<User>) getDs().find(User.class).filter(filters.toArray(new Filter[0]))).toDocument();
+        assertEquals(bson.toBsonDocument(BsonDocument.class, getDs().getCodecRegistry()),
+                document.toBsonDocument(BsonDocument.class, getDs().getCodecRegistry()));
+
+        assertNull(FilterBson.of(getDs(), model, of(gt("age", 12).entityType(User.class), lt("age", 20).entityType(User.class))));
+    }
+
+    @Test
+    public void testPreparedQuery() {
+        getDs().save(of(new User("Jane", LocalDate.now()), new User("John", LocalDate.now()), new User("Anne", LocalDate.now())));
+
+        PreparedQuery<User> byName = getDs().find(User.class)
+                .filter(eq("name", parameter("name")))
+                .prepare();
+        assertEquals(byName.parameters(), Set.of("name"));
+        assertEquals(byName.bind("name", "Jane").first().name, "Jane");
+        assertEquals(byName.bind("name", "John").first().name, "John");
+        assertNull(byName.bind("name", "Bob").first());
+
+        PreparedQuery<User> either = getDs().find(User.class)
+                .filter(or(eq("name", parameter("first")), eq("name", parameter("second"))))
+                .prepare();
+        assertEquals(either.bind(Map.of("first", "Jane", "second", "Anne")).count(), 2);
+
+        assertThrows(IllegalArgumentException.class, () -> byName.bind("age", 12));
+        assertThrows(IllegalArgumentException.class, () -> either.bind("first", "Jane"));
+    }
+
     @Test
     public void testType() {
         User entity = new User();
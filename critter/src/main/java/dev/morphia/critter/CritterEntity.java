@@ -0,0 +1,661 @@
+package dev.morphia.critter;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.SimpleAnnotationValueVisitor9;
+import javax.lang.model.util.Types;
+
+import static java.lang.String.format;
+
+/**
+ * Describes an entity type being generated and emits the sources for its model and codec.
+ */
+class CritterEntity {
+    private static final String ANNOTATIONS = "dev.morphia.annotations";
+    private static final String IGNORED_FIELDNAME = ".";
+    private static final String DISCRIMINATOR = """
+                        if (model.useDiscriminator()) {
+                            encodeDiscriminator(writer, model);
+                        }
+            """;
+    private static final Set<String> LIFECYCLE = Set.of(ANNOTATIONS + ".PrePersist", ANNOTATIONS + ".PostPersist",
+            ANNOTATIONS + ".PreLoad", ANNOTATIONS + ".PostLoad");
+
+    private final TypeElement element;
+    private final Elements elements;
+    private final Types types;
+    private final List<String> annotations = new ArrayList<>();
+    private final List<CritterProperty> properties = new ArrayList<>();
+    private String packageName;
+    private String typeName;
+    private String baseName;
+    private String collectionName;
+
+    CritterEntity(ProcessingEnvironment environment, TypeElement element) {
+        this.element = element;
+        this.elements = environment.getElementUtils();
+        this.types = environment.getTypeUtils();
+    }
+
+    /**
+     * Inspects the type and collects everything needed to generate its sources.
+     *
+     * @return null if the type can be generated or the reason it can not
+     */
+    String analyze() {
+        try {
+            describe();
+            return null;
+        } catch (UnsupportedException e) {
+            return e.getMessage();
+        }
+    }
+
+    String codecName() {
+        return baseName + "CritterCodec";
+    }
+
+    Element element() {
+        return element;
+    }
+
+    String modelName() {
+        return baseName + "CritterModel";
+    }
+
+    String packageName() {
+        return packageName;
+    }
+
+    String model() {
+        StringBuilder source = header("java.util.List",
+                "javax.annotation.processing.Generated",
+                "dev.morphia.mapping.Mapper",
+                "dev.morphia.config.MorphiaConfig",
+                "dev.morphia.mapping.MappingException",
+                "dev.morphia.mapping.codec.ArrayFieldAccessor",
+                "dev.morphia.mapping.codec.GeneratedAccessor",
+                "dev.morphia.mapping.codec.pojo.EntityModel",
+                "dev.morphia.mapping.codec.pojo.PropertyModel",
+                "dev.morphia.mapping.codec.pojo.TypeData",
+                "dev.morphia.mapping.conventions.ConfigureProperties",
+                "dev.morphia.mapping.conventions.MorphiaDefaultsConvention",
+                "org.bson.codecs.pojo.PropertyAccessor");
+
+        source.append(format("""
+                /**
+                 * Builds the {@code EntityModel} for {@link %1$s} without inspecting the type at runtime.
+                 */
+                @Generated("dev.morphia.critter.CritterProcessor")
+                @SuppressWarnings({ "unchecked", "rawtypes" })
+                public final class %2$s {
+                    private %2$s() {
+                    }
+
+                    /**
+                     * @param mapper the mapper to use
+                     * @return the model
+                     */
+                    public static EntityModel build(Mapper mapper) {
+                        MorphiaConfig config = mapper.getConfig();
+                        EntityModel model = new EntityModel(%1$s.class);
+                """, typeName, modelName()));
+
+        for (String annotation : annotations) {
+            source.append(format("        model.annotation(%s);%n", annotation));
+        }
+        for (CritterProperty property : properties) {
+            source.append(property.model(typeName, elements));
+        }
+        source.append(format("""
+                        new MorphiaDefaultsConvention().apply(mapper, model);
+                        new ConfigureProperties().apply(mapper, model);
+                        model.collectionName(%s);
+                        return model;
+                    }
+
+                    private static java.lang.reflect.Field field(String name) {
+                        try {
+                            return %s.class.getDeclaredField(name);
+                        } catch (NoSuchFieldException e) {
+                            throw new MappingException(e.getMessage(), e);
+                        }
+                    }
+                }
+                """, collectionName, typeName));
+
+        return source.toString();
+    }
+
+    String codec() {
+        StringBuilder source = header("java.util.List",
+                "javax.annotation.processing.Generated",
+                "dev.morphia.MorphiaDatastore",
+                "dev.morphia.mapping.codec.MorphiaInstanceCreator",
+                "dev.morphia.mapping.codec.pojo.EntityDecoder",
+                "dev.morphia.mapping.codec.pojo.EntityEncoder",
+                "dev.morphia.mapping.codec.pojo.EntityModel",
+                "dev.morphia.mapping.codec.pojo.MorphiaCodec",
+                "dev.morphia.mapping.codec.pojo.PropertyModel",
+                "org.bson.BsonReader",
+                "org.bson.BsonType",
+                "org.bson.BsonWriter",
+                "org.bson.codecs.DecoderContext",
+                "org.bson.codecs.EncoderContext",
+                "org.bson.codecs.configuration.CodecRegistry",
+                "org.bson.codecs.pojo.PropertyCodecProvider");
+
+        StringBuilder fields = new StringBuilder();
+        StringBuilder lookups = new StringBuilder();
+        StringJoiner expected = new StringJoiner("\n                    && ");
+        StringBuilder writes = new StringBuilder();
+        StringBuilder cases = new StringBuilder();
+        for (CritterProperty property : properties) {
+            String field = property.field();
+            fields.append(format("        private final PropertyModel %s;%n", field));
+            lookups.append(format("            %s = property(model, \"%s\");%n", field, property.name()));
+            expected.add(format("%s.equals(%s.getMappedName())", literal(property.expectedName()), field));
+            if (property.isId()) {
+                writes.append(format("            encodeIdProperty(writer, value, encoderContext, %s);%n", field));
+                writes.append(DISCRIMINATOR);
+            }
+            cases.append(format("                    case %s:%n", literal(property.expectedName())));
+            cases.append(format("                        decodeModel(reader, decoderContext, instanceCreator, %s);%n", field));
+            cases.append("                        break;\n");
+        }
+        if (properties.stream().noneMatch(CritterProperty::isId)) {
+            writes.append(DISCRIMINATOR);
+        }
+        for (CritterProperty property : properties) {
+            if (!property.isId()) {
+                writes.append(format("            encodeValue(writer, encoderContext, %s, %s, %s);%n", literal(property.expectedName()),
+                        property.field(), property.read("value")));
+            }
+        }
+
+        source.append(format("""
+                /**
+                 * The generated codec for {@link %1$s}.
+                 */
+                @Generated("dev.morphia.critter.CritterProcessor")
+                @SuppressWarnings({ "unchecked", "rawtypes" })
+                public final class %2$s extends MorphiaCodec<%1$s> {
+                    /**
+                     * The type handled by this codec
+                     */
+                    public static final Class<?> TYPE = %1$s.class;
+
+                    /**
+                     * @param datastore              the datastore
+                     * @param registry               the codec registry for lookups
+                     * @param propertyCodecProviders the codec provider for properties
+                     */
+                    public %2$s(MorphiaDatastore datastore, CodecRegistry registry, List<PropertyCodecProvider> propertyCodecProviders) {
+                        super(datastore, datastore.getMapper().getEntityModel(%1$s.class), propertyCodecProviders,
+                                datastore.getMapper().getDiscriminatorLookup(), registry);
+                        setEncoder(new Encoder(this));
+                        setDecoder(new Decoder(this));
+                    }
+
+                    private static PropertyModel property(EntityModel model, String name) {
+                        for (PropertyModel property : model.getProperties()) {
+                            if (property.getName().equals(name)) {
+                                return property;
+                            }
+                        }
+                        throw new IllegalStateException(name);
+                    }
+
+                    private static final class Encoder extends EntityEncoder<%1$s> {
+                        private final EntityModel model;
+                        private final boolean precomputed;
+                %3$s
+                        private Encoder(MorphiaCodec<%1$s> codec) {
+                            super(codec);
+                            model = codec.getEntityModel();
+                %4$s            precomputed = %6$s;
+                        }
+
+                        @Override
+                        public void encode(BsonWriter writer, %1$s value, EncoderContext encoderContext) {
+                            if (!precomputed || !value.getClass().equals(%1$s.class)) {
+                                super.encode(writer, value, encoderContext);
+                                return;
+                            }
+                            writer.writeStartDocument();
+                %5$s            writer.writeEndDocument();
+                        }
+                    }
+
+                    private static final class Decoder extends EntityDecoder<%1$s> {
+                        private final boolean precomputed;
+                        private final String discriminatorKey;
+                %3$s
+                        private Decoder(MorphiaCodec<%1$s> codec) {
+                            super(codec);
+                            EntityModel model = codec.getEntityModel();
+                            discriminatorKey = model.useDiscriminator() ? model.discriminatorKey() : null;
+                %4$s            precomputed = %6$s;
+                        }
+
+                        @Override
+                        protected void decodeProperties(BsonReader reader, DecoderContext decoderContext,
+                                MorphiaInstanceCreator instanceCreator, EntityModel classModel) {
+                            if (!precomputed) {
+                                super.decodeProperties(reader, decoderContext, instanceCreator, classModel);
+                                return;
+                            }
+                            reader.readStartDocument();
+                            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                                String name = reader.readName();
+                                if (name.equals(discriminatorKey)) {
+                                    reader.readString();
+                                    continue;
+                                }
+                                switch (name) {
+                %7$s                    default:
+                                        decodeModel(reader, decoderContext, instanceCreator, classModel.getProperty(name));
+                                }
+                            }
+                            reader.readEndDocument();
+                        }
+                    }
+                }
+                """, typeName, codecName(), fields, lookups, writes, properties.isEmpty() ? "true" : expected.toString(), cases));
+
+        return source.toString();
+    }
+
+    private StringBuilder header(String... imports) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append(format("package %s;%n%n", packageName));
+        }
+        for (String anImport : imports) {
+            source.append(format("import %s;%n", anImport));
+        }
+        return source.append('\n');
+    }
+
+    private void describe() {
+        PackageElement pkg = elements.getPackageOf(element);
+        if (pkg.isUnnamed()) {
+            throw new UnsupportedException("types in the default package");
+        }
+        packageName = pkg.getQualifiedName().toString();
+        typeName = element.getQualifiedName().toString();
+        baseName = typeName.substring(packageName.length() + 1).replace('.', '_');
+
+        if (!element.getTypeParameters().isEmpty()) {
+            throw new UnsupportedException("generic types");
+        }
+        if (element.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedException("abstract types");
+        }
+        if (element.getNestingKind() == NestingKind.MEMBER && !element.getModifiers().contains(Modifier.STATIC)) {
+            throw new UnsupportedException("inner classes");
+        }
+        if (!accessible(element)) {
+            throw new UnsupportedException("private types");
+        }
+        TypeMirror superclass = element.getSuperclass();
+        if (!((TypeElement) types.asElement(superclass)).getQualifiedName().contentEquals("java.lang.Object")) {
+            throw new UnsupportedException("type hierarchies");
+        }
+        for (TypeMirror anInterface : interfaces(element, new LinkedHashSet<>())) {
+            for (AnnotationMirror mirror : types.asElement(anInterface).getAnnotationMirrors()) {
+                if (runtime(mirror)) {
+                    throw new UnsupportedException("annotated interfaces");
+                }
+            }
+        }
+        for (Element enclosed : element.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.METHOD) {
+                for (AnnotationMirror mirror : enclosed.getAnnotationMirrors()) {
+                    if (LIFECYCLE.contains(annotationName(mirror))) {
+                        throw new UnsupportedException("lifecycle methods");
+                    }
+                }
+            }
+        }
+
+        String collection = null;
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String name = annotationName(mirror);
+            if (name.equals(ANNOTATIONS + ".EntityListeners")) {
+                throw new UnsupportedException("entity listeners");
+            } else if (name.equals(ANNOTATIONS + ".IdField")) {
+                throw new UnsupportedException("@IdField");
+            } else if (name.equals(CritterProcessor.ENTITY)) {
+                collection = stringValue(mirror, "value");
+            }
+            if (runtime(mirror)) {
+                annotations.add(annotation(mirror, typeName + ".class"));
+            }
+        }
+        collectionName = collection != null && !collection.equals(IGNORED_FIELDNAME)
+                ? literal(collection)
+                : format("config.collectionNaming().apply(%s)", literal(element.getSimpleName().toString()));
+
+        Set<String> names = new HashSet<>();
+        for (Element enclosed : element.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.FIELD) {
+                VariableElement field = (VariableElement) enclosed;
+                if (!field.getModifiers().contains(Modifier.STATIC) && !isTransient(field)) {
+                    CritterProperty property = property(field);
+                    if (!names.add(property.expectedName())) {
+                        throw new UnsupportedException(format("duplicated mapped name '%s'", property.expectedName()));
+                    }
+                    properties.add(property);
+                }
+            }
+        }
+    }
+
+    private CritterProperty property(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        TypeMirror type = field.asType();
+        if (!accessible(type)) {
+            throw new UnsupportedException(format("the type of '%s' is not accessible", name));
+        }
+
+        List<String> fieldAnnotations = new ArrayList<>();
+        String mappedName = null;
+        boolean id = false;
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (runtime(mirror)) {
+                fieldAnnotations.add(annotation(mirror, format("field(%s)", literal(name))));
+            }
+            String annotation = annotationName(mirror);
+            if (annotation.equals(ANNOTATIONS + ".Id")) {
+                id = true;
+            } else if (mappedName == null && (annotation.equals(ANNOTATIONS + ".Property")
+                    || annotation.equals(ANNOTATIONS + ".Reference")
+                    || annotation.equals(ANNOTATIONS + ".Version"))) {
+                String value = stringValue(mirror, "value");
+                if (value != null && !value.equals(IGNORED_FIELDNAME)) {
+                    mappedName = value;
+                }
+            }
+        }
+        if (id) {
+            mappedName = "_id";
+        }
+
+        return new CritterProperty(name, typeData(type), rawType(type), type.getKind(),
+                type.getKind() == TypeKind.ARRAY && ((ArrayType) type).getComponentType().getKind() != TypeKind.BYTE,
+                field.getModifiers().contains(Modifier.FINAL), field.getModifiers().contains(Modifier.PRIVATE),
+                fieldAnnotations, mappedName, id);
+    }
+
+    private boolean isTransient(VariableElement field) {
+        if (field.getModifiers().contains(Modifier.TRANSIENT)) {
+            return true;
+        }
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            String name = annotationName(mirror);
+            if (name.equals(ANNOTATIONS + ".Transient") || name.equals("java.beans.Transient")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<TypeMirror> interfaces(TypeElement type, Set<TypeMirror> found) {
+        for (TypeMirror anInterface : type.getInterfaces()) {
+            if (found.add(anInterface)) {
+                interfaces((TypeElement) types.asElement(anInterface), found);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Mirrors what {@code TypeData.get(Type)} computes for a field's generic type.
+     */
+    private String typeData(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return format("new TypeData<>(%s.class)", type.getKind().name().toLowerCase());
+            case TYPEVAR:
+                return "new TypeData<>(Object.class)";
+            case ARRAY:
+                TypeMirror component = ((ArrayType) type).getComponentType();
+                while (component.getKind() == TypeKind.ARRAY) {
+                    component = ((ArrayType) component).getComponentType();
+                }
+                if (component.getKind() == TypeKind.TYPEVAR
+                        || component.getKind() == TypeKind.DECLARED && !((DeclaredType) component).getTypeArguments().isEmpty()) {
+                    throw new UnsupportedException("generic arrays");
+                }
+                return format("new TypeData<>(%s.class)", rawType(type));
+            case DECLARED:
+                DeclaredType declared = (DeclaredType) type;
+                TypeElement typeElement = (TypeElement) declared.asElement();
+                List<TypeMirror> parameters;
+                if (declared.getTypeArguments().isEmpty()) {
+                    parameters = new ArrayList<>();
+                    TypeMirror object = elements.getTypeElement("java.lang.Object").asType();
+                    for (int i = 0; i < typeElement.getTypeParameters().size(); i++) {
+                        parameters.add(object);
+                    }
+                    if (typeElement.getKind() != ElementKind.ENUM) {
+                        parameters = superclassParameters(typeElement, parameters);
+                    }
+                } else {
+                    parameters = new ArrayList<>(declared.getTypeArguments());
+                    parameters = superclassParameters(typeElement, parameters);
+                }
+                StringJoiner joiner = new StringJoiner(", ");
+                for (TypeMirror parameter : parameters) {
+                    if (parameter.getKind() == TypeKind.WILDCARD) {
+                        throw new UnsupportedException("wildcard types");
+                    }
+                    if (types.isSameType(types.erasure(parameter), types.erasure(type))) {
+                        throw new UnsupportedException("recursive types");
+                    }
+                    joiner.add(typeData(parameter));
+                }
+                String raw = typeElement.getQualifiedName().toString();
+                return parameters.isEmpty()
+                        ? format("new TypeData<>(%s.class)", raw)
+                        : format("new TypeData<>(%s.class, List.<TypeData<?>>of(%s))", raw, joiner);
+            default:
+                throw new UnsupportedException("unsupported type " + type);
+        }
+    }
+
+    /**
+     * Mirrors {@code TypeData.TypeParameters} which resolves the type arguments through any parameterized superclasses.
+     */
+    private List<TypeMirror> superclassParameters(TypeElement type, List<TypeMirror> subtypeParameters) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED || ((DeclaredType) superclass).getTypeArguments().isEmpty()) {
+            return subtypeParameters;
+        }
+        List<TypeMirror> parameters = new ArrayList<>();
+        int index = 0;
+        for (TypeMirror argument : ((DeclaredType) superclass).getTypeArguments()) {
+            if (argument.getKind() == TypeKind.TYPEVAR && index < subtypeParameters.size()) {
+                argument = subtypeParameters.get(index++);
+            }
+            parameters.add(argument);
+        }
+        return superclassParameters((TypeElement) types.asElement(superclass), parameters);
+    }
+
+    private String rawType(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return rawType(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+            case TYPEVAR:
+                return rawType(types.erasure(type));
+            default:
+                return type.getKind().name().toLowerCase();
+        }
+    }
+
+    private boolean accessible(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return accessible(((ArrayType) type).getComponentType());
+            case DECLARED:
+                DeclaredType declared = (DeclaredType) type;
+                if (!accessible((TypeElement) declared.asElement())) {
+                    return false;
+                }
+                for (TypeMirror argument : declared.getTypeArguments()) {
+                    if (!accessible(argument)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    private boolean accessible(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC)
+                    && !elements.getPackageOf(current).getQualifiedName().contentEquals(packageName)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Creates an expression producing the annotation instance. Morphia's own annotations are recreated through their generated
+     * builders while any others are read from the class file.
+     */
+    private String annotation(AnnotationMirror mirror, String source) {
+        TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+        if (!isMorphiaAnnotation(type)) {
+            if (!accessible(type)) {
+                throw new UnsupportedException(format("@%s is not accessible", type.getQualifiedName()));
+            }
+            return format("%s.getAnnotation(%s.class)", source, type.getQualifiedName());
+        }
+        return builder(mirror);
+    }
+
+    private String builder(AnnotationMirror mirror) {
+        TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+        if (!isMorphiaAnnotation(type)) {
+            throw new UnsupportedException(format("nested @%s values", type.getQualifiedName()));
+        }
+        String simpleName = type.getSimpleName().toString();
+        StringBuilder builder = new StringBuilder(format("%s.internal.%sBuilder.%sBuilder()", ANNOTATIONS, simpleName,
+                Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1)));
+        mirror.getElementValues().forEach((key, value) -> {
+            builder.append(format(".%s(%s)", key.getSimpleName(), value(value)));
+        });
+        return builder.append(".build()").toString();
+    }
+
+    private String value(AnnotationValue value) {
+        return value.accept(new SimpleAnnotationValueVisitor9<String, Void>() {
+            @Override
+            protected String defaultAction(Object o, Void unused) {
+                return elements.getConstantExpression(o);
+            }
+
+            @Override
+            public String visitType(TypeMirror t, Void unused) {
+                return rawType(t) + ".class";
+            }
+
+            @Override
+            public String visitEnumConstant(VariableElement c, Void unused) {
+                return format("%s.%s", ((TypeElement) c.getEnclosingElement()).getQualifiedName(), c.getSimpleName());
+            }
+
+            @Override
+            public String visitAnnotation(AnnotationMirror a, Void unused) {
+                return builder(a);
+            }
+
+            @Override
+            public String visitArray(List<? extends AnnotationValue> vals, Void unused) {
+                StringJoiner joiner = new StringJoiner(", ");
+                for (AnnotationValue val : vals) {
+                    joiner.add(value(val));
+                }
+                return joiner.toString();
+            }
+        }, null);
+    }
+
+    private boolean isMorphiaAnnotation(TypeElement type) {
+        return type.getEnclosingElement() instanceof PackageElement
+                && ((PackageElement) type.getEnclosingElement()).getQualifiedName().contentEquals(ANNOTATIONS)
+                && type.getModifiers().contains(Modifier.PUBLIC)
+                && !type.getSimpleName().toString().endsWith("Handler");
+    }
+
+    private static boolean runtime(AnnotationMirror mirror) {
+        Retention retention = mirror.getAnnotationType().asElement().getAnnotation(Retention.class);
+        return retention != null && retention.value() == RetentionPolicy.RUNTIME;
+    }
+
+    private static String annotationName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private String stringValue(AnnotationMirror mirror, String name) {
+        for (var entry : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return (String) entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private String literal(String value) {
+        return elements.getConstantExpression(value);
+    }
+
+    private static class UnsupportedException extends RuntimeException {
+        UnsupportedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package dev.morphia.critter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import static java.lang.String.format;
+
+/**
+ * Generates {@code EntityModel} definitions and codecs for {@code @Entity} types at build time. For each supported entity two classes
+ * are emitted next to the entity: {@code <Entity>CritterModel} which builds the model without scanning the class and
+ * {@code <Entity>CritterCodec} which encodes each property directly and decodes via a {@code switch} on the field name. A single
+ * {@code EntityModelImporter} is then generated and registered so that {@code MorphiaDatastore} picks these up at startup.
+ * <p>
+ * Entities using features that depend on runtime inspection (lifecycle methods, entity listeners, generic hierarchies, etc.) are
+ * reported with a note and left to the regular runtime mapping.
+ */
+@SupportedAnnotationTypes(CritterProcessor.ENTITY)
+@SupportedOptions(CritterProcessor.IMPORTER_OPTION)
+public class CritterProcessor extends AbstractProcessor {
+    /**
+     * The option to use to override the fully qualified name of the generated importer.
+     */
+    public static final String IMPORTER_OPTION = "critter.importer";
+
+    static final String ENTITY = "dev.morphia.annotations.Entity";
+    static final String IMPORTER_NAME = "CritterEntityModelImporter";
+    private static final String IMPORTER_SERVICE = "META-INF/services/dev.morphia.mapping.EntityModelImporter";
+
+    private final List<CritterEntity> generated = new ArrayList<>();
+    private boolean importerWritten;
+    private String importer;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement entity = processingEnv.getElementUtils().getTypeElement(ENTITY);
+        if (entity == null) {
+            return false;
+        }
+        if (roundEnv.processingOver()) {
+            if (importer != null) {
+                writeService();
+            }
+            return false;
+        }
+
+        Set<? extends Element> entities = roundEnv.getElementsAnnotatedWith(entity);
+        for (Element element : entities) {
+            if (element.getKind() == ElementKind.CLASS) {
+                generate((TypeElement) element);
+            }
+        }
+        if (entities.isEmpty() && !generated.isEmpty() && !importerWritten) {
+            writeImporter();
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        CritterEntity entity = new CritterEntity(processingEnv, type);
+        String unsupported = entity.analyze();
+        if (unsupported != null) {
+            messager().printMessage(Kind.NOTE, format("Using runtime mapping for %s: %s", type.getQualifiedName(), unsupported),
+                    type);
+            return;
+        }
+        write(entity.packageName(), entity.modelName(), entity.model(), type);
+        write(entity.packageName(), entity.codecName(), entity.codec(), type);
+        generated.add(entity);
+    }
+
+    private void writeImporter() {
+        importerWritten = true;
+        importer = processingEnv.getOptions().get(IMPORTER_OPTION);
+        if (importer == null) {
+            Set<String> packages = new TreeSet<>();
+            generated.forEach(entity -> packages.add(entity.packageName()));
+            importer = packages.iterator().next() + "." + IMPORTER_NAME;
+        }
+        int dot = importer.lastIndexOf('.');
+        String packageName = importer.substring(0, dot);
+        String simpleName = importer.substring(dot + 1);
+
+        write(packageName, simpleName, new ImporterSource(packageName, simpleName, generated).toString(),
+                generated.stream().map(CritterEntity::element).toArray(Element[]::new));
+    }
+
+    private void writeService() {
+        try {
+            FileObject resource = filer().createResource(StandardLocation.CLASS_OUTPUT, "", IMPORTER_SERVICE);
+            try (Writer writer = resource.openWriter()) {
+                writer.write(importer);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            messager().printMessage(Kind.ERROR, format("Could not write %s: %s", IMPORTER_SERVICE, e.getMessage()));
+        }
+    }
+
+    private void write(String packageName, String simpleName, String source, Element... originating) {
+        String name = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = filer().createSourceFile(name, originating).openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            messager().printMessage(Kind.ERROR, format("Could not write %s: %s", name, e.getMessage()), originating[0]);
+        }
+    }
+
+    private Filer filer() {
+        return processingEnv.getFiler();
+    }
+
+    private Messager messager() {
+        return processingEnv.getMessager();
+    }
+}
@@ -0,0 +1,137 @@
+package dev.morphia.critter;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.Elements;
+
+import static java.lang.String.format;
+
+/**
+ * Describes a mapped field on an entity being generated.
+ */
+class CritterProperty {
+    private final String name;
+    private final String typeData;
+    private final String rawType;
+    private final TypeKind kind;
+    private final boolean convertArray;
+    private final boolean isFinal;
+    private final boolean isPrivate;
+    private final List<String> annotations;
+    private final String mappedName;
+    private final boolean id;
+
+    CritterProperty(String name, String typeData, String rawType, TypeKind kind, boolean convertArray, boolean isFinal,
+            boolean isPrivate, List<String> annotations, String mappedName, boolean id) {
+        this.name = name;
+        this.typeData = typeData;
+        this.rawType = rawType;
+        this.kind = kind;
+        this.convertArray = convertArray;
+        this.isFinal = isFinal;
+        this.isPrivate = isPrivate;
+        this.annotations = annotations;
+        this.mappedName = mappedName;
+        this.id = id;
+    }
+
+    /**
+     * @return the name the property is expected to be mapped to. If no name was given explicitly, this assumes the configured property
+     *         naming strategy leaves the name as is which is checked when the codec is created.
+     */
+    String expectedName() {
+        return mappedName != null ? mappedName : name;
+    }
+
+    /**
+     * @return the name of the field holding this property's model in the generated codec
+     */
+    String field() {
+        return name + "Property";
+    }
+
+    boolean isId() {
+        return id;
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * @param instance the variable holding the entity
+     * @return the expression reading this property from the entity
+     */
+    String read(String instance) {
+        return !isPrivate
+                ? format("%s.%s", instance, name)
+                : format("%s.getAccessor().get(%s)", field(), instance);
+    }
+
+    /**
+     * @param typeName the entity type
+     * @param elements the utilities used to quote the names
+     * @return the statements creating and adding this property to the model
+     */
+    String model(String typeName, Elements elements) {
+        StringJoiner joiner = new StringJoiner(", ");
+        annotations.forEach(joiner::add);
+        String quoted = elements.getConstantExpression(name);
+
+        return format("""
+                        {
+                            TypeData<?> typeData = %s;
+                            PropertyModel property = new PropertyModel(model);
+                            model.addProperty(property
+                                    .name(%s)
+                                    .typeData(typeData)
+                                    .annotations(List.<java.lang.annotation.Annotation>of(%s))
+                                    .isFinal(%s)
+                                    .accessor(%s)
+                                    .mappedName(%s));
+                        }
+                """, typeData, quoted, joiner, isFinal, accessor(typeName, quoted),
+                mappedName != null ? elements.getConstantExpression(mappedName)
+                        : format("config.propertyNaming().apply(%s)", quoted));
+    }
+
+    private String accessor(String typeName, String quoted) {
+        String accessor = !isPrivate && !isFinal ? directAccessor(typeName) : format("GeneratedAccessor.of(field(%s))", quoted);
+        return convertArray ? format("new ArrayFieldAccessor(typeData, field(%s), %s)", quoted, accessor) : accessor;
+    }
+
+    private String directAccessor(String typeName) {
+        return format("""
+                new PropertyAccessor<Object>() {
+                                        @Override
+                                        public <S> Object get(S instance) {
+                                            return instance != null ? ((%1$s) instance).%2$s : null;
+                                        }
+
+                                        @Override
+                                        public <S> void set(S instance, Object value) {
+                                            ((%1$s) instance).%2$s = %3$s;
+                                        }
+                                    }""", typeName, name, assignment());
+    }
+
+    private String assignment() {
+        switch (kind) {
+            case BOOLEAN:
+                return "(Boolean) value";
+            case CHAR:
+                return "(Character) value";
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                return format("((Number) value).%sValue()", kind.name().toLowerCase());
+            default:
+                return format("(%s) value", rawType);
+        }
+    }
+}
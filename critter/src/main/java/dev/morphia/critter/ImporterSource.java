@@ -0,0 +1,114 @@
+package dev.morphia.critter;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import static java.lang.String.format;
+
+/**
+ * Emits the {@code EntityModelImporter} registering the generated models and codecs.
+ */
+class ImporterSource {
+    private final String packageName;
+    private final String simpleName;
+    private final List<CritterEntity> entities;
+
+    ImporterSource(String packageName, String simpleName, List<CritterEntity> entities) {
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.entities = entities;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner models = new StringJoiner(",\n                ");
+        StringBuilder codecs = new StringBuilder();
+        for (CritterEntity entity : entities) {
+            String prefix = entity.packageName() + ".";
+            models.add(format("%s%s.build(mapper)", prefix, entity.modelName()));
+            codecs.append(format("""
+                                if (type.equals(%1$s%2$s.TYPE)) {
+                                    return new %1$s%2$s(datastore(), registry, propertyCodecProviders());
+                                }
+                    """, prefix, entity.codecName()));
+        }
+
+        return format("""
+                package %1$s;
+
+                import java.util.List;
+                import java.util.ServiceLoader;
+
+                import javax.annotation.processing.Generated;
+
+                import com.mongodb.lang.Nullable;
+
+                import dev.morphia.MorphiaDatastore;
+                import dev.morphia.mapping.EntityModelImporter;
+                import dev.morphia.mapping.Mapper;
+                import dev.morphia.mapping.PropertyDiscovery;
+                import dev.morphia.mapping.codec.MorphiaCodecProvider;
+                import dev.morphia.mapping.codec.pojo.EntityModel;
+                import dev.morphia.mapping.conventions.MorphiaConvention;
+
+                import org.bson.codecs.Codec;
+                import org.bson.codecs.configuration.CodecRegistry;
+
+                /**
+                 * Imports the models and codecs generated by critter. If the configuration changes how properties are discovered or
+                 * additional conventions are registered, nothing is imported and the runtime mapping is used instead.
+                 */
+                @Generated("dev.morphia.critter.CritterProcessor")
+                public class %2$s implements EntityModelImporter {
+                    @Override
+                    public MorphiaCodecProvider getCodecProvider(MorphiaDatastore datastore) {
+                        return new CritterCodecProvider(datastore, supported(datastore.getMapper()));
+                    }
+
+                    @Override
+                    public List<EntityModel> getModels(Mapper mapper) {
+                        if (!supported(mapper)) {
+                            return List.of();
+                        }
+                        return List.of(%3$s);
+                    }
+
+                    private static boolean supported(Mapper mapper) {
+                        return mapper.getConfig().propertyDiscovery() == PropertyDiscovery.FIELDS
+                                && !ServiceLoader.load(MorphiaConvention.class).iterator().hasNext();
+                    }
+
+                    private static class CritterCodecProvider extends MorphiaCodecProvider {
+                        private final boolean enabled;
+
+                        CritterCodecProvider(MorphiaDatastore datastore, boolean enabled) {
+                            super(datastore);
+                            this.enabled = enabled;
+                        }
+
+                        @Nullable
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public <T> Codec<T> get(Class<T> type, CodecRegistry registry) {
+                            if (!enabled || getMapper().hasListeners()) {
+                                return null;
+                            }
+                            Codec<?> codec = codecs().get(type);
+                            if (codec == null) {
+                                codec = create(type, registry);
+                                if (codec != null) {
+                                    codecs().put(type, codec);
+                                }
+                            }
+                            return (Codec<T>) codec;
+                        }
+
+                        @Nullable
+                        private Codec<?> create(Class<?> type, CodecRegistry registry) {
+                %4$s                return null;
+                        }
+                    }
+                }
+                """, packageName, simpleName, models, codecs);
+    }
+}
@@ -0,0 +1,182 @@
+package dev.morphia.critter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.tools.JavaFileObject;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compilation.Status;
+import com.google.testing.compile.JavaFileObjects;
+import com.mongodb.MongoClientSettings;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.config.ManualMorphiaConfig;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import static com.google.testing.compile.Compiler.javac;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestCritterProcessor {
+    private static final JavaFileObject BOOK = JavaFileObjects.forSourceString("dev.morphia.critter.sample.Book", """
+            package dev.morphia.critter.sample;
+
+            import java.util.List;
+
+            import dev.morphia.annotations.Entity;
+            import dev.morphia.annotations.Id;
+            import dev.morphia.annotations.Property;
+
+            import org.bson.types.ObjectId;
+
+            @Entity("books")
+            public class Book {
+                @Id
+                private ObjectId id;
+                private String title;
+                @Property("page_count")
+                int pages;
+                @Property("say \\"hi\\" \\\\o/")
+                String greeting;
+                List<String> tags;
+            }
+            """);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRoundTrip() throws Exception {
+        Compilation compilation = compile(BOOK);
+        assertTrue(compilation.generatedSourceFile("dev.morphia.critter.sample.BookCritterModel").isPresent());
+        assertTrue(compilation.generatedSourceFile("dev.morphia.critter.sample.BookCritterCodec").isPresent());
+        assertTrue(compilation.generatedSourceFile("dev.morphia.critter.sample.CritterEntityModelImporter").isPresent());
+
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader loader = load(compilation)) {
+            Thread.currentThread().setContextClassLoader(loader);
+            MorphiaDatastore datastore = new MorphiaDatastore(MongoClientSettings.getDefaultCodecRegistry(),
+                    ManualMorphiaConfig.configure());
+            Class<?> type = loader.loadClass("dev.morphia.critter.sample.Book");
+
+            EntityModel model = datastore.getMapper().getEntityModel(type);
+            assertEquals(model.collectionName(), "books");
+            assertEquals(model.getProperty("pages").getMappedName(), "page_count");
+            assertEquals(model.getProperty("greeting").getMappedName(), "say \"hi\" \\o/");
+
+            Codec<Object> codec = (Codec<Object>) datastore.getCodecRegistry().get(type);
+            assertEquals(codec.getClass().getName(), "dev.morphia.critter.sample.BookCritterCodec");
+
+            Object book = type.getDeclaredConstructor().newInstance();
+            ObjectId id = new ObjectId();
+            set(book, "id", id);
+            set(book, "title", "Critter");
+            set(book, "pages", 42);
+            set(book, "greeting", "hello");
+            set(book, "tags", List.of("a", "b"));
+
+            BsonDocument document = new BsonDocument();
+            codec.encode(new BsonDocumentWriter(document), book, EncoderContext.builder().build());
+            assertEquals(document.getObjectId("_id").getValue(), id);
+            assertEquals(document.get("title"), new BsonString("Critter"));
+            assertEquals(document.get("page_count"), new BsonInt32(42));
+            assertEquals(document.get("say \"hi\" \\o/"), new BsonString("hello"));
+
+            Object decoded = codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+            for (String name : List.of("id", "title", "pages", "greeting", "tags")) {
+                assertEquals(get(decoded, name), get(book, name), name);
+            }
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void testUnsupported() {
+        Compilation compilation = compile(JavaFileObjects.forSourceString("dev.morphia.critter.sample.Listened", """
+                package dev.morphia.critter.sample;
+
+                import dev.morphia.annotations.Entity;
+                import dev.morphia.annotations.Id;
+                import dev.morphia.annotations.PrePersist;
+
+                import org.bson.types.ObjectId;
+
+                @Entity
+                public class Listened {
+                    @Id
+                    private ObjectId id;
+
+                    @PrePersist
+                    void prePersist() {
+                    }
+                }
+                """));
+
+        assertTrue(compilation.notes().stream()
+                .anyMatch(note -> note.getMessage(null).contains("lifecycle methods")), compilation.notes().toString());
+        assertTrue(compilation.generatedSourceFiles().isEmpty(), compilation.generatedSourceFiles().toString());
+    }
+
+    private static Compilation compile(JavaFileObject... sources) {
+        Compilation compilation = javac()
+                .withProcessors(new CritterProcessor())
+                .compile(sources);
+        assertEquals(compilation.status(), Status.SUCCESS, compilation.diagnostics().toString());
+        return compilation;
+    }
+
+    /**
+     * Writes the classes and resources produced by the compilation out so they can be found by a class loader and the
+     * {@code ServiceLoader}.
+     */
+    private static URLClassLoader load(Compilation compilation) throws IOException {
+        Path output = Files.createTempDirectory("critter");
+        String prefix = "/CLASS_OUTPUT/";
+        for (JavaFileObject file : compilation.generatedFiles()) {
+            String path = file.toUri().getPath();
+            if (path.startsWith(prefix)) {
+                Path target = output.resolve(path.substring(prefix.length()).replaceFirst("^/+", ""));
+                Files.createDirectories(target.getParent());
+                try (InputStream input = file.openInputStream()) {
+                    Files.copy(input, target);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        return new URLClassLoader(new URL[] { output.toUri().toURL() }, TestCritterProcessor.class.getClassLoader());
+    }
+
+    private static void set(Object instance, String name, Object value) throws ReflectiveOperationException {
+        Field field = instance.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(instance, value);
+    }
+
+    private static Object get(Object instance, String name) throws ReflectiveOperationException {
+        Field field = instance.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        Object value = field.get(instance);
+        assertNotNull(value, name);
+        return value;
+    }
+}